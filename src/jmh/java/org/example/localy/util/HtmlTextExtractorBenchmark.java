@@ -0,0 +1,80 @@
+package org.example.localy.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * VisitSeoul 상세 설명(post_desc) 정제 비교: 기존 replaceAll 4단 체인 vs HtmlTextExtractor.
+ * 실제 응답처럼 인라인 style 블록, 이미지/링크 태그, 엔티티가 섞인 본문을 크기별로 만들어 측정한다.
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HtmlTextExtractorBenchmark {
+
+    // 상세 설명 한 단락 — VisitSeoul 응답에서 자주 보이는 구조 (style 블록, span 스타일, 이미지, 엔티티)
+    private static final String SECTION =
+            "<style type=\"text/css\">.txt_box{margin:0 auto;padding:10px;line-height:1.8;}"
+                    + ".txt_box p{font-size:15px;color:#333;}</style>\n"
+                    + "<div class=\"txt_box\"><p><span style=\"font-family:'Nanum Gothic';font-size:15px;\">"
+                    + "서울 종로구에 위치한 이곳은 조선 시대의 정취를 느낄 수 있는 대표적인 관광지입니다.&nbsp;"
+                    + "사계절 내내 다양한 행사가 열리며, 특히 봄에는 벚꽃이 만개해 많은 방문객이 찾습니다.</span></p>\n"
+                    + "<p><img src=\"https://korean.visitseoul.net/comm/getImage?srvcId=MEDIA&amp;parentSn=12345\" "
+                    + "alt=\"전경 &quot;사진&quot;\" width=\"700\" /></p>\n"
+                    + "<p>운영 시간 &middot; 09:00~18:00 (입장 마감 17:00)<br />휴무일 &middot; 매주 월요일</p>\n"
+                    + "<script type=\"text/javascript\">var sn = '12345'; if (sn < 0) { console.log('x'); }</script>\n"
+                    + "<p>Tip&#41; 주변 카페 &amp; 식당 정보는 &lt;주변 정보&gt;를 참고하세요.</p></div>\n";
+
+    // small: 목록 요약 수준, typical: 일반 상세 설명, large: 갤러리/코스가 긴 상세 설명
+    @Param({"2", "16", "256"})
+    private int sizeKb;
+
+    private String payload;
+
+    // 엔티티가 아닌 '&'가 많은 본문 (엔티티 끝 ';' 탐색 범위 확인용)
+    private String ampersandPayload;
+
+    @Setup
+    public void setUp() {
+        StringBuilder html = new StringBuilder(sizeKb * 1024 + SECTION.length());
+        while (html.length() < sizeKb * 1024) {
+            html.append(SECTION);
+        }
+        payload = html.toString();
+        ampersandPayload = "R&D ".repeat(sizeKb * 256);
+    }
+
+    @Benchmark
+    public String regexChain() {
+        return payload
+                .replaceAll("(?is)<style[^>]*>.*?</style>", " ")
+                .replaceAll("(?is)<script[^>]*>.*?</script>", " ")
+                .replaceAll("<[^>]*>", " ")
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    @Benchmark
+    public String singlePass() {
+        return HtmlTextExtractor.extract(payload);
+    }
+
+    @Benchmark
+    public String singlePassShortDescription() {
+        return HtmlTextExtractor.extract(payload, HtmlTextExtractor.SHORT_DESCRIPTION_MAX_LENGTH);
+    }
+
+    @Benchmark
+    public String singlePassAmpersands() {
+        return HtmlTextExtractor.extract(ampersandPayload);
+    }
+}
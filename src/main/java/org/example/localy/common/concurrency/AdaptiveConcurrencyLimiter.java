@@ -0,0 +1,180 @@
+package org.example.localy.common.concurrency;
+
+import lombok.Getter;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * 외부 API 호스트 하나에 대한 AIMD 방식 동시성 제한기.
+ * - 응답 지연이 기준치 안에서 성공하면 limit을 조금씩 올리고 (한 limit만큼 성공할 때마다 +1)
+ * - 5xx/타임아웃처럼 과부하 신호가 오면 limit을 곱셈으로 줄이고
+ * - 지연이 기준치의 몇 배 이상으로 늘어나면 오류가 나기 전에 미리 조금 줄인다.
+ * 줄이는 것은 한 RTT 구간에 한 번만 한다. 마지막으로 줄인 뒤에 시작한 호출의 신호만 반영해,
+ * 같은 혼잡 때문에 동시에 실패한 호출 N개가 limit을 N번 줄이지 않도록 한다.
+ * 고정 스레드 수 대신 상대 서버가 감당하는 만큼만 병렬로 호출하기 위함.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    // 지연이 기준 지연의 이 배수를 넘으면 혼잡으로 본다
+    private static final double LATENCY_TOLERANCE = 2.0;
+    private static final double BACKOFF_RATIO = 0.7;
+    private static final double LATENCY_BACKOFF_RATIO = 0.9;
+    // 기준 지연(EWMA) 갱신 비율 — 작을수록 천천히 따라간다
+    private static final double BASELINE_SMOOTHING = 0.05;
+
+    @Getter
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final Duration acquireTimeout;
+    private final Predicate<Throwable> overloadSignal;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    private double limit;
+    private int inFlight;
+    private double baselineLatencyNanos = -1;
+    private long lastDecreaseNanos = System.nanoTime();
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                      Duration acquireTimeout, Predicate<Throwable> overloadSignal) {
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+        this.acquireTimeout = acquireTimeout;
+        this.overloadSignal = overloadSignal;
+    }
+
+    /**
+     * 구독할 때마다 허가를 하나 받아 source를 실행한다. retryWhen 앞에 두면 재시도 한 번 한 번이 각각 허가를 받는다.
+     * acquireTimeout 안에 허가를 못 받으면 ConcurrencyLimitExceededException으로 실패한다.
+     */
+    public <T> Mono<T> limit(Mono<T> source) {
+        return limit(source, acquireTimeout);
+    }
+
+    /**
+     * maxWait까지만 허가를 기다린다. 사용자 요청 스레드처럼 오래 기다리면 안 되는 호출에서 쓴다.
+     * 허가를 기다리는 동안 스레드를 막으므로 boundedElastic에서 구독한다.
+     * (retryWhen의 재구독은 parallel 스케줄러에서 일어나는데, 그 스레드를 막지 않도록)
+     */
+    public <T> Mono<T> limit(Mono<T> source, Duration maxWait) {
+        return Mono.defer(() -> {
+            if (!acquire(maxWait)) {
+                return Mono.<T>error(new ConcurrencyLimitExceededException(name));
+            }
+            long startedAt = System.nanoTime();
+            return source
+                    .doOnSuccess(value -> onSuccess(startedAt, System.nanoTime() - startedAt))
+                    .doOnError(e -> onError(startedAt, e))
+                    .doFinally(signal -> release());
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    public double getLimit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    private boolean acquire(Duration maxWait) {
+        long remainingNanos = maxWait.toNanos();
+        lock.lock();
+        try {
+            while (inFlight >= (int) limit) {
+                if (remainingNanos <= 0) {
+                    rejectedCount.incrementAndGet();
+                    return false;
+                }
+                remainingNanos = permitReleased.awaitNanos(remainingNanos);
+            }
+            inFlight++;
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejectedCount.incrementAndGet();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release() {
+        lock.lock();
+        try {
+            inFlight--;
+            permitReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onSuccess(long startedAt, long latencyNanos) {
+        lock.lock();
+        try {
+            if (baselineLatencyNanos < 0) {
+                baselineLatencyNanos = latencyNanos;
+            }
+
+            if (latencyNanos > baselineLatencyNanos * LATENCY_TOLERANCE) {
+                // 지연이 급격히 늘었으면 기준치를 갱신하지 않고 조금 물러선다 (혼잡한 지연을 정상으로 학습하지 않도록)
+                decrease(startedAt, LATENCY_BACKOFF_RATIO);
+                return;
+            }
+
+            baselineLatencyNanos += (latencyNanos - baselineLatencyNanos) * BASELINE_SMOOTHING;
+            // 실제로 limit 가까이 쓰고 있을 때만 늘린다 (한가할 때 limit만 끝없이 커지지 않도록)
+            if (inFlight * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onError(long startedAt, Throwable e) {
+        if (!overloadSignal.test(e)) {
+            return;
+        }
+        lock.lock();
+        try {
+            decrease(startedAt, BACKOFF_RATIO);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // lock을 잡은 상태에서 호출한다. 마지막으로 줄이기 전에 시작한 호출은 이미 반영된 혼잡 구간에 속하므로 무시한다.
+    private void decrease(long startedAt, double ratio) {
+        if (startedAt - lastDecreaseNanos < 0) {
+            return;
+        }
+        limit = Math.max(minLimit, limit * ratio);
+        lastDecreaseNanos = System.nanoTime();
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.localy.common.concurrency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 여러 인스턴스에서 같은 스케줄 작업이 한 번만 실행되도록 Redis 잠금을 잡고 실행한다.
+ * 잠금을 얻지 못한 인스턴스는 메서드를 실행하지 않고 그냥 넘어간다. (ClusterLockAspect)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ClusterLock {
+
+    // 잠금 이름 (작업마다 고유하게)
+    String name();
+
+    // 임대 시간. 실행 중에는 1/3마다 연장하므로, 인스턴스가 죽었을 때 다른 인스턴스가 이어받기까지의 시간이다.
+    long leaseSeconds() default 60;
+
+    // 작업이 빨리 끝나도 최소한 이만큼은 잠금을 유지한다.
+    // 인스턴스 간 시계 차이로 크론이 몇 초 늦게 울린 인스턴스가 같은 작업을 다시 실행하지 않게 한다.
+    long holdAtLeastSeconds() default 60;
+}
@@ -0,0 +1,97 @@
+package org.example.localy.common.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @ClusterLock 메서드를 잠금을 얻은 인스턴스에서만 실행한다.
+ * 실행 중에는 임대를 주기적으로 연장하고, 잠금 획득 결과(acquired/skipped/lost)와 실행 시간을 작업별로 기록한다.
+ * @Transactional보다 바깥에서 잠그도록 가장 먼저 적용한다 (커밋이 끝난 뒤에 잠금이 풀린다).
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterLockAspect {
+
+    private final RedisJobLock redisJobLock;
+    private final MeterRegistry meterRegistry;
+
+    @Around("@annotation(clusterLock)")
+    public Object runLocked(ProceedingJoinPoint joinPoint, ClusterLock clusterLock) throws Throwable {
+        String name = clusterLock.name();
+        Duration lease = Duration.ofSeconds(clusterLock.leaseSeconds());
+
+        Optional<RedisJobLock.Lease> acquired;
+        try {
+            acquired = redisJobLock.tryAcquire(name, lease);
+        } catch (Exception e) {
+            // Redis에 접근할 수 없으면 중복 실행보다 건너뛰는 편이 안전하다
+            log.warn("작업 잠금 획득 실패, 이번 실행 건너뜀: name={}, error={}", name, e.getMessage());
+            countLock(name, "error");
+            return null;
+        }
+        if (acquired.isEmpty()) {
+            log.debug("다른 인스턴스가 실행 중이거나 이미 실행한 작업: name={}", name);
+            countLock(name, "skipped");
+            return null;
+        }
+
+        RedisJobLock.Lease held = acquired.get();
+        countLock(name, "acquired");
+        ScheduledFuture<?> renewal = redisJobLock.keepAlive(held, lease);
+
+        long startedAt = System.nanoTime();
+        String outcome = "success";
+        RedisJobLock.Lease outer = RedisJobLock.bind(held);
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable t) {
+            outcome = t instanceof LockLostException ? "lost" : "failure";
+            throw t;
+        } finally {
+            RedisJobLock.restore(outer);
+            renewal.cancel(false);
+            long elapsedNanos = System.nanoTime() - startedAt;
+
+            if (held.isLost()) {
+                countLock(name, "lost");
+            } else {
+                Duration remainingHold = Duration.ofSeconds(clusterLock.holdAtLeastSeconds())
+                        .minusNanos(elapsedNanos);
+                redisJobLock.release(held, remainingHold.isNegative() ? Duration.ZERO : remainingHold);
+            }
+
+            Timer.builder("localy.job.duration")
+                    .tag("job", name)
+                    .tag("outcome", outcome)
+                    .description("분산 잠금을 잡고 실행한 스케줄 작업의 실행 시간")
+                    .register(meterRegistry)
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void countLock(String name, String result) {
+        Counter.builder("localy.job.lock")
+                .tag("job", name)
+                .tag("result", result)
+                .description("스케줄 작업 분산 잠금 획득 결과")
+                .register(meterRegistry)
+                .increment();
+    }
+}
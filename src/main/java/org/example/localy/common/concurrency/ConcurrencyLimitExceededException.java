@@ -0,0 +1,9 @@
+package org.example.localy.common.concurrency;
+
+// 동시성 제한기에서 대기 시간 안에 허가를 받지 못한 경우
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    public ConcurrencyLimitExceededException(String name) {
+        super("외부 API 동시 호출 한도 대기 시간 초과: " + name);
+    }
+}
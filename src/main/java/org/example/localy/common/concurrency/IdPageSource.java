@@ -0,0 +1,56 @@
+package org.example.localy.common.concurrency;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * ID 구간 (afterId, upToId]에 속한 ID를 오름차순으로 최대 limit개 돌려준다. (ShardedJobExecutor)
+ * 샤드는 연속된 ID 구간이라, DB 조회는 기본 키 범위 스캔 한 번으로 끝난다.
+ */
+public interface IdPageSource {
+
+    List<Long> nextPage(long afterId, long upToId, int limit);
+
+    // 샤드 구간을 나눌 기준이 되는 현재 최대 ID (대상이 없으면 0)
+    long maxId();
+
+    // 대상 ID를 미리 한 번에 조회해 둔 작업용 (예: 오늘 대화한 사용자)
+    static IdPageSource of(Collection<Long> ids) {
+        List<Long> sorted = ids.stream().distinct().sorted().toList();
+        return new IdPageSource() {
+            @Override
+            public List<Long> nextPage(long afterId, long upToId, int limit) {
+                return sorted.stream()
+                        .filter(id -> id > afterId && id <= upToId)
+                        .limit(limit)
+                        .toList();
+            }
+
+            @Override
+            public long maxId() {
+                return sorted.isEmpty() ? 0L : sorted.get(sorted.size() - 1);
+            }
+        };
+    }
+
+    // DB의 ID 범위 조회와 최대 ID 조회로 만든다
+    static IdPageSource of(RangeQuery rangeQuery, LongSupplier maxId) {
+        return new IdPageSource() {
+            @Override
+            public List<Long> nextPage(long afterId, long upToId, int limit) {
+                return rangeQuery.find(afterId, upToId, limit);
+            }
+
+            @Override
+            public long maxId() {
+                return maxId.getAsLong();
+            }
+        };
+    }
+
+    @FunctionalInterface
+    interface RangeQuery {
+        List<Long> find(long afterId, long upToId, int limit);
+    }
+}
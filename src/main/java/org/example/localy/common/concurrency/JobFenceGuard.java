@@ -0,0 +1,53 @@
+package org.example.localy.common.concurrency;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.localy.repository.JobFenceRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 잠금 작업의 DB 쓰기를 펜싱 토큰으로 막는다.
+ * 보호할 쓰기와 같은 트랜잭션에서 먼저 호출하면 job_fence 행 잠금을 잡고 토큰을 기록한다. 이미 더 큰 토큰이 기록돼 있으면
+ * (임대가 끝난 사이 다른 인스턴스가 잠금을 이어받아 먼저 썼으면) LockLostException을 던져 트랜잭션을 롤백시킨다.
+ * 행 잠금은 커밋까지 유지되므로, 확인과 쓰기 사이에 더 새 토큰의 쓰기가 끼어들 수 없다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobFenceGuard {
+
+    private final JobFenceRepository jobFenceRepository;
+
+    /**
+     * 현재 스레드의 잠금 작업 토큰으로 쓰기를 보호한다. 잠금 밖에서 호출하면 아무것도 하지 않는다 (RedisJobLock.checkHeld와 같이).
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void advance() {
+        RedisJobLock.Lease lease = RedisJobLock.current();
+        if (lease != null) {
+            advance(lease);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void advance(RedisJobLock.Lease lease) {
+        Optional<Long> written = jobFenceRepository.findFenceForUpdate(lease.name());
+        if (written.isEmpty()) {
+            // 처음 쓰는 잠금 이름. 동시에 처음 쓰는 인스턴스가 있으면 키 중복으로 실패해 롤백되고 다음 주기에 다시 시도한다.
+            jobFenceRepository.insertFence(lease.name(), lease.fence());
+            return;
+        }
+        if (written.get() > lease.fence()) {
+            log.warn("더 새 잠금 작업이 이미 썼으므로 쓰기를 거절: name={}, fence={}, written={}",
+                    lease.name(), lease.fence(), written.get());
+            throw new LockLostException(lease.name());
+        }
+        if (written.get() < lease.fence()) {
+            jobFenceRepository.updateFence(lease.name(), lease.fence());
+        }
+    }
+}
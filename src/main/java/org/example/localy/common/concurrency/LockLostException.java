@@ -0,0 +1,13 @@
+package org.example.localy.common.concurrency;
+
+// 작업 도중 분산 잠금 임대가 끝나 다른 인스턴스가 같은 작업을 이어받았을 수 있는 경우
+public class LockLostException extends RuntimeException {
+
+    public LockLostException(String name) {
+        super("작업 잠금을 잃어 중단: name=" + name);
+    }
+
+    public LockLostException(String name, Throwable cause) {
+        super("작업 잠금을 확인할 수 없어 중단: name=" + name, cause);
+    }
+}
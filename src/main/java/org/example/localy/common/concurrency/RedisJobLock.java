@@ -0,0 +1,221 @@
+package org.example.localy.common.concurrency;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 작업 단위 분산 잠금. 스케줄 작업(@ClusterLock), 샤드 임대, 북마크 수 반영이 모두 이 잠금 하나를 쓴다.
+ * 잠금 값에 (인스턴스, 획득마다 새로 만든 ID)를 넣어 연장/반납은 이번에 잠금을 얻은 소유자만 할 수 있게 한다.
+ * <p>
+ * 획득할 때마다 잠금 이름별로 단조 증가하는 펜싱 토큰을 발급한다. 임대가 끝난 뒤에도 작업이 계속 도는 경우(GC 멈춤 등)
+ * checkHeld는 쓰기 직전에 빨리 포기하게 해 줄 뿐 확인과 쓰기 사이의 틈은 막지 못하므로, 같은 쓰기가 두 번 일어나면 안 되는
+ * DB 쓰기는 JobFenceGuard로 같은 트랜잭션 안에서 토큰을 기록해, 더 새 토큰이 이미 쓴 뒤라면 롤백한다.
+ * Redis 쓰기는 잠금 값 비교와 함께 Lua 스크립트 안에서 한다 (ShardedJobExecutor 체크포인트).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RedisJobLock {
+
+    private static final String KEY_PREFIX = "localy:lock:";
+    // 잠금 이름별 마지막 펜싱 토큰. 잠금과 달리 TTL 없이 남긴다.
+    private static final String FENCE_KEY_PREFIX = "localy:lock:fence:";
+
+    /*
+     * 잠금을 얻으면 펜싱 토큰을 올려 돌려주고, 얻지 못하면 0.
+     * 토큰은 현재 시각(ms)보다 작아지지 않게 해, Redis가 비워져 카운터가 사라져도 이전 토큰보다 커지게 한다.
+     * KEYS[1]=잠금, KEYS[2]=펜싱 토큰 / ARGV[1]=잠금 값, ARGV[2]=TTL(ms), ARGV[3]=현재 시각(ms)
+     */
+    private static final DefaultRedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "if not redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then return 0 end " +
+            "local fence = redis.call('INCR', KEYS[2]) " +
+            "if fence < tonumber(ARGV[3]) then redis.call('SET', KEYS[2], ARGV[3]) fence = tonumber(ARGV[3]) end " +
+            "return fence",
+            Long.class);
+
+    // 내가 가진 잠금일 때만 TTL을 바꾼다 (연장, 또는 최소 유지 시간만 남기고 반납)
+    private static final DefaultRedisScript<Long> EXPIRE_IF_OWNER_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end return 0",
+            Long.class);
+
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    // 현재 스레드에서 실행 중인 잠금 작업
+    private static final ThreadLocal<Lease> CURRENT = new ThreadLocal<>();
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 실행 중인 잠금 작업의 임대를 연장하는 스레드. 작업 스레드가 오래 걸리는 일(GPT 호출, 큰 페이지)을 하는 동안에도 임대가 끝나지 않게 한다.
+    private ScheduledExecutorService renewer;
+
+    @PostConstruct
+    void start() {
+        renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-lock-renewer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        renewer.shutdownNow();
+    }
+
+    public Optional<Lease> tryAcquire(String name, Duration ttl) {
+        String key = KEY_PREFIX + name;
+        String value = instanceId + ":" + UUID.randomUUID();
+        Long fence = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(key, FENCE_KEY_PREFIX + name),
+                value, String.valueOf(ttl.toMillis()), String.valueOf(System.currentTimeMillis()));
+        if (fence == null || fence == 0L) {
+            return Optional.empty();
+        }
+        return Optional.of(new Lease(name, key, value, fence));
+    }
+
+    public boolean renew(Lease lease, Duration ttl) {
+        try {
+            Long result = redisTemplate.execute(EXPIRE_IF_OWNER_SCRIPT, List.of(lease.key),
+                    lease.value, String.valueOf(ttl.toMillis()));
+            if (result == null || result == 0L) {
+                lease.lost = true;
+            }
+        } catch (Exception e) {
+            // 일시적인 Redis 오류면 다음 연장 때 다시 시도한다 (그사이 TTL이 지나면 그때 잃은 것으로 본다)
+            log.warn("작업 잠금 연장 실패: name={}, error={}", lease.name, e.getMessage());
+        }
+        return !lease.lost;
+    }
+
+    /**
+     * 작업이 끝날 때까지 임대를 ttl의 1/3마다 연장한다. 반납하기 전에 돌려받은 future를 취소한다.
+     * 연장에 실패하면(다른 인스턴스가 이어받았으면) 임대를 잃은 것으로 표시하고, 작업은 checkHeld나 isLost로 알 수 있다.
+     */
+    public ScheduledFuture<?> keepAlive(Lease lease, Duration ttl) {
+        long periodMs = Math.max(ttl.toMillis() / 3, 1000);
+        return renewer.scheduleAtFixedRate(() -> {
+            if (!lease.lost && !renew(lease, ttl)) {
+                log.warn("작업 잠금을 잃음 (다른 인스턴스가 이어받았을 수 있음): name={}", lease.name);
+            }
+        }, periodMs, periodMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 잠금을 반납한다. holdFor가 남아 있으면 지우지 않고 그 시간 뒤에 풀리도록 TTL만 줄인다.
+     */
+    public void release(Lease lease, Duration holdFor) {
+        try {
+            if (holdFor.toMillis() > 0) {
+                redisTemplate.execute(EXPIRE_IF_OWNER_SCRIPT, List.of(lease.key),
+                        lease.value, String.valueOf(holdFor.toMillis()));
+            } else {
+                redisTemplate.execute(RELEASE_SCRIPT, List.of(lease.key), lease.value);
+            }
+        } catch (Exception e) {
+            log.warn("작업 잠금 반납 실패 (TTL이 지나면 풀림): name={}, error={}", lease.name, e.getMessage());
+        }
+    }
+
+    // 잠금 작업 안에서 다른 잠금 작업을 호출할 수 있으므로, 바깥 작업의 임대를 돌려주어 끝나면 되돌린다
+    static Lease bind(Lease lease) {
+        Lease previous = CURRENT.get();
+        CURRENT.set(lease);
+        return previous;
+    }
+
+    // 현재 스레드에서 실행 중인 잠금 작업의 임대. 잠금 밖이면 null.
+    static Lease current() {
+        return CURRENT.get();
+    }
+
+    static void restore(Lease previous) {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * 잠금 작업 안에서 DB 쓰기 직전에 호출한다. Redis의 잠금 값이 아직 내 것인지 확인하고,
+     * 잃었으면(다른 인스턴스가 이어받았을 수 있으면) 쓰기 전에 작업을 중단시킨다. 잠금 밖에서 호출하면 아무것도 하지 않는다.
+     */
+    public void checkHeld() {
+        Lease lease = CURRENT.get();
+        if (lease != null) {
+            checkHeld(lease);
+        }
+    }
+
+    // Redis에 접근할 수 없으면 잠금을 가지고 있는지 알 수 없으므로 쓰지 않는 쪽을 택한다 (다음 주기에 다시 실행된다)
+    public void checkHeld(Lease lease) {
+        if (!lease.lost) {
+            String owner;
+            try {
+                owner = redisTemplate.opsForValue().get(lease.key);
+            } catch (Exception e) {
+                throw new LockLostException(lease.name, e);
+            }
+            if (!lease.value.equals(owner)) {
+                lease.lost = true;
+            }
+        }
+        if (lease.lost) {
+            throw new LockLostException(lease.name);
+        }
+    }
+
+    public static final class Lease {
+        private final String name;
+        private final String key;
+        private final String value;
+        private final long fence;
+        private volatile boolean lost;
+
+        private Lease(String name, String key, String value, long fence) {
+            this.name = name;
+            this.key = key;
+            this.value = value;
+            this.fence = fence;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        // 이 임대의 펜싱 토큰. 같은 잠금 이름에서 나중에 얻은 임대일수록 크다.
+        public long fence() {
+            return fence;
+        }
+
+        public boolean isLost() {
+            return lost;
+        }
+
+        String key() {
+            return key;
+        }
+
+        String value() {
+            return value;
+        }
+    }
+}
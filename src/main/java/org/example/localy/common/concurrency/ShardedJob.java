@@ -0,0 +1,42 @@
+package org.example.localy.common.concurrency;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.function.LongConsumer;
+
+/**
+ * 여러 인스턴스가 나눠 처리하는 사용자 단위 배치 작업 정의.
+ * 같은 runId로 시작한 인스턴스들은 같은 실행에 합류해, 아직 끝나지 않은 샤드만 나눠 가진다.
+ */
+@Getter
+@Builder
+public class ShardedJob {
+
+    // 작업 이름 (지표 태그, Redis 키에 쓰인다)
+    private final String name;
+
+    // 실행 회차. 크론 주기마다 달라지는 값 (예: 날짜, 날짜+시각)
+    private final String runId;
+
+    private final IdPageSource idSource;
+
+    // ID 하나를 처리한다. 예외는 해당 ID만 실패로 기록하고 다음 ID로 넘어간다.
+    // 임대를 잃은 인스턴스가 처리 중이던 페이지는 이어받은 인스턴스가 다시 처리하므로, 같은 ID를 두 번 처리해도 결과가 같아야 한다
+    private final LongConsumer processor;
+
+    @Builder.Default
+    private final int shardCount = 16;
+
+    @Builder.Default
+    private final int pageSize = 50;
+
+    // 인스턴스 하나에서 동시에 처리할 ID 수
+    @Builder.Default
+    private final int parallelism = 4;
+
+    // 다른 인스턴스가 잡고 있던 샤드가 끝나지 않으면, 임대가 풀려 이어받을 수 있을 때까지 기다리는 최대 시간
+    @Builder.Default
+    private final Duration stragglerWait = Duration.ofSeconds(45);
+}
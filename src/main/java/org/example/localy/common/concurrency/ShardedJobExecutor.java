@@ -0,0 +1,223 @@
+package org.example.localy.common.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 단위 배치 작업을 여러 인스턴스가 나눠 처리한다.
+ * 실행을 처음 시작한 인스턴스가 기록한 최대 ID로 ID 공간을 shardCount개의 연속 구간으로 나누고 (마지막 샤드는 그 뒤에 생긴 ID까지),
+ * 각 인스턴스는 Redis 임대로 샤드를 하나씩 차지해 페이지 단위로 처리한다. 임대는 처리하는 동안 백그라운드에서 연장된다.
+ * 페이지가 끝날 때마다 마지막 ID를 체크포인트로 남기므로, 인스턴스가 죽으면 임대가 풀린 뒤 다른 인스턴스가 그 지점부터 이어간다.
+ * 체크포인트는 임대를 가진 인스턴스만 쓸 수 있다 (임대를 잃은 뒤 늦게 끝난 인스턴스가 진행 상황을 되돌리지 않도록).
+ * 이어받은 인스턴스는 마지막 체크포인트 이후 페이지를 다시 처리하므로, 작업의 processor는 같은 ID를 두 번 처리해도 안전해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ShardedJobExecutor {
+
+    private static final String PROGRESS_KEY_PREFIX = "localy:shard:";
+    private static final String DONE = "done";
+    // 샤드 구간을 나눈 기준 최대 ID. 같은 runId의 인스턴스는 모두 이 값으로 구간을 나눈다.
+    private static final String MAX_ID_FIELD = "maxId";
+    private static final Duration SHARD_LEASE = Duration.ofSeconds(30);
+    // 같은 runId의 진행 상황을 보관하는 기간 (늦게 시작한 인스턴스가 이미 끝난 실행을 반복하지 않도록)
+    private static final Duration PROGRESS_TTL = Duration.ofDays(2);
+    private static final long STRAGGLER_POLL_MS = 5000;
+
+    // 샤드 임대를 가진 경우에만 진행 상황을 기록한다
+    private static final DefaultRedisScript<Long> CHECKPOINT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end " +
+            "redis.call('HSET', KEYS[2], ARGV[2], ARGV[3]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[4]) " +
+            "return 1",
+            Long.class);
+
+    // 아직 기준 최대 ID가 없으면 내 값으로 정하고, 정해진 값을 돌려준다
+    private static final DefaultRedisScript<Long> FIX_RANGE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HSETNX', KEYS[1], ARGV[1], ARGV[2]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "return tonumber(redis.call('HGET', KEYS[1], ARGV[1]))",
+            Long.class);
+
+    private final RedisJobLock redisJobLock;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ExecutorService shardWorkerExecutor;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 이 인스턴스가 차지할 수 있는 샤드를 모두 처리한다. 이 인스턴스가 처리한 ID 수를 돌려준다.
+     * 다른 인스턴스의 샤드가 끝나기를 기다리는 동안 호출 스레드가 멈추므로, 스케줄러 스레드 풀(ExecutorConfig.taskScheduler)에서 호출한다.
+     */
+    public int run(ShardedJob job) {
+        String progressKey = PROGRESS_KEY_PREFIX + job.getName() + ":" + job.getRunId();
+        long startedAt = System.nanoTime();
+        long maxId = fixRange(progressKey, job);
+        long stragglerDeadline = System.currentTimeMillis() + job.getStragglerWait().toMillis();
+        int processed = 0;
+        int claimedShards = 0;
+
+        while (true) {
+            Map<Object, Object> progress = redisTemplate.opsForHash().entries(progressKey);
+            List<Integer> pending = pendingShards(job.getShardCount(), progress);
+            if (pending.isEmpty()) {
+                break;
+            }
+
+            boolean claimedAny = false;
+            for (int shard : pending) {
+                Optional<RedisJobLock.Lease> lease = redisJobLock.tryAcquire(shardLockName(job, shard), SHARD_LEASE);
+                if (lease.isEmpty()) {
+                    continue; // 다른 인스턴스가 처리 중
+                }
+                claimedAny = true;
+                claimedShards++;
+                ScheduledFuture<?> renewal = redisJobLock.keepAlive(lease.get(), SHARD_LEASE);
+                try {
+                    processed += processShard(job, shard, maxId, progressKey, lease.get());
+                } finally {
+                    renewal.cancel(false);
+                    redisJobLock.release(lease.get(), Duration.ZERO);
+                }
+            }
+
+            // 남은 샤드는 모두 다른 인스턴스가 잡고 있다. 그 인스턴스가 죽었으면 임대가 풀린 뒤 이어받는다.
+            if (!claimedAny) {
+                if (System.currentTimeMillis() >= stragglerDeadline) {
+                    log.info("[{}] 다른 인스턴스가 처리 중인 샤드 {}개를 남기고 종료", job.getName(), pending.size());
+                    break;
+                }
+                sleep(STRAGGLER_POLL_MS);
+            }
+        }
+
+        Timer.builder("localy.shard.run.duration")
+                .tag("job", job.getName())
+                .description("이 인스턴스가 샤드 작업에 참여한 시간")
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        log.info("[{}] runId={} 샤드 {}개, {}건 처리", job.getName(), job.getRunId(), claimedShards, processed);
+        return processed;
+    }
+
+    private int processShard(ShardedJob job, int shard, long maxId, String progressKey, RedisJobLock.Lease lease) {
+        Object checkpoint = redisTemplate.opsForHash().get(progressKey, String.valueOf(shard));
+        if (DONE.equals(checkpoint)) {
+            return 0; // 목록을 읽은 뒤 다른 인스턴스가 끝냈다
+        }
+        long afterId = checkpoint != null ? Long.parseLong(checkpoint.toString()) : lowerBound(shard, job.getShardCount(), maxId);
+        long upToId = upperBound(shard, job.getShardCount(), maxId);
+
+        Counter succeeded = itemCounter(job, "success");
+        Counter failed = itemCounter(job, "failure");
+        Semaphore permits = new Semaphore(job.getParallelism());
+        int processed = 0;
+
+        while (true) {
+            List<Long> ids = job.getIdSource().nextPage(afterId, upToId, job.getPageSize());
+            if (ids.isEmpty()) {
+                checkpoint(progressKey, lease, shard, DONE);
+                return processed;
+            }
+
+            List<CompletableFuture<Void>> futures = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                permits.acquireUninterruptibly();
+                futures.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        job.getProcessor().accept(id);
+                        succeeded.increment();
+                    } catch (Exception e) {
+                        failed.increment();
+                        log.error("[{}] id={} 처리 실패", job.getName(), id, e);
+                    } finally {
+                        permits.release();
+                    }
+                }, shardWorkerExecutor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+            processed += ids.size();
+            afterId = ids.get(ids.size() - 1);
+
+            // 임대를 잃었으면 체크포인트를 남기지 않고 멈춘다 (이어받은 인스턴스가 마지막 체크포인트부터 다시 처리)
+            if (lease.isLost() || !checkpoint(progressKey, lease, shard, String.valueOf(afterId))) {
+                log.warn("[{}] 샤드 {} 임대를 잃어 중단: afterId={}", job.getName(), shard, afterId);
+                return processed;
+            }
+        }
+    }
+
+    private boolean checkpoint(String progressKey, RedisJobLock.Lease lease, int shard, String value) {
+        Long result = redisTemplate.execute(CHECKPOINT_SCRIPT, List.of(lease.key(), progressKey),
+                lease.value(), String.valueOf(shard), value, String.valueOf(PROGRESS_TTL.toMillis()));
+        return result != null && result == 1L;
+    }
+
+    private long fixRange(String progressKey, ShardedJob job) {
+        Long maxId = redisTemplate.execute(FIX_RANGE_SCRIPT, List.of(progressKey),
+                MAX_ID_FIELD, String.valueOf(job.getIdSource().maxId()), String.valueOf(PROGRESS_TTL.toMillis()));
+        return maxId != null ? maxId : 0L;
+    }
+
+    // 샤드 구간 (lowerBound, upperBound]. 기준 최대 ID를 shardCount개로 고르게 나누고, 마지막 샤드는 이후에 생긴 ID까지 맡는다.
+    static long lowerBound(int shard, int shardCount, long maxId) {
+        return maxId * shard / shardCount;
+    }
+
+    static long upperBound(int shard, int shardCount, long maxId) {
+        return shard == shardCount - 1 ? Long.MAX_VALUE : maxId * (shard + 1) / shardCount;
+    }
+
+    // 끝나지 않은 샤드를 인스턴스마다 다른 순서로 돌려준다 (모두 0번 샤드부터 경합하지 않도록)
+    private static List<Integer> pendingShards(int shardCount, Map<Object, Object> progress) {
+        int offset = ThreadLocalRandom.current().nextInt(shardCount);
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < shardCount; i++) {
+            int shard = (offset + i) % shardCount;
+            if (!DONE.equals(progress.get(String.valueOf(shard)))) {
+                pending.add(shard);
+            }
+        }
+        return pending;
+    }
+
+    private static String shardLockName(ShardedJob job, int shard) {
+        return "shard:" + job.getName() + ":" + job.getRunId() + ":" + shard;
+    }
+
+    private Counter itemCounter(ShardedJob job, String result) {
+        return Counter.builder("localy.shard.items")
+                .tag("job", job.getName())
+                .tag("result", result)
+                .description("샤드 작업에서 처리한 ID 수")
+                .register(meterRegistry);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("샤드 작업 대기 중 인터럽트", e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.localy.common.concurrency;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 외부 API 호스트별 AdaptiveConcurrencyLimiter 보관소.
+ * 같은 호스트를 부르는 모든 호출(상세/목록 API 등)이 하나의 limit을 공유하고,
+ * 호스트별 현재 limit, 진행 중 호출 수, 거절 수를 메트릭으로 노출한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UpstreamConcurrencyLimiters {
+
+    private static final int INITIAL_LIMIT = 4;
+    private static final int MIN_LIMIT = 1;
+    // ExecutorConfig.externalApiExecutor 스레드 수보다 크게 잡을 필요는 없다
+    private static final int MAX_LIMIT = 32;
+    private static final Duration ACQUIRE_TIMEOUT = Duration.ofSeconds(30);
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    public AdaptiveConcurrencyLimiter forHost(String host) {
+        return limiters.computeIfAbsent(host, this::create);
+    }
+
+    private AdaptiveConcurrencyLimiter create(String host) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                host, INITIAL_LIMIT, MIN_LIMIT, MAX_LIMIT, ACQUIRE_TIMEOUT, UpstreamConcurrencyLimiters::isOverload);
+
+        Gauge.builder("localy.upstream.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("host", host)
+                .description("외부 API 호스트별 현재 동시 호출 한도")
+                .register(meterRegistry);
+        Gauge.builder("localy.upstream.concurrency.in_flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .tag("host", host)
+                .description("외부 API 호스트별 진행 중인 호출 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("localy.upstream.concurrency.rejected", limiter, AdaptiveConcurrencyLimiter::getRejectedCount)
+                .tag("host", host)
+                .description("동시 호출 한도 대기 시간을 넘겨 거절된 호출 수")
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    // 5xx, 연결 실패, 타임아웃만 과부하 신호로 본다 (4xx는 요청 문제라 limit과 무관)
+    private static boolean isOverload(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError()
+                    || responseException.getStatusCode().value() == 429;
+        }
+        return e instanceof WebClientRequestException || e instanceof TimeoutException;
+    }
+}
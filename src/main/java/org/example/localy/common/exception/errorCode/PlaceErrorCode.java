@@ -16,6 +16,7 @@ public enum PlaceErrorCode implements BaseErrorCode {
     INVALID_SORT_TYPE(HttpStatus.BAD_REQUEST, "PLACE005", "잘못된 정렬 방식입니다."),
     EMOTION_DATA_NOT_FOUND(HttpStatus.NOT_FOUND, "PLACE006", "감정 데이터를 찾을 수 없습니다."),
     AI_RECOMMENDATION_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "PLACE007", "AI 추천 요청에 실패했습니다."),
+    INVALID_BOOKMARK_CURSOR(HttpStatus.BAD_REQUEST, "PLACE008", "잘못된 북마크 목록 커서입니다."),
     PLACE_SAVE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "PLACE_001", "장소 저장에 실패했습니다");
 
     private final HttpStatus status;
@@ -0,0 +1,12 @@
+package org.example.localy.common.timer;
+
+/**
+ * DelayedTaskScheduler에 예약한 작업이 처리 시각이 됐을 때 실행되는 핸들러.
+ * type별로 하나씩 빈으로 등록한다. 예약은 (type, key) 단위라 같은 key를 다시 예약하면 이전 예약을 대체한다.
+ */
+public interface DelayedTaskHandler {
+
+    String type();
+
+    void handle(String key);
+}
@@ -0,0 +1,258 @@
+package org.example.localy.common.timer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * "시각 T에 X를 실행" 예약을 위한 공용 스케줄러.
+ * 예약은 Redis Sorted Set(localy:timer:due, score = 처리 시각 epoch ms)에만 저장하고, 각 인스턴스는 곧 처리 시각이 되는
+ * 예약(LOOKAHEAD_MS 이내)만 주기적으로 가져와 프로세스 안의 계층형 타이밍 휠에 올려 1초 단위로 시각을 맞춘다.
+ * 그래서 며칠 뒤의 예약(휴면 알림 등)은 어느 인스턴스의 메모리에도 올라가지 않고, 폴링도 score 범위 조회라 예약 수와 무관하다.
+ * <p>
+ * 실행은 처리 시각에 예약의 score를 "지금 + VISIBILITY_TIMEOUT_MS"로 바꾸는 데 성공한 인스턴스 하나만 한다(클레임).
+ * 성공하면 지우고, 실패하면 재시도 시각으로 옮긴다. 실행 중 인스턴스가 죽으면 예약이 지워지지 않은 채
+ * 가시성 제한 시간이 지나 다시 처리 시각이 되므로, 다른 인스턴스가 가져가 실행한다 (최소 한 번 실행).
+ * <p>
+ * 휠에는 LOOKAHEAD_MS(30초) 이내의 예약만 올라가고 가장 아래 휠 한 바퀴는 TICK_MS * WHEEL_SIZE(60초)이므로,
+ * 평소에는 가장 아래 휠만 쓰인다. 상위 휠은 틱 스레드가 30초 넘게 멈춰 휠 시계가 뒤처진 채 폴링한 경우에만 생긴다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DelayedTaskScheduler {
+
+    private static final String DUE_KEY = "localy:timer:due";
+
+    private static final long TICK_MS = 1000;
+    private static final int WHEEL_SIZE = 60;
+    // 이 시간 안에 처리 시각이 되는 예약만 휠에 올린다. 폴링 주기보다 길어야 예약을 놓치지 않고,
+    // 가장 아래 휠 한 바퀴(TICK_MS * WHEEL_SIZE)보다 짧아야 상위 휠 없이 처리된다.
+    private static final long POLL_INTERVAL_MS = 10_000;
+    private static final long LOOKAHEAD_MS = 30_000;
+    private static final int POLL_PAGE_SIZE = 500;
+    // 클레임한 인스턴스가 이 시간 안에 끝내지 못하면(죽는 등) 다른 인스턴스가 다시 실행한다
+    private static final long VISIBILITY_TIMEOUT_MS = 5 * 60 * 1000;
+    // 실행에 실패한 작업은 잠시 뒤 다시 시도한다
+    private static final long RETRY_DELAY_MS = 60_000;
+
+    // score가 내가 본 처리 시각(ARGV[2])과 같을 때만 가시성 제한 시각(ARGV[3])으로 옮긴다. 그사이 취소/재예약됐으면 0.
+    private static final DefaultRedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local score = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+            "if score == false or tonumber(score) ~= tonumber(ARGV[2]) then return 0 end " +
+            "redis.call('ZADD', KEYS[1], ARGV[3], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    // 내가 클레임한 그대로(score == ARGV[2])일 때만 지운다. 실행 중에 다시 예약됐으면 새 예약을 남긴다.
+    private static final DefaultRedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+            "local score = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+            "if score == false or tonumber(score) ~= tonumber(ARGV[2]) then return 0 end " +
+            "return redis.call('ZREM', KEYS[1], ARGV[1])",
+            Long.class);
+
+    // 내가 클레임한 그대로일 때만 재시도 시각(ARGV[3])으로 옮긴다
+    private static final DefaultRedisScript<Long> RETRY_SCRIPT = new DefaultRedisScript<>(
+            "local score = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+            "if score == false or tonumber(score) ~= tonumber(ARGV[2]) then return 0 end " +
+            "redis.call('ZADD', KEYS[1], ARGV[3], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final List<DelayedTaskHandler> handlerBeans;
+    private final ExecutorService delayedTaskExecutor;
+    private final MeterRegistry meterRegistry;
+
+    private final HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK_MS, WHEEL_SIZE, System.currentTimeMillis());
+    private Map<String, DelayedTaskHandler> handlers;
+    private ScheduledExecutorService ticker;
+    private long lastPollAt;
+    private Counter firedCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    void start() {
+        handlers = handlerBeans.stream().collect(Collectors.toMap(DelayedTaskHandler::type, Function.identity()));
+
+        Gauge.builder("localy.timer.scheduled", wheel, HierarchicalTimingWheel::size)
+                .description("타이밍 휠에 올라와 있는(곧 처리 시각이 되는) 예약 작업 수")
+                .register(meterRegistry);
+        firedCounter = Counter.builder("localy.timer.fired")
+                .description("처리 시각이 되어 실행한 예약 작업 수")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("localy.timer.failed")
+                .description("실행 중 실패한 예약 작업 수")
+                .register(meterRegistry);
+
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "delayed-task-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, TICK_MS, TICK_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    /**
+     * (type, key) 작업을 dueAt에 실행하도록 예약한다. 이미 예약돼 있으면 새 시각으로 바꾼다.
+     */
+    public void schedule(String type, String key, Instant dueAt) {
+        String id = taskId(type, key);
+        long dueAtMs = dueAt.toEpochMilli();
+        try {
+            redisTemplate.opsForZSet().add(DUE_KEY, id, dueAtMs);
+        } catch (Exception e) {
+            log.warn("예약 작업 저장 실패: id={}, error={}", id, e.getMessage());
+            return;
+        }
+        if (dueAtMs - System.currentTimeMillis() <= LOOKAHEAD_MS) {
+            wheel.schedule(id, dueAtMs);
+        } else {
+            // 이전에 가까운 시각으로 예약돼 휠에 올라가 있었다면 내린다 (다음 폴링 범위에 들어오면 다시 올라온다)
+            wheel.cancel(id);
+        }
+    }
+
+    /**
+     * 같은 type의 예약 여러 개를 ZADD 한 번으로 건다 (초기 적재용). 휠에는 올리지 않고 폴링에 맡긴다.
+     */
+    public void scheduleAll(String type, Map<String, Instant> dueAtByKey) {
+        if (dueAtByKey.isEmpty()) {
+            return;
+        }
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        dueAtByKey.forEach((key, dueAt) ->
+                tuples.add(new DefaultTypedTuple<>(taskId(type, key), (double) dueAt.toEpochMilli())));
+        redisTemplate.opsForZSet().add(DUE_KEY, tuples);
+    }
+
+    public void cancel(String type, String key) {
+        String id = taskId(type, key);
+        wheel.cancel(id);
+        try {
+            redisTemplate.opsForZSet().remove(DUE_KEY, id);
+        } catch (Exception e) {
+            log.warn("예약 작업 취소 실패: id={}, error={}", id, e.getMessage());
+        }
+    }
+
+    private void tick() {
+        long now = System.currentTimeMillis();
+        try {
+            if (now - lastPollAt >= POLL_INTERVAL_MS) {
+                lastPollAt = now;
+                pollUpcoming(now);
+            }
+
+            for (HierarchicalTimingWheel.Expired expired : wheel.advance(now)) {
+                delayedTaskExecutor.execute(() -> fire(expired));
+            }
+        } catch (Exception e) {
+            // 예외가 나면 scheduleAtFixedRate가 멈추므로 여기서 모두 잡는다
+            log.error("예약 작업 틱 처리 실패", e);
+        }
+    }
+
+    // 곧 처리 시각이 되는 예약(이미 지난 것, 가시성 제한 시간이 지난 클레임 포함)을 휠에 올린다
+    private void pollUpcoming(long now) {
+        long until = now + LOOKAHEAD_MS;
+        long offset = 0;
+        try {
+            while (true) {
+                Set<ZSetOperations.TypedTuple<String>> page = redisTemplate.opsForZSet()
+                        .rangeByScoreWithScores(DUE_KEY, Double.NEGATIVE_INFINITY, until, offset, POLL_PAGE_SIZE);
+                if (page == null || page.isEmpty()) {
+                    return;
+                }
+                for (ZSetOperations.TypedTuple<String> tuple : page) {
+                    if (tuple.getValue() == null || tuple.getScore() == null) {
+                        continue;
+                    }
+                    long dueAtMs = tuple.getScore().longValue();
+                    Long current = wheel.dueAtOf(tuple.getValue());
+                    if (current == null || current != dueAtMs) {
+                        wheel.schedule(tuple.getValue(), dueAtMs);
+                    }
+                }
+                if (page.size() < POLL_PAGE_SIZE) {
+                    return;
+                }
+                offset += page.size();
+            }
+        } catch (Exception e) {
+            log.warn("예약 작업 폴링 실패: {}", e.getMessage());
+        }
+    }
+
+    private void fire(HierarchicalTimingWheel.Expired expired) {
+        String id = expired.id();
+        int separator = id.indexOf(':');
+        DelayedTaskHandler handler = separator > 0 ? handlers.get(id.substring(0, separator)) : null;
+        if (handler == null) {
+            log.warn("처리할 핸들러가 없는 예약 작업: id={}", id);
+            return;
+        }
+
+        long leaseUntil = System.currentTimeMillis() + VISIBILITY_TIMEOUT_MS;
+        Long claimed;
+        try {
+            claimed = redisTemplate.execute(CLAIM_SCRIPT, List.of(DUE_KEY),
+                    id, String.valueOf(expired.dueAtMs()), String.valueOf(leaseUntil));
+        } catch (Exception e) {
+            // 예약은 Redis에 그대로 남아 있으므로 다음 폴링에서 다시 휠에 올라온다
+            log.warn("예약 작업 클레임 실패: id={}, error={}", id, e.getMessage());
+            return;
+        }
+        if (claimed == null || claimed == 0L) {
+            return; // 다른 인스턴스가 가져갔거나, 취소/재예약된 작업
+        }
+
+        try {
+            handler.handle(id.substring(separator + 1));
+            firedCounter.increment();
+            redisTemplate.execute(COMPLETE_SCRIPT, List.of(DUE_KEY), id, String.valueOf(leaseUntil));
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.error("예약 작업 실행 실패, 잠시 뒤 재시도: id={}", id, e);
+            try {
+                redisTemplate.execute(RETRY_SCRIPT, List.of(DUE_KEY),
+                        id, String.valueOf(leaseUntil), String.valueOf(System.currentTimeMillis() + RETRY_DELAY_MS));
+            } catch (Exception retryError) {
+                // 옮기지 못해도 가시성 제한 시간이 지나면 다시 실행된다
+                log.warn("예약 작업 재시도 등록 실패: id={}, error={}", id, retryError.getMessage());
+            }
+        }
+    }
+
+    private static String taskId(String type, String key) {
+        return type + ":" + key;
+    }
+}
@@ -0,0 +1,191 @@
+package org.example.localy.common.timer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계층형 타이밍 휠.
+ * 가장 아래 휠은 tickMs 단위 슬롯 wheelSize개로 가까운 미래를 담고, 범위를 넘는 항목은 슬롯 간격이 아래 휠 한 바퀴인
+ * 상위 휠(필요할 때 생성)에 담는다. 상위 휠의 슬롯 시각이 되면 그 슬롯 항목을 다시 넣어 아래 휠로 내려보낸다.
+ * 슬롯은 이중 연결 리스트라 등록/취소가 O(1)이고, advance는 지나간 슬롯만 비운다.
+ * 동기화는 이 클래스가 맡으며 만료된 항목의 실행은 호출하는 쪽에서 한다.
+ */
+public class HierarchicalTimingWheel {
+
+    private final Level root;
+    private final Map<String, Entry> entries = new HashMap<>();
+    // 등록 시점에 이미 처리 시각이 지난 항목 (다음 advance에서 돌려준다)
+    private final List<Entry> overdue = new ArrayList<>();
+
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+        this.root = new Level(tickMs, wheelSize, startMs);
+    }
+
+    /**
+     * 같은 id가 이미 있으면 기존 예약을 취소하고 새 시각으로 다시 등록한다.
+     */
+    public synchronized void schedule(String id, long dueAtMs) {
+        cancel(id);
+        Entry entry = new Entry(id, dueAtMs);
+        entries.put(id, entry);
+        if (!root.add(entry)) {
+            overdue.add(entry);
+        }
+    }
+
+    public synchronized boolean cancel(String id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.bucket != null) {
+            entry.bucket.remove(entry);
+        } else {
+            overdue.remove(entry);
+        }
+        return true;
+    }
+
+    public synchronized Long dueAtOf(String id) {
+        Entry entry = entries.get(id);
+        return entry != null ? entry.dueAtMs : null;
+    }
+
+    /**
+     * 시계를 nowMs까지 진행하고 처리 시각이 된 항목을 (id, 처리 시각) 목록으로 돌려준다.
+     */
+    public synchronized List<Expired> advance(long nowMs) {
+        List<Entry> flushed = new ArrayList<>(overdue);
+        overdue.clear();
+        root.advance(nowMs, flushed);
+
+        List<Expired> expired = new ArrayList<>();
+        for (Entry entry : flushed) {
+            // 상위 휠에서 내려온 항목은 아래 휠에 다시 자리를 잡고, 더 내려갈 곳이 없으면 만료된 것이다
+            if (entry.dueAtMs > nowMs && root.add(entry)) {
+                continue;
+            }
+            entries.remove(entry.id);
+            expired.add(new Expired(entry.id, entry.dueAtMs));
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public record Expired(String id, long dueAtMs) {
+    }
+
+    private static final class Level {
+        private final long tickMs;
+        private final int wheelSize;
+        private final long interval;
+        private final Bucket[] buckets;
+        private long currentTime;
+        private Level overflow;
+
+        Level(long tickMs, int wheelSize, long startMs) {
+            this.tickMs = tickMs;
+            this.wheelSize = wheelSize;
+            this.interval = tickMs * wheelSize;
+            this.buckets = new Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new Bucket();
+            }
+            this.currentTime = startMs - (startMs % tickMs);
+        }
+
+        // 현재 슬롯 안(한 tick 이내)이면 false: 바로 만료 처리 대상
+        boolean add(Entry entry) {
+            if (entry.dueAtMs < currentTime + tickMs) {
+                return false;
+            }
+            if (entry.dueAtMs < currentTime + interval) {
+                buckets[(int) ((entry.dueAtMs / tickMs) % wheelSize)].add(entry);
+                return true;
+            }
+            if (overflow == null) {
+                overflow = new Level(interval, wheelSize, currentTime);
+            }
+            // 상위 휠의 현재 시각은 이 휠의 현재 시각 이하이므로, 이 휠 범위를 넘는 항목은 상위 휠에 항상 자리가 있다
+            return overflow.add(entry);
+        }
+
+        void advance(long nowMs, List<Entry> flushed) {
+            if (nowMs < currentTime + tickMs) {
+                return;
+            }
+
+            long target = nowMs - (nowMs % tickMs);
+            long steps = (target - currentTime) / tickMs;
+            if (steps >= wheelSize) {
+                // 한 바퀴 이상 건너뛰었으면 (오래 멈춰 있었던 경우) 모든 슬롯을 비워 다시 배치한다
+                for (Bucket bucket : buckets) {
+                    bucket.drainTo(flushed);
+                }
+            } else {
+                for (long time = currentTime + tickMs; time <= target; time += tickMs) {
+                    buckets[(int) ((time / tickMs) % wheelSize)].drainTo(flushed);
+                }
+            }
+            currentTime = target;
+
+            if (overflow != null) {
+                overflow.advance(target, flushed);
+            }
+        }
+    }
+
+    // 슬롯 하나. 머리 노드를 둔 원형 이중 연결 리스트
+    private static final class Bucket {
+        private final Entry head = new Entry(null, 0);
+
+        Bucket() {
+            head.prev = head;
+            head.next = head;
+        }
+
+        void add(Entry entry) {
+            entry.bucket = this;
+            entry.prev = head.prev;
+            entry.next = head;
+            head.prev.next = entry;
+            head.prev = entry;
+        }
+
+        void remove(Entry entry) {
+            entry.prev.next = entry.next;
+            entry.next.prev = entry.prev;
+            entry.prev = null;
+            entry.next = null;
+            entry.bucket = null;
+        }
+
+        void drainTo(List<Entry> out) {
+            Entry entry = head.next;
+            while (entry != head) {
+                Entry next = entry.next;
+                remove(entry);
+                out.add(entry);
+                entry = next;
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final String id;
+        private final long dueAtMs;
+        private Entry prev;
+        private Entry next;
+        private Bucket bucket;
+
+        Entry(String id, long dueAtMs) {
+            this.id = id;
+            this.dueAtMs = dueAtMs;
+        }
+    }
+}
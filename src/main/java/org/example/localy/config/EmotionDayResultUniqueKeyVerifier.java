@@ -0,0 +1,40 @@
+package org.example.localy.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * emotion_day_result (user_id, date) 유니크 키가 있는지 기동 시 확인한다.
+ * ddl-auto=update는 중복 행이 남아 있는 테이블에 유니크 키를 추가하지 못하면 경고만 남기고 넘어가는데,
+ * 그러면 일일 집계(EmotionDayResultRepository.insertDailyRollup)의 ON DUPLICATE KEY가 동작하지 않아 다시 실행할 때마다 행이 늘어난다.
+ * 중복 행 정리와 키 추가는 db/ops/emotion_day_result_unique_key.sql로 배포 전에 한 번 실행하고, 여기서는 확인만 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmotionDayResultUniqueKeyVerifier implements CommandLineRunner {
+
+    static final String INDEX_NAME = "uk_emotion_day_result_user_date";
+
+    private static final String INDEX_EXISTS_SQL =
+            "SELECT COUNT(*) FROM information_schema.statistics " +
+            "WHERE table_schema = DATABASE() AND table_name = 'emotion_day_result' AND index_name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) {
+        try {
+            Integer count = jdbcTemplate.queryForObject(INDEX_EXISTS_SQL, Integer.class, INDEX_NAME);
+            if (count == null || count == 0) {
+                log.error("emotion_day_result 유니크 키({})가 없습니다. db/ops/emotion_day_result_unique_key.sql을 실행하세요. " +
+                        "그전까지 일일 감정 집계를 다시 실행하면 중복 행이 생길 수 있습니다.", INDEX_NAME);
+            }
+        } catch (Exception e) {
+            log.error("emotion_day_result 유니크 키 확인 실패: {}", e.getMessage());
+        }
+    }
+}
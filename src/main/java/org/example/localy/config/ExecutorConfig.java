@@ -2,17 +2,80 @@ package org.example.localy.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class ExecutorConfig {
 
-    // 장소 좌표 보강, GPT 미션 생성 등 서로 독립적인 외부 API 호출을 병렬로 처리하기 위한 스레드 풀.
-    // VisitSeoul 상세 API가 동시 요청이 많을 때 500을 많이 반환하는 것으로 보여 동시성을 낮게 유지한다.
+    // 장소 좌표 보강, 목록 페이지 조회 등 서로 독립적인 VisitSeoul API 호출을 병렬로 처리하기 위한 스레드 풀.
+    // 실제 호출 동시성은 호스트별 적응형 제한기(UpstreamConcurrencyLimiters)가 정하므로, 풀은 그 최대치만큼만 넉넉히 둔다.
+    // (VisitSeoul 상세 API는 동시 요청이 많으면 500을 반환해, 제한기가 그때그때 동시 호출 수를 낮춘다)
+    private static final int EXTERNAL_API_POOL_SIZE = 32;
+
     @Bean(destroyMethod = "shutdown")
     public ExecutorService externalApiExecutor() {
+        return Executors.newFixedThreadPool(EXTERNAL_API_POOL_SIZE);
+    }
+
+    // GPT 호출 전용 스레드 풀. VisitSeoul 호출용 풀(32)과 나눠, 풀을 키워도 GPT 동시 호출 수(요금, 레이트 리밋)는 늘지 않게 한다.
+    private static final int GPT_POOL_SIZE = 4;
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService gptExecutor() {
+        return Executors.newFixedThreadPool(GPT_POOL_SIZE);
+    }
+
+    // 로컬가이드 홈 화면 구성 요소(미션 배너, 추천 장소, 미션 장소, 최근 북마크)를 동시에 조회하기 위한 스레드 풀.
+    // 요청 하나당 작업 4개라, 외부 API 풀과 섞이지 않도록 따로 둔다.
+    // 큐를 제한해 부하가 몰릴 때 작업이 큐에서 제한 시간을 다 쓰며 쌓이지 않게 하고, 가득 차면 제출을 거절한다
+    // (PlaceService.homePart가 거절된 구성 요소를 기본값으로 채운다).
+    private static final int HOME_POOL_SIZE = 16;
+    private static final int HOME_QUEUE_CAPACITY = 64;
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService homeExecutor() {
+        return new ThreadPoolExecutor(HOME_POOL_SIZE, HOME_POOL_SIZE, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(HOME_QUEUE_CAPACITY), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // 백그라운드 미션 생성 작업용 스레드 풀. 작업 안에서 GPT 호출을 GPT 풀에 다시 나눠 맡기므로,
+    // 같은 풀을 쓰면 바깥 작업이 스레드를 다 차지해 안쪽 호출이 대기하는 교착이 생길 수 있어 따로 둔다.
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService missionGenerationExecutor() {
+        return Executors.newFixedThreadPool(4);
+    }
+
+    // DelayedTaskScheduler의 예약 작업 실행용 스레드 풀. 타이밍 휠 틱 스레드는 처리 시각 계산만 하고,
+    // 실제 작업(알림 발송, 이벤트 발행)은 여기서 실행해 느린 작업이 다음 틱을 밀지 않게 한다.
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService delayedTaskExecutor() {
         return Executors.newFixedThreadPool(4);
     }
+
+    // 샤드 단위 사용자 배치 작업(ShardedJobExecutor)에서 사용자별 처리를 병렬로 돌리는 스레드 풀.
+    // 작업마다 동시에 쓰는 스레드 수는 ShardedJob.parallelism으로 따로 제한한다.
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService shardWorkerExecutor() {
+        return Executors.newFixedThreadPool(8);
+    }
+
+    // @Scheduled 작업을 실행하는 스레드 풀. 기본값(스레드 1개)이면 샤드 작업(ShardedJobExecutor)이 다른 인스턴스의 샤드를
+    // 기다리며 잠든 동안 5초 주기 폴러(미션 마감, 북마크 수 반영)까지 멈추므로, 자정처럼 작업이 겹치는 시각에도 서로 밀리지 않을 만큼 둔다.
+    private static final int SCHEDULER_POOL_SIZE = 8;
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(SCHEDULER_POOL_SIZE);
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
 }
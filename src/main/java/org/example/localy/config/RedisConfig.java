@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.extern.slf4j.Slf4j;
+import org.example.localy.dto.place.PlaceDetailSnapshot;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -11,6 +12,7 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -67,6 +69,20 @@ public class RedisConfig {
     return template;
   }
 
+  // 장소 상세 캐시(L2) 전용 RedisTemplate — 타입을 지정한 직렬화기로 LinkedHashMap 재변환 없이 바로 DTO로 읽는다
+  @Bean
+  public RedisTemplate<String, PlaceDetailSnapshot> placeDetailRedisTemplate(
+          RedisConnectionFactory connectionFactory,
+          ObjectMapper redisObjectMapper) {
+
+    RedisTemplate<String, PlaceDetailSnapshot> template = new RedisTemplate<>();
+    template.setConnectionFactory(connectionFactory);
+    template.setKeySerializer(new StringRedisSerializer());
+    template.setValueSerializer(new Jackson2JsonRedisSerializer<>(redisObjectMapper, PlaceDetailSnapshot.class));
+    template.afterPropertiesSet();
+    return template;
+  }
+
   // Redis용 ObjectMapper 설정
   @Bean
   @Primary
@@ -11,6 +11,7 @@ import org.example.localy.entity.Users;
 import org.example.localy.repository.UserRepository;
 import org.example.localy.service.AuthService;
 import org.example.localy.service.EmailVerificationService;
+import org.example.localy.service.mission.MissionGenerationService;
 import org.example.localy.subscriber.RedisSubscriber;
 import org.example.localy.subscriber.RedisSubscriberInitializer;
 import org.example.localy.util.JwtUtil;
@@ -31,6 +32,7 @@ public class AuthController {
     private final UserRepository userRepository;
     private final RedisSubscriber redisSubscriber;
     private final RedisSubscriberInitializer subscriberInitializer;
+    private final MissionGenerationService missionGenerationService;
 
     @Value("${spring.security.oauth2.client.registration.google.client-id}")
     private String googleClientId;
@@ -106,6 +108,8 @@ public class AuthController {
         redisSubscriber.subscribe(channel);
 
         authService.updateLastLoginTime(response);
+        // 마지막 위치 기준으로 미션을 미리 만들어 둔다 (백그라운드 처리, 로그인 응답은 기다리지 않음)
+        missionGenerationService.prefetch(response.getUserId());
 
         return BaseResponse.success("로그인 완료", response);
     }
@@ -122,6 +126,7 @@ public class AuthController {
         redisSubscriber.subscribe(channel);
 
         authService.updateLastLoginTime(response);
+        missionGenerationService.prefetch(response.getUserId());
 
         return BaseResponse.success("Google 로그인 완료", response);
     }
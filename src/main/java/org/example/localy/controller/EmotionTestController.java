@@ -5,6 +5,8 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.localy.event.HomeDataChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -17,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 public class EmotionTestController {
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Operation(
             summary = "테스트용 - 특정 사용자의 감정 수치를 50으로 설정합니다.",
@@ -27,6 +30,7 @@ public class EmotionTestController {
     public String createEmotion(@PathVariable String userId) {
         String key = "localy:emotion:"+userId;
         redisTemplate.opsForValue().set(key, "50");
+        publishEmotionChanged(userId);
 
         return "해당 유저 현재 감정 50으로 설정 완료";
     }
@@ -40,6 +44,7 @@ public class EmotionTestController {
     public String updateEmotion(@PathVariable String userId, @RequestParam int figure) {
         String key = "localy:emotion:"+userId;
         redisTemplate.opsForValue().increment(key, figure);
+        publishEmotionChanged(userId);
 
         return "해당 유저 현재 감정 "+figure+"만큼 변경 완료\n현재 감정:"+redisTemplate.opsForValue().get(key);
     }
@@ -66,8 +71,17 @@ public class EmotionTestController {
     public String deleteEmotion(@PathVariable String userId) {
         String key = "localy:emotion:"+userId;
         redisTemplate.delete(key);
+        publishEmotionChanged(userId);
 
         return "해당 유저의 현재 감정 수치 삭제 완료";
     }
-    
+
+    // 감정 수치가 바뀌면 홈 캐시(추천 장소, 미션 배너 키워드)도 비운다
+    private void publishEmotionChanged(String userId) {
+        try {
+            eventPublisher.publishEvent(new HomeDataChangedEvent(Long.valueOf(userId), HomeDataChangedEvent.Reason.EMOTION));
+        } catch (NumberFormatException e) {
+            log.warn("숫자가 아닌 userId라 홈 캐시 무효화 생략: {}", userId);
+        }
+    }
 }
@@ -8,6 +8,7 @@ import org.example.localy.common.response.BaseResponse;
 import org.example.localy.dto.HomeResponseDto;
 import org.example.localy.dto.place.PlaceDto;
 import org.example.localy.entity.Users;
+import org.example.localy.service.HomeEmotionCalcService;
 import org.example.localy.service.HomeService;
 import org.example.localy.util.JwtUtil;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
@@ -38,13 +40,14 @@ public class HomeController {
 
         Long userId = user.getId();
 
-        String emotion = redisTemplate.opsForValue().get("localy:home:emotion:" + userId);
-        String diff = redisTemplate.opsForValue().get("localy:home:happiness_diff:" + userId);
+        Map<Object, Object> summary = redisTemplate.opsForHash().entries(HomeEmotionCalcService.SUMMARY_KEY_PREFIX + userId);
+        Object emotion = summary.get(HomeEmotionCalcService.FIELD_EMOTION);
+        Object diff = summary.get(HomeEmotionCalcService.FIELD_HAPPINESS_DIFF);
 
         return BaseResponse.success(
                 new HomeResponseDto(
-                        emotion != null ? emotion : "없음",
-                        diff != null ? diff : "0.0"
+                        emotion != null ? emotion.toString() : HomeEmotionCalcService.NO_EMOTION,
+                        diff != null ? diff.toString() : "0.0"
                 )
         );
     }
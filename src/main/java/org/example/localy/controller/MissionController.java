@@ -14,6 +14,7 @@ import org.example.localy.entity.Users;
 import org.example.localy.entity.place.MissionArchive;
 import org.example.localy.repository.UserRepository;
 import org.example.localy.service.mission.ArchiveService;
+import org.example.localy.service.mission.MissionGenerationService;
 import org.example.localy.service.mission.MissionService;
 import org.example.localy.util.JwtUtil;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -33,18 +34,20 @@ import java.util.List;
 public class MissionController {
 
     private final MissionService missionService;
+    private final MissionGenerationService missionGenerationService;
     private final ArchiveService archiveService;
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
 
-    @Operation(summary = "미션 홈 조회", description = "포인트 정보와 미션 목록 조회 및 미션 생성")
+    @Operation(summary = "미션 홈 조회", description = "포인트 정보와 미션 목록 조회. 진행할 미션이 없으면 백그라운드에서 미션 생성을 시작한다")
     @GetMapping
     public ResponseEntity<BaseResponse<MissionDto.MissionHomeResponse>> getMissionHome(
             @AuthenticationPrincipal Users user,
             @RequestParam(required = false) Double latitude,
             @RequestParam(required = false) Double longitude) {
 
-        MissionDto.MissionHomeResponse response = missionService.getMissionHome(user, latitude, longitude);
+        boolean generating = missionGenerationService.requestIfNeeded(user, latitude, longitude);
+        MissionDto.MissionHomeResponse response = missionService.getMissionHome(user, generating);
         return ResponseEntity.ok(BaseResponse.success("미션 홈 조회 성공", response));
     }
 
@@ -6,6 +6,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.example.localy.common.response.BaseResponse;
 import org.example.localy.dto.place.PlaceCandidateDto;
 import org.example.localy.entity.place.Place;
+import org.example.localy.service.place.PlaceCoverageGapQueue;
 import org.example.localy.service.place.PlaceRecommendService;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -23,6 +24,7 @@ import java.util.List;
 public class PlaceAdminController {
 
     private final PlaceRecommendService placeRecommendService;
+    private final PlaceCoverageGapQueue coverageGapQueue;
 
     // 매일 새벽 3시 자동 실행되는 장소 카탈로그 동기화를 즉시 한 번 실행
     @PostMapping("/sync-catalog")
@@ -32,7 +34,13 @@ public class PlaceAdminController {
         return BaseResponse.success("카탈로그 동기화 완료");
     }
 
-    // 키워드로 VisitSeoul 실제 콘텐츠를 검색해, 기준 좌표에서 가까운 순으로 후보를 보여줌 (DB 저장 안 함)
+    // 백그라운드 보강을 기다리는 커버리지 공백 이벤트 수 (메트릭 localy.place.coverage_gap.queue.depth와 같은 값)
+    @GetMapping("/coverage-gap/depth")
+    public BaseResponse<Long> coverageGapDepth() {
+        return BaseResponse.success(coverageGapQueue.depth());
+    }
+
+    // 키워드로 VisitSeoul 실제 콘텐츠를 검색해, 기준 좌표에서 가까운 순으로 후보를 보여줌 (새로 알게 된 좌표는 DB에 반영)
     @GetMapping("/search")
     public BaseResponse<List<PlaceCandidateDto>> search(
             @RequestParam String keyword,
@@ -44,24 +52,36 @@ public class PlaceAdminController {
         return BaseResponse.success(candidates);
     }
 
-    // 특정 cid를 실제 VisitSeoul 데이터로 DB에 저장/갱신
+    // 특정 cid를 실제 VisitSeoul 데이터로 DB에 저장/갱신 (캐시를 건너뛰고 최신 데이터를 반영)
     @PostMapping("/ingest")
     public BaseResponse<PlaceCandidateDto> ingest(@RequestParam String cid) {
-        Place saved = placeRecommendService.saveOrUpdatePlace(cid);
-        if (saved == null) {
+        List<Place> saved = placeRecommendService.ingestPlaces(List.of(cid));
+        if (saved.isEmpty()) {
             return BaseResponse.failure("PLACE_INGEST_FAILED", "VisitSeoul에서 해당 cid 데이터를 가져오지 못했습니다: " + cid);
         }
+        return BaseResponse.success(toDto(saved.get(0)));
+    }
+
+    // 지정한 cid들을 한 번에 저장/갱신 (?cid=a&cid=b 처럼 여러 개 지정)
+    @PostMapping("/ingest/batch")
+    public BaseResponse<List<PlaceCandidateDto>> ingestBatch(@RequestParam("cid") List<String> cids) {
+        List<Place> saved = placeRecommendService.ingestPlaces(cids);
+        if (saved.isEmpty()) {
+            return BaseResponse.failure("PLACE_INGEST_FAILED", "VisitSeoul에서 해당 cid 데이터를 가져오지 못했습니다: " + cids);
+        }
+        return BaseResponse.success(saved.stream().map(this::toDto).toList());
+    }
 
-        // JPA 엔티티를 그대로 반환하면 지연 로딩된 연관관계(images) 직렬화 시 에러가 날 수 있어 DTO로 변환
-        PlaceCandidateDto dto = PlaceCandidateDto.builder()
-                .cid(saved.getContentId())
-                .title(saved.getTitle())
-                .category(saved.getCategory())
-                .address(saved.getAddress())
-                .latitude(saved.getLatitude())
-                .longitude(saved.getLongitude())
+    // JPA 엔티티를 그대로 반환하면 지연 로딩된 연관관계(images) 직렬화 시 에러가 날 수 있어 DTO로 변환
+    private PlaceCandidateDto toDto(Place place) {
+        return PlaceCandidateDto.builder()
+                .cid(place.getContentId())
+                .title(place.getTitle())
+                .category(place.getCategory())
+                .address(place.getAddress())
+                .latitude(place.getLatitude())
+                .longitude(place.getLongitude())
                 .distanceKm(null)
                 .build();
-        return BaseResponse.success(dto);
     }
 }
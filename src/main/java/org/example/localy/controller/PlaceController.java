@@ -44,11 +44,12 @@ public class PlaceController {
     public ResponseEntity<BaseResponse<PlaceDto.BookmarkListResponse>> getBookmarks(
             @AuthenticationPrincipal Users user,
             @RequestParam(required = false, defaultValue = "RECENT") String sortType,
+            @RequestParam(required = false) String cursor,
             @RequestParam(required = false) Long lastBookmarkId,
             @RequestParam(required = false, defaultValue = "20") Integer size) {
 
         PlaceDto.BookmarkListResponse response = placeService.getBookmarks(
-                user, sortType, lastBookmarkId, size);
+                user, sortType, cursor, lastBookmarkId, size);
         return ResponseEntity.ok(BaseResponse.success("북마크 목록 조회 성공", response));
     }
 
@@ -1,10 +1,14 @@
 package org.example.localy.dto.dailyFeedback;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class EmotionDayDto {
     private int day;        // 날짜 (1~31)
     private int emotion;    // 감정 코드 (1~6)
@@ -1,12 +1,16 @@
 package org.example.localy.dto.dailyFeedback;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class MonthlyEmotionDto {
     private String yearMonth;                    // 예: "202511"
     private List<EmotionDayDto> days;            // 일별 감정 데이터
@@ -1,10 +1,14 @@
 package org.example.localy.dto.dailyFeedback;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class MonthlyStatsDto {
     private int e1;
     private int e2;
@@ -22,6 +22,9 @@ public class MissionDto {
 
         @Schema(description = "참여 완료한 미션 목록")
         private List<MissionItem> completedMissions;
+
+        @Schema(description = "새 미션 생성 중 여부 (완료되면 /topic/mission/generated/{userId}로 알림)")
+        private Boolean generating;
     }
 
     @Getter
@@ -0,0 +1,46 @@
+package org.example.localy.dto.place;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.localy.common.exception.CustomException;
+import org.example.localy.common.exception.errorCode.PlaceErrorCode;
+import org.example.localy.entity.place.Bookmark;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// 인기순 북마크 목록의 keyset 커서. 정렬 키(장소 북마크 수, 북마크 시각, 북마크 ID)를 그대로 담아
+// 다음 페이지를 "마지막 행보다 뒤" 조건의 인덱스 범위 조회로 가져온다. 클라이언트에는 불투명 문자열로 내려준다.
+@Getter
+@AllArgsConstructor
+public class BookmarkCursor {
+    private final int placeBookmarkCount;
+    private final LocalDateTime createdAt;
+    private final long bookmarkId;
+
+    public static BookmarkCursor of(Bookmark bookmark) {
+        return new BookmarkCursor(
+                bookmark.getPlaceBookmarkCount() != null ? bookmark.getPlaceBookmarkCount() : 0,
+                bookmark.getCreatedAt(),
+                bookmark.getId());
+    }
+
+    public String encode() {
+        String raw = placeBookmarkCount + "|" + createdAt + "|" + bookmarkId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static BookmarkCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            return new BookmarkCursor(
+                    Integer.parseInt(parts[0]),
+                    LocalDateTime.parse(parts[1]),
+                    Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new CustomException(PlaceErrorCode.INVALID_BOOKMARK_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.localy.dto.place;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 로컬가이드 홈 캐시에 저장하는 값. 거리는 요청 위치마다 달라지므로 저장하지 않고 장소 좌표를 담아 읽을 때 다시 계산한다.
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HomeSnapshot {
+    // 추천 장소를 계산한 위치 (멀리 이동했으면 캐시를 쓰지 않는다)
+    private Double originLatitude;
+    private Double originLongitude;
+    private PlaceDto.MissionBanner missionBanner;
+    private List<PlaceEntry> missionPlaces;
+    private List<PlaceEntry> recommendedPlaces;
+    private List<PlaceDto.BookmarkItem> recentBookmarks;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PlaceEntry {
+        private Long placeId;
+        private String placeName;
+        private String category;
+        private String address;
+        private String thumbnailImage;
+        private Double latitude;
+        private Double longitude;
+    }
+}
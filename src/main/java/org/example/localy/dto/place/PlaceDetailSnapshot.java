@@ -0,0 +1,30 @@
+package org.example.localy.dto.place;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 장소 상세 캐시(L1/L2)에 저장하는 값. JPA 엔티티 대신 상세페이지에 필요한 필드만 담는다.
+// 북마크 수/북마크 여부처럼 자주 바뀌거나 사용자별로 다른 값은 담지 않는다.
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaceDetailSnapshot {
+    private Long placeId;
+    private String contentId;
+    private String title;
+    private String category;
+    private String address;
+    private Double latitude;
+    private Double longitude;
+    private String phoneNumber;
+    private String openingHours;
+    private String thumbnailImage;
+    private String shortDescription;
+    private String longDescription;
+    private List<String> imageUrls;
+}
@@ -95,6 +95,7 @@ public class PlaceDto {
         private Boolean hasNext;
         private Long totalElements;
         private Long lastBookmarkId;
+        private String nextCursor;  // 인기순 다음 페이지 커서 (마지막 페이지면 null)
     }
 
     @Getter
@@ -12,7 +12,9 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "emotion_day_result")
+// 중복 행이 있던 기존 테이블에는 db/ops/emotion_day_result_unique_key.sql로 정리 후 키를 추가한다 (기동 시 EmotionDayResultUniqueKeyVerifier가 확인)
+@Table(name = "emotion_day_result",
+        uniqueConstraints = @UniqueConstraint(name = "uk_emotion_day_result_user_date", columnNames = {"user_id", "date"}))
 public class EmotionDayResult {
 
     @Id
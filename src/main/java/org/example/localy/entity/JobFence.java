@@ -0,0 +1,24 @@
+package org.example.localy.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 잠금 작업별로 DB에 마지막으로 쓴 펜싱 토큰 (RedisJobLock이 발급).
+ * JobFenceGuard가 보호할 쓰기와 같은 트랜잭션에서 행 잠금을 잡고 올리므로, 더 새 토큰으로 이미 쓴 뒤에 늦게 도착한 쓰기는 롤백된다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "job_fence")
+public class JobFence {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false)
+    private Long fence;
+}
@@ -8,7 +8,13 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "bookmarks",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "place_id"}))
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "place_id"}),
+        indexes = {
+                // 최신순 목록/최근 북마크 5개
+                @Index(name = "idx_bookmarks_user_created", columnList = "user_id, created_at, id"),
+                // 인기순 목록 keyset 페이지네이션 (정렬 키 순서 그대로)
+                @Index(name = "idx_bookmarks_user_popularity", columnList = "user_id, place_bookmark_count, created_at, id")
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -30,6 +36,12 @@ public class Bookmark {
     @Column(length = 50)
     private String bookmarkedEmotion;  // 북마크 당시 감정
 
+    // 인기순 정렬용으로 복제한 장소 북마크 수. 생성 시 카운터 값으로 넣고, 이후에는 6시간 주기 동기화에서만 맞춰진다.
+    // NULL이면 인기순 keyset 조건(<, =)에서 행이 빠지므로 NOT NULL이다. 기존 테이블은 db/ops/bookmarks_place_bookmark_count_not_null.sql로 채운 뒤 바꾼다.
+    @Builder.Default
+    @Column(nullable = false, columnDefinition = "int default 0")
+    private Integer placeBookmarkCount = 0;
+
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
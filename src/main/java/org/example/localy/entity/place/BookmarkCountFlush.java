@@ -0,0 +1,28 @@
+package org.example.localy.entity.place;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * MySQL에 반영을 마친 북마크 수 델타 묶음 기록.
+ * 델타를 더하는 UPDATE와 같은 트랜잭션에서 저장하므로, 커밋 뒤 Redis의 반영 중 델타를 지우기 전에 실패해도
+ * 다음 주기에 같은 묶음(flushId)을 다시 더하지 않는다. 행은 PlaceRepositoryImpl.recordBookmarkFlush가 하루 뒤에 지운다.
+ */
+@Entity
+@Table(name = "bookmark_count_flush",
+        indexes = @Index(name = "idx_bookmark_count_flush_applied_at", columnList = "applied_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class BookmarkCountFlush {
+
+    @Id
+    @Column(name = "flush_id", length = 36)
+    private String flushId;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
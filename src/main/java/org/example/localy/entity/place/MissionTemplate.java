@@ -0,0 +1,46 @@
+package org.example.localy.entity.place;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// (카테고리, 감정, 프리미엄 여부)별로 미리 만들어 둔 미션 문구. 장소 이름 자리는 {place}로 남겨 두고 미션 생성 시 채운다.
+@Entity
+@Table(name = "mission_templates",
+        indexes = @Index(name = "idx_mission_templates_bucket", columnList = "category, emotion, premium"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class MissionTemplate {
+
+    public static final String PLACE_PLACEHOLDER = "{place}";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String category;
+
+    @Column(nullable = false, length = 50)
+    private String emotion;
+
+    @Column(nullable = false)
+    private Boolean premium;
+
+    @Column(nullable = false, length = 100)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
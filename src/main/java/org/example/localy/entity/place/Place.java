@@ -56,7 +56,9 @@ public class Place implements Serializable {
 
     private Double mapY;
 
+    // 북마크 수는 PlaceBookmarkCounter가 증감분 UPDATE로만 반영한다. 엔티티 저장이 반영된 값을 덮어쓰지 않도록 갱신 대상에서 뺀다.
     @Builder.Default
+    @Column(updatable = false)
     private Integer bookmarkCount = 0;
 
     @Builder.Default
@@ -81,14 +83,4 @@ public class Place implements Serializable {
         updatedAt = LocalDateTime.now();
     }
 
-    public void incrementBookmarkCount() {
-        this.bookmarkCount++;
-    }
-
-    public void decrementBookmarkCount() {
-        if (this.bookmarkCount > 0) {
-            this.bookmarkCount--;
-        }
-    }
-
 }
\ No newline at end of file
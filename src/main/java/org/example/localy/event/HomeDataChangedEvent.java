@@ -0,0 +1,19 @@
+package org.example.localy.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 로컬가이드 홈 응답에 영향을 주는 사용자 데이터 변경 (홈 캐시 무효화용)
+@Getter
+@RequiredArgsConstructor
+public class HomeDataChangedEvent {
+
+    private final Long userId;
+    private final Reason reason;
+
+    public enum Reason {
+        BOOKMARK,   // 북마크 추가/취소 → 최근 북마크
+        MISSION,    // 미션 생성/완료 → 미션 배너, 미션 장소
+        EMOTION     // 감정 구간 변경 → 감정 기반 추천 장소
+    }
+}
@@ -0,0 +1,12 @@
+package org.example.localy.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 사용자가 미션을 완료함 (진행할 미션이 없어졌으면 다음 미션을 미리 만들기 위한 용도)
+@Getter
+@RequiredArgsConstructor
+public class MissionCompletedEvent {
+
+    private final Long userId;
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,17 +16,44 @@ public interface EmotionDayResultRepository extends JpaRepository<EmotionDayResu
 
     Optional<EmotionDayResult> findByUserIdAndDate(Long userId, LocalDate date);
 
-    @Query("SELECT COUNT(e) > 0 FROM EmotionDayResult e WHERE e.userId = :userId AND e.date = :date")
-    boolean existsByUserIdAndDate(@Param("userId") Long userId, @Param("date") LocalDate date);
+    /**
+     * [start, end) 구간의 윈도우 결과를 사용자별로 평균 내 date의 일일 결과로 한 번에 저장한다.
+     * 섹션 경계는 윈도우 결과와 같다 (16/33/50/66/83). 이미 저장된 (user_id, date)는 건드리지 않으므로 다시 실행해도 된다.
+     * 저장한 행 수를 돌려준다.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO emotion_day_result (user_id, date, avg_score, section, created_at) " +
+            "SELECT w.user_id, :date, AVG(w.avg_score), " +
+            "CASE WHEN AVG(w.avg_score) <= 16 THEN 1 " +
+            "WHEN AVG(w.avg_score) <= 33 THEN 2 " +
+            "WHEN AVG(w.avg_score) <= 50 THEN 3 " +
+            "WHEN AVG(w.avg_score) <= 66 THEN 4 " +
+            "WHEN AVG(w.avg_score) <= 83 THEN 5 " +
+            "ELSE 6 END, NOW() " +
+            "FROM emotion_window_result w " +
+            "WHERE w.created_at >= :start AND w.created_at < :end " +
+            "GROUP BY w.user_id " +
+            "ON DUPLICATE KEY UPDATE avg_score = emotion_day_result.avg_score",
+            nativeQuery = true)
+    int insertDailyRollup(@Param("date") LocalDate date,
+                          @Param("start") LocalDateTime start,
+                          @Param("end") LocalDateTime end);
 
     List<EmotionDayResult> findByUserIdAndDateBetween(Long userId, LocalDate start, LocalDate end);
 
-    @Query("SELECT e.avgScore FROM EmotionDayResult e " +
-            "WHERE e.userId = :userId AND e.date BETWEEN :start AND :end")
-    List<Double> findAvgScoresByDateRange(
-            @Param("userId") Long userId,
-            @Param("start") LocalDate start,
-            @Param("end") LocalDate end);
+    // 사용자들의 지난주/이번주 일일 평균의 평균 [userId, lastAvg, thisAvg] (해당 주에 데이터가 없으면 null)
+    @Query("SELECT e.userId, " +
+            "AVG(CASE WHEN e.date BETWEEN :lastStart AND :lastEnd THEN e.avgScore END), " +
+            "AVG(CASE WHEN e.date BETWEEN :thisStart AND :thisEnd THEN e.avgScore END) " +
+            "FROM EmotionDayResult e " +
+            "WHERE e.userId IN :userIds AND e.date BETWEEN :lastStart AND :thisEnd " +
+            "GROUP BY e.userId")
+    List<Object[]> findWeeklyAveragesByUsers(@Param("userIds") List<Long> userIds,
+                                             @Param("lastStart") LocalDate lastStart,
+                                             @Param("lastEnd") LocalDate lastEnd,
+                                             @Param("thisStart") LocalDate thisStart,
+                                             @Param("thisEnd") LocalDate thisEnd);
 
 
     @Modifying
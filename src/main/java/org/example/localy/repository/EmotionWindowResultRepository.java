@@ -24,6 +24,9 @@ public interface EmotionWindowResultRepository extends JpaRepository<EmotionWind
             @Param("end") LocalDateTime end
     );
 
+    // 이번 실행(since 이후)에 이미 저장한 윈도우 결과가 있는지
+    boolean existsByUserIdAndWindowAndCreatedAtGreaterThanEqual(Long userId, String window, LocalDateTime since);
+
     Optional<EmotionWindowResult> findFirstByUserIdAndCreatedAtBetweenOrderByCreatedAtDesc(Long userId, LocalDateTime start, LocalDateTime end);
 
     @Query("SELECT DISTINCT e.userId FROM EmotionWindowResult e WHERE e.createdAt BETWEEN :start AND :end")
@@ -36,33 +39,32 @@ public interface EmotionWindowResultRepository extends JpaRepository<EmotionWind
             LocalDateTime end
     );
 
-    // 1) 특정 userId에 대해 section별 개수를 세서 가장 많은 section 조회
-    @Query("SELECT e.section AS section, COUNT(e) AS cnt " +
+    // 사용자의 (section, emotion)별 개수와 그 묶음의 마지막 id [section, emotion, count, maxId]
+    // 개수와 마지막 id를 한 쿼리(같은 스냅샷)에서 읽어야, 개수에 들어간 결과와 upto 이하인 결과가 어긋나지 않는다
+    @Query("SELECT e.section, e.emotion, COUNT(e), MAX(e.id) " +
             "FROM EmotionWindowResult e " +
             "WHERE e.userId = :userId " +
-            "GROUP BY e.section " +
-            "ORDER BY cnt DESC")
-    List<Object[]> findSectionCountByUser(@Param("userId") Long userId);
-
-    // 2) 특정 userId와 section 값으로 emotion별 개수 조회
-    @Query("SELECT e.emotion AS emotion, COUNT(e) AS cnt " +
-            "FROM EmotionWindowResult e " +
-            "WHERE e.userId = :userId AND e.section = :section " +
-            "GROUP BY e.emotion " +
-            "ORDER BY cnt DESC")
-    List<Object[]> findEmotionCountByUserAndSection(@Param("userId") Long userId,
-                                                    @Param("section") Integer section);
-
+            "GROUP BY e.section, e.emotion")
+    List<Object[]> countSectionEmotionsByUser(@Param("userId") Long userId);
 
     // ⭐ 추가: 특정 기간의 모든 윈도우 결과 조회 (일일 집계용)
     List<EmotionWindowResult> findByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
 
-    @Query("SELECT e.emotion FROM EmotionWindowResult e " +
-            "WHERE e.userId = :userId AND e.createdAt BETWEEN :start AND :end")
-    List<String> findEmotionsByUserAndWeek(
-            @Param("userId") Long userId,
-            @Param("start") LocalDateTime start,
-            @Param("end") LocalDateTime end);
+    // since 이후 윈도우 결과가 생긴 사용자 (afterId 다음부터 ID 순으로 한 페이지)
+    @Query("SELECT DISTINCT e.userId FROM EmotionWindowResult e " +
+            "WHERE e.createdAt >= :since AND e.userId > :afterId " +
+            "ORDER BY e.userId")
+    List<Long> findUserIdsActiveSince(@Param("since") LocalDateTime since,
+                                      @Param("afterId") Long afterId,
+                                      Pageable pageable);
+
+    // 사용자들의 기간 내 감정별 개수 [userId, emotion, count]
+    @Query("SELECT e.userId, e.emotion, COUNT(e) FROM EmotionWindowResult e " +
+            "WHERE e.userId IN :userIds AND e.createdAt BETWEEN :start AND :end " +
+            "GROUP BY e.userId, e.emotion")
+    List<Object[]> countEmotionsByUsers(@Param("userIds") List<Long> userIds,
+                                        @Param("start") LocalDateTime start,
+                                        @Param("end") LocalDateTime end);
 
     @Modifying
     @Transactional
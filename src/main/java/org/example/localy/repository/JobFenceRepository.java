@@ -0,0 +1,24 @@
+package org.example.localy.repository;
+
+import org.example.localy.entity.JobFence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface JobFenceRepository extends JpaRepository<JobFence, String> {
+
+    // 현재 값을 읽으면서 행 잠금을 잡는다 (같은 이름의 다른 쓰기는 이 트랜잭션이 끝날 때까지 기다린다)
+    @Query(value = "SELECT fence FROM job_fence WHERE name = :name FOR UPDATE", nativeQuery = true)
+    Optional<Long> findFenceForUpdate(@Param("name") String name);
+
+    @Modifying
+    @Query(value = "INSERT INTO job_fence (name, fence) VALUES (:name, :fence)", nativeQuery = true)
+    int insertFence(@Param("name") String name, @Param("fence") long fence);
+
+    @Modifying
+    @Query(value = "UPDATE job_fence SET fence = :fence WHERE name = :name", nativeQuery = true)
+    int updateFence(@Param("name") String name, @Param("fence") long fence);
+}
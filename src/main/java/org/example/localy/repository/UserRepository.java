@@ -2,6 +2,8 @@ package org.example.localy.repository;
 
 import jakarta.persistence.LockModeType;
 import org.example.localy.entity.Users;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
@@ -28,9 +30,22 @@ public interface UserRepository extends JpaRepository<Users, Long> {
     @Query("SELECT u.id FROM Users u")
     List<Long> findAllUserIds();
 
-    List<Users> findByLastLoginTimeBefore(LocalDateTime time);
+    // ID 구간 (afterId, upToId]의 사용자 ID를 오름차순으로 (샤드 작업용, 기본 키 범위 스캔)
+    @Query("SELECT u.id FROM Users u WHERE u.id > :afterId AND u.id <= :upToId ORDER BY u.id")
+    List<Long> findIdsInRange(@Param("afterId") long afterId, @Param("upToId") long upToId, Pageable pageable);
+
+    default List<Long> findIdsInRange(long afterId, long upToId, int limit) {
+        return findIdsInRange(afterId, upToId, PageRequest.of(0, limit));
+    }
+
+    @Query("SELECT COALESCE(MAX(u.id), 0) FROM Users u")
+    long findMaxId();
 
-    List<Users> findByLastLoginTimeIsNullOrLastLoginTimeBefore(LocalDateTime time);
+    // id 기준 keyset 페이지 (전체 사용자를 한 번에 올리지 않고 훑는 용도)
+    @Query("SELECT u FROM Users u WHERE u.id > :afterId ORDER BY u.id")
+    List<Users> findPageAfterId(@Param("afterId") long afterId, Pageable pageable);
+
+    List<Users> findByLastLoginTimeBefore(LocalDateTime time);
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT u FROM Users u WHERE u.id = :id")
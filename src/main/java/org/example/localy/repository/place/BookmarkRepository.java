@@ -11,6 +11,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,13 +31,22 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     @Query("SELECT b FROM Bookmark b JOIN FETCH b.place p WHERE b.user = :user ORDER BY b.createdAt DESC")
     List<Bookmark> findByUserOrderByCreatedAtDesc(@Param("user") Users user, Pageable pageable);
 
-    @Query("SELECT b FROM Bookmark b JOIN FETCH b.place p WHERE b.user = :user AND b.id < :lastBookmarkId ORDER BY p.bookmarkCount DESC, b.createdAt DESC")
-    List<Bookmark> findByUserAndIdLessThanOrderByPopularity(
+    // 인기순은 bookmarks에 복제한 장소 북마크 수로 정렬해 (user_id, place_bookmark_count, created_at, id) 인덱스를 그대로 탄다.
+    // 다음 페이지는 정렬 키 전체로 만든 커서 "뒤"의 행만 읽으므로 페이지 깊이와 무관하게 일정한 비용이 든다.
+    // 정렬 키는 주기 동기화(BookmarkCountFlushScheduler)에서만 바뀌므로, 페이지를 넘기는 사이 행이 빠지거나 겹치는 일은 그 순간에만 생길 수 있다.
+    @Query("SELECT b FROM Bookmark b JOIN FETCH b.place p WHERE b.user = :user " +
+            "AND (b.placeBookmarkCount < :count " +
+            "OR (b.placeBookmarkCount = :count AND b.createdAt < :createdAt) " +
+            "OR (b.placeBookmarkCount = :count AND b.createdAt = :createdAt AND b.id < :bookmarkId)) " +
+            "ORDER BY b.placeBookmarkCount DESC, b.createdAt DESC, b.id DESC")
+    List<Bookmark> findByUserAfterCursorOrderByPopularity(
             @Param("user") Users user,
-            @Param("lastBookmarkId") Long lastBookmarkId,
+            @Param("count") Integer count,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("bookmarkId") Long bookmarkId,
             Pageable pageable);
 
-    @Query("SELECT b FROM Bookmark b JOIN FETCH b.place p WHERE b.user = :user ORDER BY p.bookmarkCount DESC, b.createdAt DESC")
+    @Query("SELECT b FROM Bookmark b JOIN FETCH b.place p WHERE b.user = :user ORDER BY b.placeBookmarkCount DESC, b.createdAt DESC, b.id DESC")
     List<Bookmark> findByUserOrderByPopularity(@Param("user") Users user, Pageable pageable);
 
     @Query("SELECT b FROM Bookmark b JOIN FETCH b.place p WHERE b.user = :user ORDER BY b.createdAt DESC")
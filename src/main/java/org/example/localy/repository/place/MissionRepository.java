@@ -21,6 +21,10 @@ public interface MissionRepository extends JpaRepository<Mission, Long> {
     @Query("SELECT COUNT(m) FROM Mission m WHERE m.user = :user AND m.expiresAt > :now")
     long countActiveByUser(@Param("user") Users user, @Param("now") LocalDateTime now);
 
+    // 아직 완료하지 않은 진행 중 미션 수 (0이면 새 미션 생성 대상)
+    @Query("SELECT COUNT(m) FROM Mission m WHERE m.user = :user AND m.isCompleted = false AND m.expiresAt > :now")
+    long countPendingByUser(@Param("user") Users user, @Param("now") LocalDateTime now);
+
     @Query("SELECT COUNT(m) FROM Mission m WHERE m.user = :user AND m.isCompleted = true AND m.expiresAt > :now")
     long countCompletedByUser(@Param("user") Users user, @Param("now") LocalDateTime now);
 
@@ -33,14 +37,14 @@ public interface MissionRepository extends JpaRepository<Mission, Long> {
     @Query("DELETE FROM Mission m WHERE m.expiresAt < :now")
     int deleteExpiredMissions(@Param("now") LocalDateTime now);
 
-    @Query("SELECT m FROM Mission m WHERE m.isCompleted = false AND m.expiresAt > :now AND m.expiresAt <= :threeHoursLater")
-    List<Mission> findCompletedMissionsExpiringSoon(
-            @Param("now") LocalDateTime now,
-            @Param("threeHoursLater") LocalDateTime threeHoursLater
-    );
+    @Query("SELECT DISTINCT m.user.id FROM Mission m WHERE m.id IN :ids")
+    List<Long> findUserIdsByIdIn(@Param("ids") List<Long> ids);
 
-    @Query("SELECT m.id FROM Mission m WHERE m.expiresAt < :now")
-    List<Long> findExpiredMissionIds(@Param("now") LocalDateTime now);
+    // 마감 큐에서 꺼낸 미션 중 실제로 만료된 것만 삭제
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Mission m WHERE m.id IN :ids AND m.expiresAt <= :now")
+    int deleteExpiredByIdIn(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
 
     @Query("SELECT COUNT(m) FROM Mission m WHERE m.user = :user AND m.isCompleted = true " +
             "AND m.updatedAt >= :startOfDay AND m.updatedAt <= :endOfDay")
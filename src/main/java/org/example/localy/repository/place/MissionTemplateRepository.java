@@ -0,0 +1,22 @@
+package org.example.localy.repository.place;
+
+import org.example.localy.entity.place.MissionTemplate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MissionTemplateRepository extends JpaRepository<MissionTemplate, Long> {
+
+    List<MissionTemplate> findByCategoryAndEmotionAndPremium(String category, String emotion, Boolean premium);
+
+    // 버킷별 템플릿 수와 가장 오래된 템플릿 생성 시각: [category, emotion, premium, count, minCreatedAt]
+    @Query("SELECT t.category, t.emotion, t.premium, COUNT(t), MIN(t.createdAt) FROM MissionTemplate t GROUP BY t.category, t.emotion, t.premium")
+    List<Object[]> countByBucket();
+
+    Optional<MissionTemplate> findFirstByCategoryAndEmotionAndPremiumOrderByCreatedAtAscIdAsc(String category, String emotion, Boolean premium);
+}
@@ -1,14 +1,17 @@
 package org.example.localy.repository.place;
 
 import org.example.localy.entity.place.Place;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface PlaceRepository extends JpaRepository<Place, Long> {
+public interface PlaceRepository extends JpaRepository<Place, Long>, PlaceRepositoryCustom {
 
     Optional<Place> findByContentId(String contentId);
 
@@ -16,5 +19,14 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
 
     boolean existsByContentId(String contentId);
 
-    List<Place> findByLatitudeIsNullOrLongitudeIsNull();
+    // 좌표 보강 백로그를 id 커서로 이어서 훑기 위한 조회 (카탈로그 동기화가 매번 같은 앞부분만 보강하지 않도록)
+    @Query("SELECT p FROM Place p WHERE p.id > :afterId AND (p.latitude IS NULL OR p.longitude IS NULL) ORDER BY p.id ASC")
+    List<Place> findWithoutCoordinatesAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 북마크 카운터 초기화용. 영속성 컨텍스트에 올라와 있는 엔티티 값이 아니라 현재 DB 값을 읽는다.
+    @Query("SELECT p.bookmarkCount FROM Place p WHERE p.id = :id")
+    Optional<Integer> findBookmarkCountById(@Param("id") Long id);
+
+    @Query("SELECT DISTINCT p.category FROM Place p WHERE p.category IS NOT NULL")
+    List<String> findDistinctCategories();
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package org.example.localy.repository.place;
+
+import org.example.localy.entity.place.Place;
+
+import java.util.List;
+import java.util.Map;
+
+public interface PlaceRepositoryCustom {
+
+    // contentId(unique) 기준 일괄 upsert. 신규는 INSERT, 이미 있으면 null이 아닌 값만 덮어쓴다. 반영을 요청한 행 수를 돌려준다.
+    int upsertAllByContentId(List<Place> places);
+
+    // 장소별 북마크 수 증감분(placeId -> delta)을 bookmark_count 단일 컬럼 UPDATE 배치로 한 트랜잭션 안에서 더한다.
+    // 북마크 행의 인기순 정렬 키는 건드리지 않는다 (인기 장소의 북마크 행 전체를 30초마다 다시 쓰지 않도록).
+    int addBookmarkCounts(Map<Long, Long> deltas);
+
+    // 델타 묶음(flushId)을 반영했다고 기록한다. 이미 기록된 묶음이면 false. addBookmarkCounts와 같은 트랜잭션에서 호출해야 한다.
+    boolean recordBookmarkFlush(String flushId);
+
+    // 인기순 정렬 키가 place.bookmark_count와 어긋난 북마크 행을 모두 맞춘다 (6시간 주기 동기화)
+    int syncAllBookmarkPopularity();
+}
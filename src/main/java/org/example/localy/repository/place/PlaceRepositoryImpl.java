@@ -0,0 +1,131 @@
+package org.example.localy.repository.place;
+
+import lombok.RequiredArgsConstructor;
+import org.example.localy.entity.place.Place;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * VisitSeoul 콘텐츠 적재용 JDBC 일괄 upsert.
+ * Place는 IDENTITY 전략이라 saveAll을 해도 JPA가 INSERT를 배치로 묶지 못하므로,
+ * 페이지 단위 적재는 INSERT ... ON DUPLICATE KEY UPDATE 배치 한 번으로 처리한다.
+ * 영속성 컨텍스트를 거치지 않으므로 저장된 엔티티가 필요하면 contentId로 다시 조회해야 한다.
+ * 북마크 수도 엔티티 저장 대신 증감분을 더하는 단일 컬럼 UPDATE 배치로만 반영한다.
+ * 북마크 행의 인기순 정렬 키(bookmarks.place_bookmark_count)는 일괄 반영 때 건드리지 않고 6시간 주기 보정에서만 맞춘다.
+ */
+@RequiredArgsConstructor
+public class PlaceRepositoryImpl implements PlaceRepositoryCustom {
+
+    // 이미 있는 장소는 새 값이 null이면 기존 값을 유지한다 (목록 API 항목에는 상세 필드가 없으므로)
+    private static final String UPSERT_SQL =
+            "INSERT INTO place (content_id, title, category, address, phone_number, opening_hours, " +
+            "long_description, short_description, thumbnail_image, latitude, longitude, " +
+            "bookmark_count, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "title = COALESCE(VALUES(title), title), " +
+            "category = COALESCE(VALUES(category), category), " +
+            "address = COALESCE(VALUES(address), address), " +
+            "phone_number = COALESCE(VALUES(phone_number), phone_number), " +
+            "opening_hours = COALESCE(VALUES(opening_hours), opening_hours), " +
+            "long_description = COALESCE(VALUES(long_description), long_description), " +
+            "short_description = COALESCE(VALUES(short_description), short_description), " +
+            "thumbnail_image = COALESCE(VALUES(thumbnail_image), thumbnail_image), " +
+            "latitude = COALESCE(VALUES(latitude), latitude), " +
+            "longitude = COALESCE(VALUES(longitude), longitude), " +
+            "updated_at = VALUES(updated_at)";
+
+    private static final String ADD_BOOKMARK_COUNT_SQL =
+            "UPDATE place SET bookmark_count = GREATEST(bookmark_count + ?, 0) WHERE id = ?";
+
+    private static final String RECORD_BOOKMARK_FLUSH_SQL =
+            "INSERT IGNORE INTO bookmark_count_flush (flush_id, applied_at) VALUES (?, ?)";
+
+    // 같은 묶음을 다시 반영하는 건 커밋 직후 Redis 정리에 실패한 다음 주기뿐이므로 하루만 남긴다
+    private static final String PRUNE_BOOKMARK_FLUSH_SQL =
+            "DELETE FROM bookmark_count_flush WHERE applied_at < ?";
+    private static final long BOOKMARK_FLUSH_RETENTION_HOURS = 24;
+
+    private static final String SYNC_ALL_BOOKMARK_POPULARITY_SQL =
+            "UPDATE bookmarks b JOIN place p ON p.id = b.place_id " +
+            "SET b.place_bookmark_count = p.bookmark_count " +
+            "WHERE b.place_bookmark_count IS NULL OR b.place_bookmark_count <> p.bookmark_count";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int upsertAllByContentId(List<Place> places) {
+        if (places == null || places.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, places, places.size(), (ps, place) -> {
+            ps.setString(1, place.getContentId());
+            ps.setString(2, place.getTitle());
+            ps.setString(3, place.getCategory());
+            ps.setString(4, place.getAddress());
+            ps.setString(5, place.getPhoneNumber());
+            ps.setString(6, place.getOpeningHours());
+            ps.setString(7, place.getLongDescription());
+            ps.setString(8, place.getShortDescription());
+            ps.setString(9, place.getThumbnailImage());
+            if (place.getLatitude() != null) {
+                ps.setDouble(10, place.getLatitude());
+            } else {
+                ps.setNull(10, Types.DECIMAL);
+            }
+            if (place.getLongitude() != null) {
+                ps.setDouble(11, place.getLongitude());
+            } else {
+                ps.setNull(11, Types.DECIMAL);
+            }
+            ps.setTimestamp(12, now);
+            ps.setTimestamp(13, now);
+        });
+
+        // 행별 반영 수는 드라이버 설정(rewriteBatchedStatements 등)에 따라 의미가 달라 쓰지 않는다
+        return places.size();
+    }
+
+    @Override
+    @Transactional
+    public int addBookmarkCounts(Map<Long, Long> deltas) {
+        if (deltas == null || deltas.isEmpty()) {
+            return 0;
+        }
+
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+        int[][] results = jdbcTemplate.batchUpdate(ADD_BOOKMARK_COUNT_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+        });
+
+        return Arrays.stream(results)
+                .flatMapToInt(Arrays::stream)
+                .map(r -> r < 0 ? 1 : r)
+                .sum();
+    }
+
+    @Override
+    @Transactional
+    public boolean recordBookmarkFlush(String flushId) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(PRUNE_BOOKMARK_FLUSH_SQL, Timestamp.valueOf(now.minusHours(BOOKMARK_FLUSH_RETENTION_HOURS)));
+        return jdbcTemplate.update(RECORD_BOOKMARK_FLUSH_SQL, flushId, Timestamp.valueOf(now)) > 0;
+    }
+
+    @Override
+    @Transactional
+    public int syncAllBookmarkPopularity() {
+        return jdbcTemplate.update(SYNC_ALL_BOOKMARK_POPULARITY_SQL);
+    }
+}
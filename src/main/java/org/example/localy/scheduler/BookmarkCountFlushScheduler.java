@@ -0,0 +1,44 @@
+package org.example.localy.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.localy.common.concurrency.ClusterLock;
+import org.example.localy.repository.place.PlaceRepository;
+import org.example.localy.service.place.PlaceBookmarkCounter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookmarkCountFlushScheduler {
+
+    private final PlaceBookmarkCounter placeBookmarkCounter;
+    private final PlaceRepository placeRepository;
+
+    // 30초마다 Redis에 모인 북마크 수 증감분을 MySQL에 일괄 반영 (같은 델타를 두 인스턴스가 두 번 더하지 않도록 잠금 안에서)
+    @Scheduled(fixedDelay = 30000, initialDelay = 30000)
+    @ClusterLock(name = "bookmark-count-flush", leaseSeconds = 60, holdAtLeastSeconds = 0)
+    public void flushBookmarkCounts() {
+        try {
+            placeBookmarkCounter.flush();
+        } catch (Exception e) {
+            log.error("북마크 수 반영 스케줄러 오류", e);
+        }
+    }
+
+    // 인기순 정렬 키(bookmarks.place_bookmark_count)를 place.bookmark_count에 맞춘다. 정렬 키는 여기서만 바뀌므로,
+    // 인기순 커서로 페이지를 넘기는 동안 순서가 흔들리지 않고 동기화 주기(6시간)만큼만 실제 인기와 어긋난다.
+    @Scheduled(fixedDelay = 6 * 60 * 60 * 1000, initialDelay = 60000)
+    @ClusterLock(name = "bookmark-popularity-sync", leaseSeconds = 300, holdAtLeastSeconds = 600)
+    public void syncBookmarkPopularity() {
+        try {
+            int synced = placeRepository.syncAllBookmarkPopularity();
+            if (synced > 0) {
+                log.info("북마크 인기순 정렬 키 보정: {}건", synced);
+            }
+        } catch (Exception e) {
+            log.error("북마크 인기순 정렬 키 보정 중 오류", e);
+        }
+    }
+}
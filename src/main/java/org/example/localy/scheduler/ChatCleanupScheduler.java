@@ -1,14 +1,23 @@
 package org.example.localy.scheduler;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.localy.common.concurrency.ClusterLock;
+import org.example.localy.common.concurrency.IdPageSource;
+import org.example.localy.common.concurrency.ShardedJob;
+import org.example.localy.common.concurrency.ShardedJobExecutor;
 import org.example.localy.entity.Users;
+import org.example.localy.event.HomeDataChangedEvent;
 import org.example.localy.repository.ChatBotRepository;
 import org.example.localy.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -26,41 +35,62 @@ public class ChatCleanupScheduler {
     private final UserRepository userRepository;
     private final RedisTemplate<String, String> redisTemplate;
     private final RedisTemplate<String, Object> objectRedisTemplate;
+    private final ShardedJobExecutor shardedJobExecutor;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Scheduled(cron = "0 0 0 * * *") // 매일 00:00
-    @Transactional
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 매일 00:00. 모든 인스턴스가 사용자 샤드를 나눠 처리한다.
+    @Scheduled(cron = "0 0 0 * * *")
     public void cleanupOldChats() {
 
         log.info("✨ DB 청소 시작");
 
-        List<Users> users = userRepository.findAll();
+        shardedJobExecutor.run(ShardedJob.builder()
+                .name("chat-cleanup")
+                .runId(LocalDate.now().toString())
+                .idSource(IdPageSource.of(userRepository::findIdsInRange, userRepository::findMaxId))
+                .processor(userId -> transactionTemplate.executeWithoutResult(status -> cleanupUserChats(userId)))
+                .build());
 
-        for (Users user : users) {
-            // JPQL에서 LocalDateTime으로 받고 서비스에서 LocalDate로 변환
-            List<LocalDate> dates = chatBotRepository.findPastChatDates(user.getId())
-                    .stream()
-                    .map(LocalDateTime::toLocalDate) // LocalDateTime → LocalDate
-                    .distinct() // 중복 제거
-                    .toList();
+        log.info("✨ DB 청소 완료");
+    }
+
+    private void cleanupUserChats(Long userId) {
+        Users user = userRepository.findById(userId).orElse(null);
+        if (user == null) {
+            return;
+        }
 
-            int keepDays = user.isPremium() ? PREMIUM_CHAT_RETENTION_DAYS : BASIC_CHAT_RETENTION_DAYS;
+        // JPQL에서 LocalDateTime으로 받고 서비스에서 LocalDate로 변환
+        List<LocalDate> dates = chatBotRepository.findPastChatDates(user.getId())
+                .stream()
+                .map(LocalDateTime::toLocalDate) // LocalDateTime → LocalDate
+                .distinct() // 중복 제거
+                .toList();
 
-            if (dates.size() <= keepDays) continue;
+        int keepDays = user.isPremium() ? PREMIUM_CHAT_RETENTION_DAYS : BASIC_CHAT_RETENTION_DAYS;
 
-            // keepDays 이후 인덱스 = 오래된 날짜들 → 삭제
-            List<LocalDate> toDelete = dates.subList(keepDays, dates.size());
+        if (dates.size() <= keepDays) return;
 
-            for (LocalDate date : toDelete) {
-                chatBotRepository.deleteMessagesByUserIdAndDate(user.getId(), date);
-            }
+        // keepDays 이후 인덱스 = 오래된 날짜들 → 삭제
+        List<LocalDate> toDelete = dates.subList(keepDays, dates.size());
 
-            log.info("💀 유저 {}의 삭제 대상 날짜: {}", user.getId(), toDelete);
+        for (LocalDate date : toDelete) {
+            chatBotRepository.deleteMessagesByUserIdAndDate(user.getId(), date);
         }
 
-        log.info("✨ DB 청소 완료");
+        log.info("💀 유저 {}의 삭제 대상 날짜: {}", user.getId(), toDelete);
     }
 
     @Scheduled(cron = "0 0 0 * * *") // 매일 00:00
+    @ClusterLock(name = "emotion-reset")
     @Transactional
     public void resetEmotion() {
         String keyPrefix = "localy:emotion:";
@@ -73,6 +103,8 @@ public class ChatCleanupScheduler {
             if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
                 redisTemplate.delete(key);
                 log.info("🗑️ Redis key 삭제 완료: {}", key);
+                // 감정 수치가 기본값으로 돌아가므로 홈 캐시(감정 기반 추천)도 비운다
+                eventPublisher.publishEvent(new HomeDataChangedEvent(user.getId(), HomeDataChangedEvent.Reason.EMOTION));
             }
         }
 
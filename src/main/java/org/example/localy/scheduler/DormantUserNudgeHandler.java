@@ -0,0 +1,67 @@
+package org.example.localy.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.localy.common.timer.DelayedTaskHandler;
+import org.example.localy.entity.Notification;
+import org.example.localy.entity.Users;
+import org.example.localy.repository.UserRepository;
+import org.example.localy.service.NotificationService;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 마지막 로그인 후 48시간이 되는 시각에 실행되어, 그동안 다시 로그인하지 않은 사용자에게 휴면 알림을 보낸다.
+ * 6시간마다 전체 사용자를 스캔하던 InactiveUserScheduler를 대신하며, 예약은 DormantUserNudgeService가 로그인 시점에 건다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DormantUserNudgeHandler implements DelayedTaskHandler {
+
+    public static final String TYPE = "dormant-nudge";
+    public static final Duration DORMANT_AFTER = Duration.ofHours(48);
+    public static final String NO_ACTIVITY_KEY = "user:noActivity";
+
+    private final UserRepository userRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final NotificationService notificationService;
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    @Transactional
+    public void handle(String key) {
+        Users user = userRepository.findById(Long.valueOf(key)).orElse(null);
+        if (user == null) {
+            return; // 탈퇴한 사용자
+        }
+
+        // 그사이 로그인했다면 로그인 시점에 새 예약이 걸려 있다 (틱 오차만큼 여유를 둔다)
+        LocalDateTime threshold = LocalDateTime.now().minus(DORMANT_AFTER).plusMinutes(1);
+        if (user.getLastLoginTime() != null && user.getLastLoginTime().isAfter(threshold)) {
+            return;
+        }
+
+        Long added = redisTemplate.opsForSet().add(NO_ACTIVITY_KEY, String.valueOf(user.getId()));
+        if (added == null || added == 0L) {
+            return; // 이미 알림을 보낸 사용자
+        }
+
+        try {
+            notificationService.createGeneralNotice(Notification.GeneralNoticeType.LASTLOGINTIME, user.getId());
+        } catch (Exception e) {
+            // 재시도 때 다시 보낼 수 있도록 표시를 되돌린다
+            redisTemplate.opsForSet().remove(NO_ACTIVITY_KEY, String.valueOf(user.getId()));
+            throw e;
+        }
+        log.info("휴면 사용자 알림 발송: userId={}", user.getId());
+    }
+}
@@ -2,6 +2,9 @@ package org.example.localy.scheduler;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.localy.common.concurrency.IdPageSource;
+import org.example.localy.common.concurrency.ShardedJob;
+import org.example.localy.common.concurrency.ShardedJobExecutor;
 import org.example.localy.common.exception.CustomException;
 import org.example.localy.common.exception.errorCode.AuthErrorCode;
 import org.example.localy.common.exception.errorCode.ChatErrorCode;
@@ -11,6 +14,7 @@ import org.example.localy.entity.ChatMessage;
 import org.example.localy.entity.EmotionWindowResult;
 import org.example.localy.repository.ChatBotRepository;
 import org.example.localy.repository.EmotionWindowResultRepository;
+import org.example.localy.service.EmotionAggregateService;
 import org.example.localy.service.EmotionAnalysisService;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -20,8 +24,11 @@ import org.springframework.stereotype.Service;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalDouble;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -35,8 +42,10 @@ public class EmotionScheduler {
     private final EmotionAnalysisService emotionAnalysisService;
     private final EmotionWindowResultRepository windowRepository;
     private final RedisTemplate<String, String> redisTemplate;
+    private final ShardedJobExecutor shardedJobExecutor;
+    private final EmotionAggregateService emotionAggregateService;
 
-    // 3분마다 실행 (실 환경에서는 3시간)
+    // 매시 정각 실행. 모든 인스턴스가 같은 시각의 실행에 합류해 오늘 대화한 사용자를 샤드로 나눠 처리한다.
     @Scheduled(cron = "0 0 * * * *")
     public void analyzeWindow() {
 
@@ -44,102 +53,138 @@ public class EmotionScheduler {
         LocalDateTime start = now.minusHours(1);
         String window = getCurrentWindow();
 
-        // 최근 3시간 메시지
-        List<ChatMessage> recentMessages =
-                chatBotRepository.findByCreatedAtBetween(start, now);
+        // 오늘 날짜 기준 모든 유저 중 "오늘 메시지를 남긴 유저만" 대상.
+        // ChatWorker가 쌓은 분 단위 집계가 오늘 하루 전체를 담고 있으면 그것만 읽고, 아니면(배포 당일, Redis 초기화 등) DB 메시지로 계산한다.
+        Optional<Set<Long>> aggregatedUsers = emotionAggregateService.usersOf(LocalDate.now());
+        boolean aggregated = aggregatedUsers.isPresent();
+        Collection<Long> todayUserIds = aggregated
+                ? aggregatedUsers.get()
+                : chatBotRepository.findDistinctUserIdsToday(LocalDate.now().atStartOfDay(), now);
+
+        // 사용자마다 GPT를 부르지 않도록 점수 버킷별 감정 단어 후보를 한 번에 채워 둔다
+        try {
+            emotionAnalysisService.warmUpEmotionKeywords();
+        } catch (Exception e) {
+            log.warn("감정 단어 후보 준비 실패 (사용자별로 채움): {}", e.getMessage());
+        }
 
-        // 오늘 날짜 기준 모든 유저 중 "오늘 메시지를 남긴 유저만" 대상
-        List<Long> todayUserIds =
-                chatBotRepository.findDistinctUserIdsToday(LocalDate.now().atStartOfDay(), now);
+        LocalDateTime runStart = now.truncatedTo(ChronoUnit.HOURS);
+        shardedJobExecutor.run(ShardedJob.builder()
+                .name("emotion-window")
+                .runId(runStart.toString())
+                .idSource(IdPageSource.of(todayUserIds))
+                .processor(userId -> analyzeUser(userId, start, now, window, aggregated, runStart))
+                .build());
+    }
 
-        for (Long userId : todayUserIds) {
+    private void analyzeUser(Long userId, LocalDateTime start, LocalDateTime now, String window, boolean aggregated,
+                             LocalDateTime runStart) {
+        // 샤드 임대를 잃은 인스턴스가 이미 저장한 사용자는 이어받은 인스턴스가 다시 저장하지 않는다
+        if (windowRepository.existsByUserIdAndWindowAndCreatedAtGreaterThanEqual(userId, window, runStart)) {
+            return;
+        }
 
-            // 유저의 최근 3시간 메시지
-            List<ChatMessage> userRecentMsgs = recentMessages.stream()
-                    .filter(m -> m.getUserId().equals(userId) && m.getRole() == ChatMessage.Role.USER)
-                    .toList();
+        OptionalDouble avgScore = aggregated
+                ? emotionAggregateService.weightedAverage(userId, now)
+                : weightedAverageFromMessages(userId, start, now);
 
-            if (!userRecentMsgs.isEmpty()) {
-                // 1️⃣ 최근 3시간 메시지가 있을 경우 정상 분석
-                List<EmotionLogDto> logs = userRecentMsgs.stream()
-                        .map(EmotionLogMapper::from)
-                        .filter(l -> l.getEmotionAfter() != null)
-                        .toList();
+        if (avgScore.isPresent()) {
+            saveWindowResult(userId, window, avgScore.getAsDouble());
+            return;
+        }
 
-                /*if (!logs.isEmpty()) {
-                    // ⭐ 평균 점수 계산
-                    double avgScore = logs.stream()
-                            .mapToDouble(EmotionLogDto::getEmotionAfter)
-                            .average()
-                            .orElse(0.0);
-
-                    // ⭐ 변경된 메서드에 맞게 avgScore 전달
-                    emotionAnalysisService.saveWindowResult(userId, window, avgScore);
-                    continue;
-                }*/
-
-                if (!logs.isEmpty()) {
-
-                    // 가중치와 점수를 함께 계산
-                    class WeightedScore {
-                        double score;
-                        double weight;
-                        WeightedScore(double score, double weight) {
-                            this.score = score;
-                            this.weight = weight;
-                        }
-                    }
+        // 2️⃣ 최근 1시간 메시지가 없는 경우 (오늘 하루 과거 기록은 있음)
+        handleEmptyWindow(userId, window, aggregated);
+    }
+
+    // 집계가 없을 때 DB의 원본 메시지로 같은 가중 평균을 계산한다
+    private OptionalDouble weightedAverageFromMessages(Long userId, LocalDateTime start, LocalDateTime now) {
+        // 유저의 최근 3시간 메시지
+        List<ChatMessage> userRecentMsgs = chatBotRepository.findByUserIdAndCreatedAtBetween(userId, start, now)
+                .stream()
+                .filter(m -> m.getRole() == ChatMessage.Role.USER)
+                .toList();
+
+        if (!userRecentMsgs.isEmpty()) {
+            // 1️⃣ 최근 3시간 메시지가 있을 경우 정상 분석
+            List<EmotionLogDto> logs = userRecentMsgs.stream()
+                    .map(EmotionLogMapper::from)
+                    .filter(l -> l.getEmotionAfter() != null)
+                    .toList();
 
-                    List<WeightedScore> weightedScores = logs.stream()
-                            .map(log -> {
-                                long minutesAgo = Duration.between(log.getCreatedAt(), now).toMinutes();
-                                double weight = Math.max(0, 60 - minutesAgo);
-                                return new WeightedScore(log.getEmotionAfter(), weight);
-                            })
-                            .toList();
+            /*if (!logs.isEmpty()) {
+                // ⭐ 평균 점수 계산
+                double avgScore = logs.stream()
+                        .mapToDouble(EmotionLogDto::getEmotionAfter)
+                        .average()
+                        .orElse(0.0);
+
+                // ⭐ 변경된 메서드에 맞게 avgScore 전달
+                emotionAnalysisService.saveWindowResult(userId, window, avgScore);
+                continue;
+            }*/
+
+            if (!logs.isEmpty()) {
+
+                // 가중치와 점수를 함께 계산
+                class WeightedScore {
+                    double score;
+                    double weight;
+                    WeightedScore(double score, double weight) {
+                        this.score = score;
+                        this.weight = weight;
+                    }
+                }
 
-                    double totalWeightedScore = weightedScores.stream()
-                            .mapToDouble(ws -> ws.score * ws.weight)
-                            .sum();
+                List<WeightedScore> weightedScores = logs.stream()
+                        .map(log -> {
+                            long minutesAgo = Duration.between(log.getCreatedAt(), now).toMinutes();
+                            double weight = Math.max(0, 60 - minutesAgo);
+                            return new WeightedScore(log.getEmotionAfter(), weight);
+                        })
+                        .toList();
 
-                    double totalWeight = weightedScores.stream()
-                            .mapToDouble(ws -> ws.weight)
-                            .sum();
+                double totalWeightedScore = weightedScores.stream()
+                        .mapToDouble(ws -> ws.score * ws.weight)
+                        .sum();
 
-                    double avgScore = totalWeight > 0 ? totalWeightedScore / totalWeight : 0.0;
+                double totalWeight = weightedScores.stream()
+                        .mapToDouble(ws -> ws.weight)
+                        .sum();
 
-                    emotionAnalysisService.saveWindowResult(userId, window, avgScore);
-                    continue;
-                }
+                return OptionalDouble.of(totalWeight > 0 ? totalWeightedScore / totalWeight : 0.0);
             }
-
-            // 2️⃣ 최근 3시간 메시지가 없는 경우 (오늘 하루 과거 기록은 있음)
-            handleEmptyWindow(userId, window);
         }
+
+        return OptionalDouble.empty();
     }
 
 
-    private void handleEmptyWindow(Long userId, String window) {
+    private void handleEmptyWindow(Long userId, String window, boolean aggregated) {
         LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
         LocalDateTime now = LocalDateTime.now();
 
         log.info("Start of day: {} now: {} userId: {} window: {}",
                 startOfDay, now, userId, window);
 
-        Long todayAllTextCounts = chatBotRepository.countTodayUserMessages(userId, startOfDay, now);
-        log.info("todayAllTextCounts: {}", todayAllTextCounts);
+        // 집계 대상 사용자는 오늘 메시지를 남긴 사용자라 다시 셀 필요가 없다
+        if (!aggregated) {
+            Long todayAllTextCounts = chatBotRepository.countTodayUserMessages(userId, startOfDay, now);
+            log.info("todayAllTextCounts: {}", todayAllTextCounts);
 
-        if (todayAllTextCounts == 0) {
-            // 오늘 메시지가 없으면 저장 X
-            log.info("오늘 메시지 없음 -> 저장 X");
-            return;
+            if (todayAllTextCounts == 0) {
+                // 오늘 메시지가 없으면 저장 X
+                log.info("오늘 메시지 없음 -> 저장 X");
+                return;
+            }
         }
 
-        // 오늘 저장된 윈도우 감정 기록 조회
-        Optional<EmotionWindowResult> todayResults =
-                windowRepository.findFirstByUserIdAndCreatedAtBetweenOrderByCreatedAtDesc(
-                        userId, startOfDay, now
-                );
+        // 오늘 저장된 윈도우 감정 기록 조회 (Redis에 없으면 DB)
+        OptionalDouble lastWindowScore = emotionAggregateService.lastWindowScore(userId, startOfDay.toLocalDate());
+        Optional<Double> todayResults = lastWindowScore.isPresent()
+                ? Optional.of(lastWindowScore.getAsDouble())
+                : windowRepository.findFirstByUserIdAndCreatedAtBetweenOrderByCreatedAtDesc(userId, startOfDay, now)
+                        .map(EmotionWindowResult::getAvgScore);
 
         // Redis에서 최신 감정 점수 가져오기
         String latestEmotion = redisTemplate.opsForValue().get("localy:emotion:" + userId);
@@ -151,17 +196,22 @@ public class EmotionScheduler {
 
         if (todayResults.isPresent()) {
             // ✅ 이전 윈도우 결과가 있으면 평균 계산
-            EmotionWindowResult todayResult = todayResults.get();
-            newAvg = (todayResult.getAvgScore() + nowEmotion) / 2.0;
+            double previousAvg = todayResults.get();
+            newAvg = (previousAvg + nowEmotion) / 2.0;
             log.info("이전 결과 있음. 평균 계산: ({} + {}) / 2 = {}",
-                    todayResult.getAvgScore(), nowEmotion, newAvg);
+                    previousAvg, nowEmotion, newAvg);
         } else {
             // ✅ 오늘 첫 윈도우 분석이면 현재 감정만 사용
             newAvg = nowEmotion;
             log.info("오늘 첫 윈도우 분석. 현재 감정 사용: {}", newAvg);
         }
 
-        emotionAnalysisService.saveWindowResult(userId, window, newAvg);
+        saveWindowResult(userId, window, newAvg);
+    }
+
+    private void saveWindowResult(Long userId, String window, double avgScore) {
+        emotionAnalysisService.saveWindowResult(userId, window, avgScore);
+        emotionAggregateService.recordWindowScore(userId, LocalDate.now(), avgScore);
     }
 
 
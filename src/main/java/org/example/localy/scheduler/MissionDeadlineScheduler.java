@@ -0,0 +1,28 @@
+package org.example.localy.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.localy.common.concurrency.ClusterLock;
+import org.example.localy.service.mission.MissionDeadlineQueue;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MissionDeadlineScheduler {
+
+    private final MissionDeadlineQueue missionDeadlineQueue;
+
+    // 5초마다 처리 시각이 된 마감 임박 알림/만료만 꺼내 처리한다 (없으면 Redis 조회만 하고 끝)
+    // 실행 중인 인스턴스가 죽으면 임대(30초)가 지난 뒤 다른 인스턴스가 폴링을 이어받는다
+    @Scheduled(fixedDelay = 5000, initialDelay = 15000)
+    @ClusterLock(name = "mission-deadline", leaseSeconds = 30, holdAtLeastSeconds = 0)
+    public void pollMissionDeadlines() {
+        try {
+            missionDeadlineQueue.processDue();
+        } catch (Exception e) {
+            log.error("미션 마감 처리 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.localy.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.localy.common.concurrency.ClusterLock;
+import org.example.localy.service.mission.MissionTemplatePool;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MissionTemplateReplenishScheduler {
+
+    private final MissionTemplatePool missionTemplatePool;
+
+    // 5분마다 비어 있거나 부족한 미션 템플릿 버킷을 조금씩 채운다 (한 번에 GPT를 몰아 부르지 않도록 회당 상한이 있음)
+    @Scheduled(fixedDelay = 300000, initialDelay = 60000)
+    @ClusterLock(name = "mission-template-replenish", leaseSeconds = 120)
+    public void replenishMissionTemplates() {
+        try {
+            missionTemplatePool.replenish();
+        } catch (Exception e) {
+            log.error("미션 템플릿 보충 중 오류 발생", e);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.example.localy.scheduler;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.localy.common.concurrency.ClusterLock;
 import org.example.localy.service.place.PlaceRecommendService;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -15,6 +16,7 @@ public class PlaceCatalogSyncScheduler {
 
     // 매일 새벽 3시. 카테고리/콘텐츠 구조가 자주 바뀌지 않아 하루 1회면 충분.
     @Scheduled(cron = "0 0 3 * * *")
+    @ClusterLock(name = "place-catalog-sync", leaseSeconds = 300)
     public void syncPlaceCatalog() {
         log.info("장소 카탈로그 동기화 스케줄러 시작");
         try {
@@ -33,6 +33,7 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final RedisTemplate<String, String> redisTemplate;
+    private final DormantUserNudgeService dormantUserNudgeService;
 
     @Value("${spring.security.oauth2.client.registration.google.client-id}")
     private String googleClientId;
@@ -67,6 +68,7 @@ public class AuthService {
 
         Users savedUser = userRepository.save(user);
         log.info("회원가입 완료: userId={}, email={}", savedUser.getId(), savedUser.getEmail());
+        dormantUserNudgeService.scheduleAfterLogin(savedUser.getId(), savedUser.getLastLoginTime());
 
         // JWT 토큰 생성
         String accessToken = jwtUtil.generateAccessToken(savedUser.getId(), savedUser.getEmail());
@@ -271,6 +273,7 @@ public class AuthService {
     public void updateLastLoginTime(AuthDto.AuthResponse response){
         Users user = userRepository.findById(response.getUserId()).orElseThrow(() -> new CustomException(AuthErrorCode.USER_NOT_FOUND));
         user.setLastLoginTime(LocalDateTime.now());
+        dormantUserNudgeService.scheduleAfterLogin(user.getId(), user.getLastLoginTime());
 
         log.info("\uD83D\uDC40최근 로그인 시각 업데이트 완료");
     }
@@ -1,6 +1,7 @@
 package org.example.localy.service.Chat;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.theokanning.openai.OpenAiService;
 import com.theokanning.openai.completion.chat.ChatCompletionRequest;
@@ -14,6 +15,9 @@ import org.springframework.stereotype.Service;
 import lombok.extern.slf4j.Slf4j;
 import com.fasterxml.jackson.core.type.TypeReference;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
@@ -113,6 +117,37 @@ public class GPTService {
         return parseMissionJson(jsonContent);
     }
 
+    // 특정 장소가 아닌 (카테고리, 감정)용 미션 템플릿 생성. 장소 이름 자리는 {place}로 남긴다.
+    public MissionCreationResult createMissionTemplate(String category, String emotion) {
+        if (apiKey == null || apiKey.isEmpty()) {
+            throw new RuntimeException("OpenAI API Key가 설정되지 않았습니다. 미션 생성을 위해 Key를 설정하세요.");
+        }
+
+        OpenAiService service = new OpenAiService(apiKey);
+
+        String systemPrompt = String.format(
+                "미션은 해당 장소에서 어떤 행동을 할지 구체적으로 제시해야 하며, 문화 체험이나 감정 해소에 초점을 맞춰야 함. " +
+                        "장소 종류: %s, 사용자 감정: %s. " +
+                        "특정 장소 이름 대신 반드시 {place}라는 자리표시자를 그대로 써야 하며, 어느 %s에서나 할 수 있는 행동이어야 함. " +
+                        "응답은 반드시 {\"title\":\"...\",\"description\":\"...\"} 형태의 JSON 문자열만 포함해야함",
+                category, emotion, category
+        );
+
+        ChatCompletionRequest request = ChatCompletionRequest.builder()
+                .model("gpt-3.5-turbo")
+                .messages(List.of(
+                        new ChatMessage("system", systemPrompt),
+                        new ChatMessage("user", "이 종류의 장소에서 할만한 행동을 미션으로 생성해줘.")
+                ))
+                .temperature(0.9)
+                .maxTokens(200)
+                .build();
+
+        ChatCompletionResult result = service.createChatCompletion(request);
+        String jsonContent = result.getChoices().get(0).getMessage().getContent().trim();
+        return parseMissionJson(jsonContent);
+    }
+
     // 장소 추천 요청
     public PlaceRecommendationResult getRecommendedPlacesByEmotion(
             List<Place> availablePlaces, String emotion, String interests) {
@@ -222,6 +257,8 @@ public class GPTService {
 
     @Getter
     public static class MissionCreationResult {
+        static final String TITLE_PARSE_ERROR = "제목 파싱 오류";
+
         private final String title;
         private final String description;
 
@@ -229,6 +266,11 @@ public class GPTService {
             this.title = title;
             this.description = description;
         }
+
+        // GPT 응답에서 제목을 제대로 읽어냈는지 여부
+        public boolean isParsed() {
+            return !TITLE_PARSE_ERROR.equals(title);
+        }
     }
 
     @Getter
@@ -263,7 +305,7 @@ public class GPTService {
         Matcher titleMatcher = titlePattern.matcher(json);
         Matcher descMatcher = descPattern.matcher(json);
 
-        String title = "제목 파싱 오류";
+        String title = MissionCreationResult.TITLE_PARSE_ERROR;
         String description = "설명 파싱 오류";
 
         if (titleMatcher.find()) {
@@ -295,14 +337,27 @@ public class GPTService {
         }
     }
 
-    public String pickEmotionKeyword(String category, double avgScore) {
+    /**
+     * 여러 (감정 구간, 대표 점수)에 대한 감정 단어 후보를 한 번의 요청으로 받는다.
+     * 응답은 {"results": [{"key": "...", "words": ["...", ...]}]} 형식이며, 파싱되지 않은 항목은 결과에서 빠진다.
+     */
+    public Map<String, List<String>> pickEmotionKeywords(List<EmotionKeywordQuery> queries, int wordsPerQuery) {
+        if (queries.isEmpty()) {
+            return Map.of();
+        }
 
-        OpenAiService service = new OpenAiService(apiKey);
+        OpenAiService service = new OpenAiService(apiKey, Duration.ofSeconds(60));
+
+        String items = queries.stream()
+                .map(q -> String.format("{\"key\":\"%s\", \"category\":\"%s\", \"score\":%d}", q.key(), q.category(), q.score()))
+                .collect(Collectors.joining(",\n", "[\n", "\n]"));
 
         String prompt = String.format(
-                "감정 구간: %s, 평균 점수: %.2f\n" +
-                        "이 감정 상태를 가장 잘 표현하는 한국어 단어를 1개만 제시해줘. 절대로 문장 금지, 단어만 답해.",
-                category, avgScore
+                "아래 각 항목은 감정 구간(category)과 0~100 사이 평균 감정 점수(score)야.\n" +
+                        "항목마다 그 감정 상태를 가장 잘 표현하는 한국어 단어를 %d개씩 골라줘. 문장 금지, 단어만.\n" +
+                        "반드시 다음 JSON 형식으로만 답해: {\"results\": [{\"key\": \"항목의 key 그대로\", \"words\": [\"단어\", ...]}]}\n\n" +
+                        "항목:\n%s",
+                wordsPerQuery, items
         );
 
         ChatCompletionRequest request = ChatCompletionRequest.builder()
@@ -311,10 +366,43 @@ public class GPTService {
                         new ChatMessage("user", prompt)
                 ))
                 .temperature(0.5)
-                .maxTokens(10)
+                .maxTokens(Math.min(3000, 60 + queries.size() * 20 * wordsPerQuery))
                 .build();
 
         ChatCompletionResult result = service.createChatCompletion(request);
-        return result.getChoices().get(0).getMessage().getContent().trim();
+        String content = result.getChoices().get(0).getMessage().getContent().trim();
+        return parseEmotionKeywordsJson(content);
+    }
+
+    private Map<String, List<String>> parseEmotionKeywordsJson(String json) {
+        try {
+            // 코드 블록으로 감싸 답하는 경우가 있어 JSON 본문만 꺼낸다
+            int start = json.indexOf('{');
+            int end = json.lastIndexOf('}');
+            JsonNode root = objectMapper.readTree(json.substring(start, end + 1));
+
+            Map<String, List<String>> keywords = new HashMap<>();
+            for (JsonNode item : root.path("results")) {
+                String key = item.path("key").asText(null);
+                List<String> words = new ArrayList<>();
+                item.path("words").forEach(word -> {
+                    String text = word.asText("").trim();
+                    if (!text.isEmpty() && !text.contains(" ")) {
+                        words.add(text);
+                    }
+                });
+                if (key != null && !words.isEmpty()) {
+                    keywords.put(key, words);
+                }
+            }
+            return keywords;
+        } catch (Exception e) {
+            log.error("GPT 감정 단어 응답 JSON 파싱 실패: {}", json, e);
+            return Map.of();
+        }
+    }
+
+    // 감정 단어 일괄 요청 항목. key는 응답을 다시 맞춰 보기 위한 식별자
+    public record EmotionKeywordQuery(String key, String category, int score) {
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package org.example.localy.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.localy.dto.dailyFeedback.DailyFeedbackDto;
@@ -22,25 +23,17 @@ public class DailyFeedbackService {
 
     private final EmotionWindowResultRepository windowRepository;
     private final EmotionWindowService emotionWindowService;
+    private final FeedbackPeriodCache feedbackPeriodCache;
 
     public DailyFeedbackDto getDailyFeedback(Long userId, LocalDate date) {
         LocalDateTime startOfDay = date.atStartOfDay();
         LocalDateTime endOfDay = date.plusDays(1).atStartOfDay();
 
-        // 해당 날짜의 모든 윈도우 결과 조회
-        List<EmotionWindowResult> results = windowRepository
-                .findByUserIdAndCreatedAtBetweenOrderByCreatedAtAsc(userId, startOfDay, endOfDay);
-
-        Map<String, Object> mostFre = emotionWindowService.analyzeUserEmotion(userId);
-
-        Integer mostFrequentSection = (Integer) mostFre.get("mostFrequentSection");
-        String mostFrequentEmotion = (String) mostFre.get("mostFrequentEmotion");
-
-        System.out.println("Section 최빈값: " + mostFrequentSection);
-        System.out.println("Emotion 최빈값: " + mostFrequentEmotion);
-
+        // 해당 날짜의 윈도우 점수 (지난 날짜는 캐시)
+        List<WindowScoreDto> scores = feedbackPeriodCache.get(userId, "day:" + date, date,
+                new TypeReference<List<WindowScoreDto>>() {}, () -> loadScores(userId, startOfDay, endOfDay), List::isEmpty);
 
-        if (results.isEmpty()) {
+        if (scores.isEmpty()) {
             return DailyFeedbackDto.builder()
                     .date(date.toString())
                     .scores(new ArrayList<>())
@@ -49,21 +42,14 @@ public class DailyFeedbackService {
                     .build();
         }
 
-        // WindowScoreDto 리스트 생성
-        List<WindowScoreDto> scores = results.stream()
-                .map(r -> WindowScoreDto.builder()
-                        .window(r.getWindow())
-                        .avgScore(r.getAvgScore())
-                        .emotion(r.getEmotion())
-                        .build())
-                .collect(Collectors.toList());
+        Map<String, Object> mostFre = emotionWindowService.analyzeUserEmotion(userId);
+
+        Integer mostFrequentSection = (Integer) mostFre.get("mostFrequentSection");
+        String mostFrequentEmotion = (String) mostFre.get("mostFrequentEmotion");
+
+        log.debug("Section 최빈값: {}", mostFrequentSection);
+        log.debug("Emotion 최빈값: {}", mostFrequentEmotion);
 
-        // 가장 빈번한 감정 찾기
-        Map<String, Long> emotionFrequency = results.stream()
-                .collect(Collectors.groupingBy(
-                        EmotionWindowResult::getEmotion,
-                        Collectors.counting()
-                ));
 
 //        String mostFrequentEmotion = emotionFrequency.entrySet().stream()
 //                .max(Map.Entry.comparingByValue())
@@ -88,4 +74,18 @@ public class DailyFeedbackService {
                 .mostFrequentEmotion(mostFrequentEmotion)
                 .build();
     }
+
+    private List<WindowScoreDto> loadScores(Long userId, LocalDateTime startOfDay, LocalDateTime endOfDay) {
+        List<EmotionWindowResult> results = windowRepository
+                .findByUserIdAndCreatedAtBetweenOrderByCreatedAtAsc(userId, startOfDay, endOfDay);
+
+        // WindowScoreDto 리스트 생성
+        return results.stream()
+                .map(r -> WindowScoreDto.builder()
+                        .window(r.getWindow())
+                        .avgScore(r.getAvgScore())
+                        .emotion(r.getEmotion())
+                        .build())
+                .collect(Collectors.toList());
+    }
 }
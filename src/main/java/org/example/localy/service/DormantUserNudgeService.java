@@ -0,0 +1,93 @@
+package org.example.localy.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.localy.common.timer.DelayedTaskScheduler;
+import org.example.localy.entity.Users;
+import org.example.localy.repository.UserRepository;
+import org.example.localy.scheduler.DormantUserNudgeHandler;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 휴면 알림 예약 관리.
+ * 로그인할 때마다 "마지막 로그인 + 48시간"으로 예약을 다시 걸어, 알림 시각이 된 사용자만 DormantUserNudgeHandler가 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DormantUserNudgeService {
+
+    // 기존 사용자를 한 번 예약했는지 표시 (Redis가 비워지면 다시 적재된다)
+    private static final String BOOTSTRAPPED_KEY = "localy:timer:dormant:bootstrapped";
+    private static final int BOOTSTRAP_PAGE_SIZE = 500;
+
+    private final DelayedTaskScheduler delayedTaskScheduler;
+    private final UserRepository userRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public void scheduleAfterLogin(Long userId, LocalDateTime lastLoginTime) {
+        delayedTaskScheduler.schedule(DormantUserNudgeHandler.TYPE, String.valueOf(userId), nudgeAtOf(lastLoginTime));
+    }
+
+    // 예약 방식으로 바뀌기 전부터 있던 사용자(또는 Redis가 비워진 경우)를 한 번 예약한다.
+    // 사용자를 id 순서로 페이지씩 읽고, 페이지마다 SMISMEMBER 한 번과 ZADD 한 번으로 처리한다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrapIfNeeded() {
+        Boolean first = redisTemplate.opsForValue().setIfAbsent(BOOTSTRAPPED_KEY, LocalDateTime.now().toString());
+        if (!Boolean.TRUE.equals(first)) {
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            long afterId = 0;
+            int scheduled = 0;
+            List<Users> page;
+            do {
+                page = userRepository.findPageAfterId(afterId, PageRequest.of(0, BOOTSTRAP_PAGE_SIZE));
+                if (page.isEmpty()) {
+                    break;
+                }
+                afterId = page.get(page.size() - 1).getId();
+
+                Object[] userIds = page.stream().map(user -> String.valueOf(user.getId())).toArray();
+                Map<Object, Boolean> nudged = redisTemplate.opsForSet()
+                        .isMember(DormantUserNudgeHandler.NO_ACTIVITY_KEY, userIds);
+
+                Map<String, Instant> dueAtByUser = new HashMap<>();
+                for (Users user : page) {
+                    String userId = String.valueOf(user.getId());
+                    if (nudged != null && Boolean.TRUE.equals(nudged.get(userId))) {
+                        continue; // 이미 알림을 받은 사용자는 다시 로그인할 때 예약된다
+                    }
+                    // 마지막 로그인 기록이 없으면 지금 기준으로 바로 처리한다
+                    LocalDateTime lastLogin = user.getLastLoginTime() != null
+                            ? user.getLastLoginTime()
+                            : now.minus(DormantUserNudgeHandler.DORMANT_AFTER);
+                    dueAtByUser.put(userId, nudgeAtOf(lastLogin));
+                }
+                delayedTaskScheduler.scheduleAll(DormantUserNudgeHandler.TYPE, dueAtByUser);
+                scheduled += dueAtByUser.size();
+            } while (page.size() == BOOTSTRAP_PAGE_SIZE);
+            log.info("휴면 알림 초기 예약: {}명", scheduled);
+        } catch (Exception e) {
+            redisTemplate.delete(BOOTSTRAPPED_KEY);
+            log.error("휴면 알림 초기 예약 실패", e);
+        }
+    }
+
+    private static Instant nudgeAtOf(LocalDateTime lastLoginTime) {
+        return lastLoginTime.atZone(ZoneId.systemDefault()).toInstant().plus(DormantUserNudgeHandler.DORMANT_AFTER);
+    }
+}
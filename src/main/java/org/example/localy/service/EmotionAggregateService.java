@@ -0,0 +1,195 @@
+package org.example.localy.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 분 단위 감정 집계.
+ * ChatWorker가 메시지를 처리할 때마다 메시지 시각의 분 버킷에 (개수, 점수 합)을 누적하고 (시간마다 Redis 해시 하나),
+ * EmotionScheduler는 원본 메시지 대신 이 값으로 윈도우 가중 평균을 계산한다.
+ * 가중치 max(0, 60 - 경과 분)을 분 버킷마다 따로 적용하므로, 스케줄러가 정각보다 늦게 돌아도 DB 계산과 분 단위까지 같다.
+ * 집계는 처음 기록을 시작한 시각(since) 이후의 날짜에만 쓴다. 배포 당일이나 Redis가 비워진 날은 집계에 빠진 사용자가 있어 DB로 계산한다.
+ * 누적에 실패한 메시지가 있는 날도 날짜별 표시(dirty)를 남겨 DB로 계산한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmotionAggregateService {
+
+    private static final String KEY_PREFIX = "localy:emotion:agg:";
+    private static final String MINUTE_KEY_PREFIX = KEY_PREFIX + "minute:";
+    private static final String USERS_KEY_PREFIX = KEY_PREFIX + "users:";
+    // 집계를 처음 기록한 시각 (epoch ms). 만료되지 않으며, Redis가 비워지면 다시 기록된다.
+    private static final String SINCE_KEY = KEY_PREFIX + "since";
+    private static final String LAST_WINDOW_KEY_PREFIX = KEY_PREFIX + "last_window:";
+    // 누적에 실패한 메시지가 있는 날짜. 있으면 그날 사용자 목록을 쓰지 않는다.
+    private static final String DIRTY_KEY_PREFIX = KEY_PREFIX + "dirty:";
+    private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    // 자정을 넘겨 실행되는 전날 마지막 윈도우까지 읽을 수 있게 하루 넘게 보관한다
+    private static final Duration TTL = Duration.ofHours(36);
+    private static final long WINDOW_MINUTES = 60;
+
+    /*
+     * KEYS[1]=시간 해시, KEYS[2]=날짜별 사용자 집합, KEYS[3]=since
+     * ARGV[1]=분(0~59), ARGV[2]=점수, ARGV[3]=userId, ARGV[4]=TTL(ms), ARGV[5]=현재 시각(epoch ms)
+     */
+    private static final DefaultRedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HINCRBY', KEYS[1], 'c:' .. ARGV[1], 1) " +
+            "redis.call('HINCRBYFLOAT', KEYS[1], 's:' .. ARGV[1], ARGV[2]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[4]) " +
+            "redis.call('SADD', KEYS[2], ARGV[3]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[4]) " +
+            "redis.call('SET', KEYS[3], ARGV[5], 'NX') " +
+            "return 1",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // Redis 장애로 dirty 표시조차 남기지 못한 날짜. 다음 누적 때 다시 표시한다.
+    private final Set<LocalDate> unmarkedDirtyDates = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 사용자 메시지 하나의 감정 점수(메시지 처리 후 감정 수치)를 메시지 시각의 분 버킷에 누적한다.
+     */
+    public void record(Long userId, LocalDateTime createdAt, int emotionAfter) {
+        if (!unmarkedDirtyDates.isEmpty()) {
+            List.copyOf(unmarkedDirtyDates).forEach(this::markDirty);
+        }
+        try {
+            redisTemplate.execute(RECORD_SCRIPT,
+                    List.of(hourKey(userId, createdAt.truncatedTo(ChronoUnit.HOURS)), usersKey(createdAt.toLocalDate()), SINCE_KEY),
+                    String.valueOf(createdAt.getMinute()),
+                    String.valueOf(emotionAfter),
+                    String.valueOf(userId),
+                    String.valueOf(TTL.toMillis()),
+                    String.valueOf(System.currentTimeMillis()));
+        } catch (Exception e) {
+            // 집계가 빠진 날은 EmotionScheduler가 DB 메시지로 계산한다
+            log.warn("감정 집계 누적 실패: userId={}, error={}", userId, e.getMessage());
+            markDirty(createdAt.toLocalDate());
+        }
+    }
+
+    private void markDirty(LocalDate date) {
+        try {
+            redisTemplate.opsForValue().set(DIRTY_KEY_PREFIX + date, "1", TTL);
+            unmarkedDirtyDates.remove(date);
+        } catch (Exception e) {
+            unmarkedDirtyDates.add(date);
+            log.error("감정 집계 누락 표시 실패, 다음 누적 때 다시 표시합니다: date={}, error={}", date, e.getMessage());
+        }
+    }
+
+    /**
+     * date에 메시지를 남긴 사용자. date 하루 전체를 집계하지 못했으면(배포 당일, Redis가 비워진 날, 누적에 실패한 날 등) empty.
+     */
+    public Optional<Set<Long>> usersOf(LocalDate date) {
+        if (unmarkedDirtyDates.contains(date)) {
+            log.info("{} 감정 집계 누적에 실패한 메시지가 있어 DB로 계산합니다", date);
+            return Optional.empty();
+        }
+
+        List<String> values = redisTemplate.opsForValue().multiGet(List.of(SINCE_KEY, DIRTY_KEY_PREFIX + date));
+        String since = values != null ? values.get(0) : null;
+        if (since == null || Long.parseLong(since) > toEpochMillis(date.atStartOfDay())) {
+            log.info("{} 감정 집계가 하루 전체를 담고 있지 않아 DB로 계산합니다 (since={})", date, since);
+            return Optional.empty();
+        }
+        if (values.get(1) != null) {
+            log.info("{} 감정 집계 누적에 실패한 메시지가 있어 DB로 계산합니다", date);
+            return Optional.empty();
+        }
+
+        Set<String> members = redisTemplate.opsForSet().members(usersKey(date));
+        if (members == null || members.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(members.stream().map(Long::valueOf).collect(Collectors.toSet()));
+    }
+
+    /**
+     * [now - 1시간, now] 윈도우의 가중 평균. 가중치는 분 버킷마다 max(0, 60 - 경과 분).
+     * 스케줄러가 정각보다 늦게 돌면 윈도우가 두 시간 해시에 걸치므로 둘 다 읽는다. 메시지가 없으면 empty.
+     */
+    public OptionalDouble weightedAverage(Long userId, LocalDateTime now) {
+        LocalDateTime nowMinute = now.truncatedTo(ChronoUnit.MINUTES);
+        LocalDateTime windowStart = nowMinute.minusMinutes(WINDOW_MINUTES);
+
+        long count = 0;
+        double totalWeightedScore = 0;
+        double totalWeight = 0;
+        for (LocalDateTime hourStart = windowStart.truncatedTo(ChronoUnit.HOURS); !hourStart.isAfter(nowMinute); hourStart = hourStart.plusHours(1)) {
+            Map<Object, Object> values = redisTemplate.opsForHash().entries(hourKey(userId, hourStart));
+            for (int minute = 0; minute < 60; minute++) {
+                LocalDateTime bucket = hourStart.plusMinutes(minute);
+                long bucketCount = parseLong(values.get("c:" + minute));
+                if (bucketCount == 0 || bucket.isBefore(windowStart) || bucket.isAfter(nowMinute)) {
+                    continue;
+                }
+                long minutesAgo = Duration.between(bucket, nowMinute).toMinutes();
+                double weight = Math.max(0, WINDOW_MINUTES - minutesAgo);
+                count += bucketCount;
+                totalWeightedScore += weight * parseDouble(values.get("s:" + minute));
+                totalWeight += weight * bucketCount;
+            }
+        }
+
+        if (count == 0) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of(totalWeight > 0 ? totalWeightedScore / totalWeight : 0.0);
+    }
+
+    // date에 마지막으로 저장한 윈도우 평균 (메시지가 없는 윈도우 보정용)
+    public OptionalDouble lastWindowScore(Long userId, LocalDate date) {
+        Object value = redisTemplate.opsForHash().get(LAST_WINDOW_KEY_PREFIX + date, String.valueOf(userId));
+        return value != null ? OptionalDouble.of(Double.parseDouble(value.toString())) : OptionalDouble.empty();
+    }
+
+    public void recordWindowScore(Long userId, LocalDate date, double avgScore) {
+        String key = LAST_WINDOW_KEY_PREFIX + date;
+        try {
+            redisTemplate.opsForHash().put(key, String.valueOf(userId), String.valueOf(avgScore));
+            redisTemplate.expire(key, TTL);
+        } catch (Exception e) {
+            log.warn("윈도우 점수 기록 실패: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    private static String hourKey(Long userId, LocalDateTime hourStart) {
+        return MINUTE_KEY_PREFIX + userId + ":" + hourStart.format(HOUR_FORMAT);
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static String usersKey(LocalDate date) {
+        return USERS_KEY_PREFIX + date;
+    }
+
+    private static long parseLong(Object value) {
+        return value != null ? Long.parseLong(value.toString()) : 0L;
+    }
+
+    private static double parseDouble(Object value) {
+        return value != null ? Double.parseDouble(value.toString()) : 0.0;
+    }
+}
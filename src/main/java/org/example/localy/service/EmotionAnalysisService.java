@@ -8,7 +8,7 @@ import org.example.localy.repository.EmotionWindowResultRepository;
 import org.example.localy.service.Chat.GPTService;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @Service
@@ -16,16 +16,8 @@ import java.util.Map;
 public class EmotionAnalysisService {
 
     private final EmotionWindowResultRepository resultRepository;
-    private final GPTService gptService;
-
-    private static final Map<String, List<String>> EMOTION_WORDS = Map.of(
-            "VERY_NEG", List.of("절망", "무기력", "불안", "공허"),
-            "NEG", List.of("짜증", "실망", "걱정", "예민함", "답답함"),
-            "NEUTRAL", List.of("담담함", "무난함", "심심함", "어수선함"),
-            "POS_LIGHT", List.of("차분함", "안정감", "편안함", "여유로움"),
-            "POS", List.of("즐거움", "만족", "활기참", "설렘", "뿌듯함"),
-            "VERY_POS", List.of("행복", "감동", "신남", "황홀함", "기쁨")
-    );
+    private final EmotionKeywordPicker emotionKeywordPicker;
+    private final EmotionWindowService emotionWindowService;
 
 //    public String mapScoreToCategory(double score) {
 //        if (score <= 16) return "VERY_NEG";
@@ -45,6 +37,22 @@ public class EmotionAnalysisService {
         return new SentimentResult("VERY_POS", 6);
     }
 
+    /**
+     * 윈도우 분석 전에 0~100 점수 버킷별 감정 단어 후보를 한 번에 채워 둔다.
+     * 버킷(5점 단위) 하나에 걸치는 감정 구간이 둘일 수 있어 (구간, 버킷) 쌍으로 만든다.
+     */
+    public void warmUpEmotionKeywords() {
+        Map<String, GPTService.EmotionKeywordQuery> queries = new LinkedHashMap<>();
+        for (int bucket = 0; bucket <= 100; bucket += 5) {
+            for (double score : new double[]{bucket - 2.5, bucket, bucket + 2.49}) {
+                String category = mapScoreToCategory(score).category();
+                String key = EmotionKeywordPicker.keyOf(category, bucket);
+                queries.putIfAbsent(key, new GPTService.EmotionKeywordQuery(key, category, bucket));
+            }
+        }
+        emotionKeywordPicker.warmUp(queries.values());
+    }
+
     // 유저별 감정 분석 후 DB 저장
     public EmotionWindowResult saveWindowResult(Long userId, String window, double avgScore) {
 
@@ -52,12 +60,7 @@ public class EmotionAnalysisService {
         String category = res.category();
         Integer code = res.code();
 
-        String selectedWord;
-        try {
-            selectedWord = gptService.pickEmotionKeyword(category, avgScore);
-        } catch (Exception e) {
-            selectedWord = EMOTION_WORDS.get(category).get(0);
-        }
+        String selectedWord = emotionKeywordPicker.pick(category, avgScore);
 
         EmotionWindowResult result = EmotionWindowResult.builder()
                 .userId(userId)
@@ -67,7 +70,9 @@ public class EmotionAnalysisService {
                 .section(code)
                 .build();
 
-        return resultRepository.save(result);
+        EmotionWindowResult saved = resultRepository.save(result);
+        emotionWindowService.record(saved);
+        return saved;
     }
 
 }
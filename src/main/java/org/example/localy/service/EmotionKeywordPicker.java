@@ -0,0 +1,157 @@
+package org.example.localy.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.localy.service.Chat.GPTService;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 윈도우 감정 결과에 붙일 감정 단어 선택기.
+ * 답이 구간마다 단어 몇 개뿐이라 사용자마다 GPT를 부르지 않고, (감정 구간, 5점 단위 점수 버킷)별 후보 단어를 캐시해 두고 그중 하나를 고른다.
+ * 후보가 없는 버킷은 한 번의 프롬프트로 모아서 받아 온다. GPT 호출이 실패하면 기본 단어표(EMOTION_WORDS)에서 고른다.
+ * L1: 서버 내 Caffeine, L2: Redis 해시 (인스턴스 간 공유, 하루 지나면 새 후보로 교체)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmotionKeywordPicker {
+
+    private static final String KEY = "localy:emotion:keywords";
+    private static final Duration L2_TTL = Duration.ofDays(1);
+    private static final Duration L1_TTL = Duration.ofMinutes(30);
+    private static final int SCORE_BUCKET = 5;
+    private static final int WORDS_PER_BUCKET = 4;
+    // 한 프롬프트에 넣을 최대 버킷 수 (응답 길이 제한)
+    private static final int MAX_QUERIES_PER_REQUEST = 40;
+
+    /*
+     * 후보를 저장하고, 만료가 없을 때만 만료를 건다. 처음 채운 시각부터 하루가 지나면 전체 후보가 새로 바뀐다.
+     * 저장과 만료를 한 번에 해, 저장 직후 실패하거나 그사이 키가 만료돼 다시 생겨도 만료 없는 해시가 남지 않는다.
+     * KEYS[1]=후보 해시 / ARGV[1]=TTL(ms), ARGV[2..]=버킷, 후보 쌍
+     */
+    private static final DefaultRedisScript<Long> STORE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HSET', KEYS[1], unpack(ARGV, 2)) " +
+            "if redis.call('PTTL', KEYS[1]) < 0 then redis.call('PEXPIRE', KEYS[1], ARGV[1]) end " +
+            "return 1",
+            Long.class);
+
+    private static final Map<String, List<String>> EMOTION_WORDS = Map.of(
+            "VERY_NEG", List.of("절망", "무기력", "불안", "공허"),
+            "NEG", List.of("짜증", "실망", "걱정", "예민함", "답답함"),
+            "NEUTRAL", List.of("담담함", "무난함", "심심함", "어수선함"),
+            "POS_LIGHT", List.of("차분함", "안정감", "편안함", "여유로움"),
+            "POS", List.of("즐거움", "만족", "활기참", "설렘", "뿌듯함"),
+            "VERY_POS", List.of("행복", "감동", "신남", "황홀함", "기쁨")
+    );
+
+    private final GPTService gptService;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final Cache<String, List<String>> localCache = Caffeine.newBuilder()
+            .maximumSize(500)
+            .expireAfterWrite(L1_TTL)
+            .build();
+
+    public static int bucketOf(double score) {
+        return (int) Math.round(score / SCORE_BUCKET) * SCORE_BUCKET;
+    }
+
+    public static String keyOf(String category, int bucket) {
+        return category + ":" + bucket;
+    }
+
+    /**
+     * 감정 구간과 점수에 맞는 단어를 하나 고른다. 캐시에 후보가 없으면 그 버킷만 GPT에 요청한다.
+     */
+    public String pick(String category, double avgScore) {
+        int bucket = bucketOf(avgScore);
+        String key = keyOf(category, bucket);
+
+        // GPT 호출은 Caffeine 계산 함수 밖에서 한다 (계산 중에는 같은 해시 구간의 다른 키 갱신까지 막히므로)
+        List<String> candidates = localCache.getIfPresent(key);
+        if (candidates == null) {
+            candidates = readRemote(key);
+            if (candidates.isEmpty()) {
+                List<String> fetched = fetch(List.of(new GPTService.EmotionKeywordQuery(key, category, bucket))).get(key);
+                // GPT가 실패하면 기본 단어표를 L1 TTL 동안 써서, 장애 중에 사용자마다 다시 호출하지 않게 한다
+                candidates = fetched != null ? fetched : EMOTION_WORDS.getOrDefault(category, EMOTION_WORDS.get("NEUTRAL"));
+            }
+            localCache.put(key, candidates);
+        }
+        return candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+    }
+
+    /**
+     * 곧 쓰일 버킷들 중 후보가 없는 것을 한 번에 채운다. 이미 채워진 버킷은 GPT를 부르지 않는다.
+     */
+    public void warmUp(Collection<GPTService.EmotionKeywordQuery> queries) {
+        Map<Object, Object> cached = redisTemplate.opsForHash().entries(KEY);
+        List<GPTService.EmotionKeywordQuery> missing = queries.stream()
+                .filter(q -> !cached.containsKey(q.key()))
+                .toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        for (int from = 0; from < missing.size(); from += MAX_QUERIES_PER_REQUEST) {
+            localCache.putAll(fetch(missing.subList(from, Math.min(from + MAX_QUERIES_PER_REQUEST, missing.size()))));
+        }
+        log.info("감정 단어 후보 채움: {}개 버킷", missing.size());
+    }
+
+    // GPT에서 받은 후보를 Redis에 저장하고 돌려준다 (L1은 호출하는 쪽에서 채운다)
+    private Map<String, List<String>> fetch(List<GPTService.EmotionKeywordQuery> queries) {
+        Map<String, List<String>> keywords;
+        try {
+            Set<String> requested = queries.stream().map(GPTService.EmotionKeywordQuery::key).collect(Collectors.toSet());
+            keywords = gptService.pickEmotionKeywords(queries, WORDS_PER_BUCKET).entrySet().stream()
+                    .filter(entry -> requested.contains(entry.getKey()))
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        } catch (Exception e) {
+            log.warn("감정 단어 일괄 요청 실패: {}개 버킷, error={}", queries.size(), e.getMessage());
+            return Map.of();
+        }
+
+        if (!keywords.isEmpty()) {
+            List<Object> args = new ArrayList<>();
+            args.add(String.valueOf(L2_TTL.toMillis()));
+            keywords.forEach((key, words) -> {
+                args.add(key);
+                args.add(String.join(",", words));
+            });
+            try {
+                redisTemplate.execute(STORE_SCRIPT, List.of(KEY), args.toArray());
+            } catch (Exception e) {
+                log.warn("감정 단어 후보 저장 실패: {}", e.getMessage());
+            }
+        }
+        return keywords;
+    }
+
+    private List<String> readRemote(String key) {
+        try {
+            Object value = redisTemplate.opsForHash().get(KEY, key);
+            if (value == null) {
+                return List.of();
+            }
+            return new ArrayList<>(Arrays.asList(value.toString().split(",")));
+        } catch (Exception e) {
+            log.warn("감정 단어 후보 조회 실패: key={}, error={}", key, e.getMessage());
+            return List.of();
+        }
+    }
+}
@@ -1,42 +1,167 @@
 package org.example.localy.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.localy.entity.EmotionWindowResult;
 import org.example.localy.repository.EmotionWindowResultRepository;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * 사용자의 최빈 감정 구간/감정 단어 분석.
+ * 윈도우 결과 전체를 매번 GROUP BY 하지 않고, 사용자별 Redis 해시(localy:emotion:freq:{userId})에 개수를 쌓아 두고 읽는다.
+ * 필드: s:{section} = 구간별 개수, e:{section}:{emotion} = 구간 안 감정 단어별 개수, upto = DB에서 채운 마지막 결과 id.
+ * 해시가 없으면(처음 조회, 만료, Redis 초기화) DB에서 한 번 채운다. upto 이하인 결과는 이미 반영된 것이라 누적하지 않는다.
+ * upto는 개수를 센 같은 GROUP BY 쿼리의 MAX(id)로 정한다. MAX(id)를 따로 읽고 나서 세면, 그 사이에 커밋된 결과가
+ * 개수에도 빠지고(id가 upto보다 크면 개수에 안 들어감) 누적도 거절되는(upto보다 작으면) 식으로 어긋날 수 있다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmotionWindowService {
 
+    private static final String KEY_PREFIX = "localy:emotion:freq:";
+    private static final String FIELD_UPTO = "upto";
+    private static final String SECTION_PREFIX = "s:";
+    private static final String EMOTION_PREFIX = "e:";
+    // 오래 조회하지 않은 사용자의 해시는 만료시키고, 다시 조회할 때 DB에서 채운다
+    private static final Duration TTL = Duration.ofDays(30);
+
+    // 해시가 있고, 해시를 채운 시점 이후에 저장된 결과일 때만 누적한다
+    private static final DefaultRedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "local upto = redis.call('HGET', KEYS[1], 'upto') " +
+            "if not upto or tonumber(ARGV[1]) <= tonumber(upto) then return 0 end " +
+            "redis.call('HINCRBY', KEYS[1], ARGV[2], 1) " +
+            "redis.call('HINCRBY', KEYS[1], ARGV[3], 1) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[4]) " +
+            "return 1",
+            Long.class);
+
+    // 다른 요청이 먼저 채웠으면 덮어쓰지 않는다
+    private static final DefaultRedisScript<Long> BACKFILL_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "redis.call('HSET', KEYS[1], unpack(ARGV, 2)) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
     private final EmotionWindowResultRepository repository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public static String keyOf(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    /**
+     * 저장된 윈도우 결과 하나를 개수에 더한다. (EmotionAnalysisService.saveWindowResult)
+     */
+    public void record(EmotionWindowResult result) {
+        try {
+            redisTemplate.execute(INCREMENT_SCRIPT, List.of(keyOf(result.getUserId())),
+                    String.valueOf(result.getId()),
+                    SECTION_PREFIX + result.getSection(),
+                    EMOTION_PREFIX + result.getSection() + ":" + result.getEmotion(),
+                    String.valueOf(TTL.toMillis()));
+        } catch (Exception e) {
+            // 누적이 빠지면 틀린 값이 남으므로 해시를 지워 다음 조회 때 DB에서 다시 채우게 한다
+            log.warn("감정 빈도 누적 실패: userId={}, error={}", result.getUserId(), e.getMessage());
+            evict(result.getUserId());
+        }
+    }
+
+    public void evict(Long userId) {
+        try {
+            redisTemplate.delete(keyOf(userId));
+        } catch (Exception e) {
+            log.warn("감정 빈도 삭제 실패: userId={}, error={}", userId, e.getMessage());
+        }
+    }
 
     public Map<String, Object> analyzeUserEmotion(Long userId) {
+        Map<String, Long> counts = loadCounts(userId);
 
         // 1) 가장 많이 등장한 section 찾기
-        List<Object[]> sectionCounts = repository.findSectionCountByUser(userId);
+        Integer mostFrequentSection = null;
+        long maxSectionCount = 0;
+        for (Map.Entry<String, Long> entry : counts.entrySet()) {
+            if (entry.getKey().startsWith(SECTION_PREFIX) && entry.getValue() > maxSectionCount) {
+                maxSectionCount = entry.getValue();
+                mostFrequentSection = Integer.valueOf(entry.getKey().substring(SECTION_PREFIX.length()));
+            }
+        }
 
-        if (sectionCounts.isEmpty()) {
+        if (mostFrequentSection == null) {
             Map<String, Object> result = new HashMap<>();
             result.put("mostFrequentSection", null);
             result.put("mostFrequentEmotion", null);
             return result;
         }
 
-        Integer mostFrequentSection = (Integer) sectionCounts.get(0)[0];
-
         // 2) 해당 section에서 emotion 최빈값 찾기
-        List<Object[]> emotionCounts =
-                repository.findEmotionCountByUserAndSection(userId, mostFrequentSection);
-
-        String mostFrequentEmotion = (String) emotionCounts.get(0)[0];
+        String emotionPrefix = EMOTION_PREFIX + mostFrequentSection + ":";
+        String mostFrequentEmotion = null;
+        long maxEmotionCount = 0;
+        for (Map.Entry<String, Long> entry : counts.entrySet()) {
+            if (entry.getKey().startsWith(emotionPrefix) && entry.getValue() > maxEmotionCount) {
+                maxEmotionCount = entry.getValue();
+                mostFrequentEmotion = entry.getKey().substring(emotionPrefix.length());
+            }
+        }
 
         return Map.of(
                 "mostFrequentSection", mostFrequentSection,
                 "mostFrequentEmotion", mostFrequentEmotion
         );
     }
-}
\ No newline at end of file
+
+    // Redis 해시를 읽고, 없으면 DB에서 채운다. Redis를 쓸 수 없으면 DB 집계를 그대로 쓴다.
+    private Map<String, Long> loadCounts(Long userId) {
+        try {
+            Map<Object, Object> cached = redisTemplate.opsForHash().entries(keyOf(userId));
+            if (!cached.isEmpty()) {
+                Map<String, Long> counts = new HashMap<>();
+                cached.forEach((field, value) -> counts.put(field.toString(), Long.parseLong(value.toString())));
+                return counts;
+            }
+        } catch (Exception e) {
+            log.warn("감정 빈도 조회 실패, DB로 계산: userId={}, error={}", userId, e.getMessage());
+            return countFromDb(userId);
+        }
+
+        Map<String, Long> counts = countFromDb(userId);
+        List<String> args = new ArrayList<>(counts.size() * 2 + 1);
+        args.add(String.valueOf(TTL.toMillis()));
+        counts.forEach((field, count) -> {
+            args.add(field);
+            args.add(String.valueOf(count));
+        });
+        try {
+            redisTemplate.execute(BACKFILL_SCRIPT, List.of(keyOf(userId)), args.toArray());
+        } catch (Exception e) {
+            log.warn("감정 빈도 채우기 실패: userId={}, error={}", userId, e.getMessage());
+        }
+        return counts;
+    }
+
+    // 개수와 함께 센 결과의 마지막 id를 upto로 담는다
+    private Map<String, Long> countFromDb(Long userId) {
+        Map<String, Long> counts = new HashMap<>();
+        long upto = 0L;
+        for (Object[] row : repository.countSectionEmotionsByUser(userId)) {
+            Integer section = (Integer) row[0];
+            long count = (Long) row[2];
+            counts.merge(SECTION_PREFIX + section, count, Long::sum);
+            counts.put(EMOTION_PREFIX + section + ":" + row[1], count);
+            upto = Math.max(upto, (Long) row[3]);
+        }
+        counts.put(FIELD_UPTO, upto);
+        return counts;
+    }
+}
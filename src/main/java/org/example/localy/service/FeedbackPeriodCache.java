@@ -0,0 +1,79 @@
+package org.example.localy.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 지난 기간(일/주/월)의 감정 피드백 캐시.
+ * 끝난 기간의 윈도우/일일 결과는 더 바뀌지 않으므로, 한 번 계산한 응답을 사용자별 Redis 해시(localy:feedback:{userId})에 저장해 그대로 돌려준다.
+ * 아직 끝나지 않은 기간은 캐시하지 않고 매번 계산한다. 결과가 비어 있으면(집계가 늦어졌거나 실패한 경우일 수 있음) 저장하지 않고 다음 조회 때 다시 계산한다.
+ * 마지막 날의 일일 집계(DayEmotionScheduler, 다음 날 00시)가 끝난 뒤에 저장되도록, 마지막 날이 그저께 이전인 기간만 끝난 것으로 본다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedbackPeriodCache {
+
+    private static final String KEY_PREFIX = "localy:feedback:";
+    // 오래 조회하지 않은 사용자의 캐시는 만료시키고, 다시 조회할 때 계산한다
+    private static final Duration TTL = Duration.ofDays(30);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * lastDate로 끝나는 기간의 응답. 끝난 기간이면 캐시를 쓰고, 없으면 loader로 계산해 비어 있지 않을 때만 저장한다.
+     *
+     * @param field   사용자 해시 안의 기간 식별자 (예: "day:2025-11-03", "month:2025-11")
+     * @param isEmpty 계산 결과에 기록이 하나도 없는지
+     */
+    public <T> T get(Long userId, String field, LocalDate lastDate, TypeReference<T> type, Supplier<T> loader,
+                     Predicate<T> isEmpty) {
+        if (!isClosed(lastDate)) {
+            return loader.get();
+        }
+
+        String key = KEY_PREFIX + userId;
+        try {
+            Object cached = redisTemplate.opsForHash().get(key, field);
+            if (cached != null) {
+                return objectMapper.readValue(cached.toString(), type);
+            }
+        } catch (Exception e) {
+            log.warn("피드백 캐시 조회 실패: userId={}, field={}, error={}", userId, field, e.getMessage());
+        }
+
+        T value = loader.get();
+        if (value == null || isEmpty.test(value)) {
+            return value;
+        }
+        try {
+            redisTemplate.opsForHash().put(key, field, objectMapper.writeValueAsString(value));
+            redisTemplate.expire(key, TTL);
+        } catch (Exception e) {
+            log.warn("피드백 캐시 저장 실패: userId={}, field={}, error={}", userId, field, e.getMessage());
+        }
+        return value;
+    }
+
+    public void evict(Long userId) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + userId);
+        } catch (Exception e) {
+            log.warn("피드백 캐시 삭제 실패: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    private static boolean isClosed(LocalDate lastDate) {
+        return lastDate.isBefore(LocalDate.now().minusDays(1));
+    }
+}
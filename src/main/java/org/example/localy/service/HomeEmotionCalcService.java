@@ -4,27 +4,41 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.localy.repository.EmotionDayResultRepository;
 import org.example.localy.repository.EmotionWindowResultRepository;
-import org.example.localy.repository.UserRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
+/**
+ * 홈 화면의 주간 감정 요약 (이번 주 최빈 감정, 지난주 대비 행복지수 변화)을 계산해 사용자별 Redis 해시에 저장한다.
+ * 사용자마다 쿼리를 돌리지 않고, 지난 실행 이후 윈도우 결과가 생긴 사용자만 골라 페이지 단위로 묶어서 집계한다.
+ * 페이지마다 GROUP BY 쿼리 두 번, Redis 파이프라인 한 번이다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class HomeEmotionCalcService {
 
+    public static final String SUMMARY_KEY_PREFIX = "localy:home:summary:";
+    public static final String FIELD_EMOTION = "emotion";
+    public static final String FIELD_HAPPINESS_DIFF = "happiness_diff";
+    public static final String NO_EMOTION = "없음";
+
+    private static final String LAST_RUN_KEY = "localy:home:summary:last_run";
+    private static final int PAGE_SIZE = 500;
+    private static final double DEFAULT_AVG = 50;
+
     private final EmotionWindowResultRepository windowRepo;
     private final EmotionDayResultRepository dayRepo;
     private final RedisTemplate<String, String> redisTemplate;
-    private final UserRepository userRepository; // 모든 유저 ID 조회용
 
     // 이번 주 시작 ~ 끝
     private LocalDateTime getStartOfWeek() {
@@ -54,74 +68,98 @@ public class HomeEmotionCalcService {
     }
 
     /**
-     * 1) 이번주 최빈 감정 계산
+     * 지난 실행 이후 요약이 바뀌었을 수 있는 사용자의 요약을 다시 계산한다. 갱신한 사용자 수를 돌려준다.
      */
-    private String calcMostFrequentEmotion(Long userId) {
-        List<String> emotions = windowRepo.findEmotionsByUserAndWeek(
-                userId,
-                getStartOfWeek(),
-                getEndOfWeek()
-        );
-
-        if (emotions.isEmpty()) return "없음";
-
-        return emotions.stream()
-                .collect(Collectors.groupingBy(e -> e, Collectors.counting()))
-                .entrySet()
-                .stream()
-                .max(Map.Entry.comparingByValue())
-                .get()
-                .getKey();
+    public int refreshSummaries() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = changedSince();
+        log.info("홈 감정 요약 갱신 시작: since={}", since);
+
+        int refreshed = 0;
+        long afterId = 0L;
+        while (true) {
+            List<Long> userIds = windowRepo.findUserIdsActiveSince(since, afterId, PageRequest.of(0, PAGE_SIZE));
+            if (userIds.isEmpty()) {
+                break;
+            }
+
+            writeSummaries(userIds, calcMostFrequentEmotions(userIds), calcHappinessDiffs(userIds));
+            refreshed += userIds.size();
+            afterId = userIds.get(userIds.size() - 1);
+        }
+
+        redisTemplate.opsForValue().set(LAST_RUN_KEY, startedAt.toString());
+        log.info("홈 감정 요약 갱신 완료: {}명", refreshed);
+        return refreshed;
     }
 
     /**
-     * 2) 지난주 vs 이번주 평균 행복지수 변화율
+     * 다시 계산할 사용자 기준 시각.
+     * 같은 주 안에서는 지난 실행 이후 활동한 사용자만 요약이 바뀐다.
+     * 주가 바뀌면 지난주/이번주 범위가 밀리므로, 이전 요약에 반영됐던 지지난주부터 활동한 사용자를 모두 다시 계산한다.
      */
-    private double calcHappinessDiff(Long userId) {
-
-        List<Double> lastWeek = dayRepo.findAvgScoresByDateRange(
-                userId, getLastWeekStart(), getLastWeekEnd()
-        );
-
-        log.info("lastWeek: {}", lastWeek);
-
-        List<Double> thisWeek = dayRepo.findAvgScoresByDateRange(
-                userId, getThisWeekStart(), getThisWeekEnd()
-        );
-
-        log.info("thisWeek: {}", thisWeek);
-
-        double lastAvg = lastWeek.stream().mapToDouble(Double::doubleValue).average().orElse(50);
-        double thisAvg = thisWeek.stream().mapToDouble(Double::doubleValue).average().orElse(50);
-
-        log.info("lastAvg: {}, thisAvg: {}", lastAvg, thisAvg);
-
-        if (lastAvg == 0) return 0.0;
+    private LocalDateTime changedSince() {
+        LocalDateTime weekRollover = getLastWeekStart().minusWeeks(1).atStartOfDay();
+        String lastRun = redisTemplate.opsForValue().get(LAST_RUN_KEY);
+        if (lastRun == null) {
+            return weekRollover;
+        }
 
-        return (thisAvg - lastAvg);
+        LocalDateTime lastRunAt = LocalDateTime.parse(lastRun);
+        if (lastRunAt.isBefore(getStartOfWeek())) {
+            return weekRollover;
+        }
+        return lastRunAt;
     }
 
     /**
-     * 3) Redis 저장
+     * 1) 이번주 최빈 감정 계산 (윈도우 결과가 없는 사용자는 빠진다)
      */
-    private void saveToRedis(Long userId, String emotion, double diff) {
-        redisTemplate.opsForValue().set("localy:home:emotion:" + userId, emotion);
-        redisTemplate.opsForValue().set("localy:home:happiness_diff:" + userId, String.valueOf(diff));
+    private Map<Long, String> calcMostFrequentEmotions(List<Long> userIds) {
+        Map<Long, String> emotions = new HashMap<>();
+        Map<Long, Long> maxCounts = new HashMap<>();
+        for (Object[] row : windowRepo.countEmotionsByUsers(userIds, getStartOfWeek(), getEndOfWeek())) {
+            Long userId = (Long) row[0];
+            long count = (Long) row[2];
+            if (count > maxCounts.getOrDefault(userId, 0L)) {
+                maxCounts.put(userId, count);
+                emotions.put(userId, (String) row[1]);
+            }
+        }
+        return emotions;
     }
 
     /**
-     * 4) 전체 유저 처리
+     * 2) 지난주 vs 이번주 평균 행복지수 변화율 (일일 결과가 없는 사용자는 빠진다)
      */
-    @Transactional
-    public void updateAllUsers() {
-        List<Long> userIds = userRepository.findAllUserIds();
-
-        for (Long userId : userIds) {
-            String emotion = calcMostFrequentEmotion(userId);
-            log.info("emotion={}", emotion);
-            double diff = calcHappinessDiff(userId);
-            log.info("diff={}", diff);
-            saveToRedis(userId, emotion, diff);
+    private Map<Long, Double> calcHappinessDiffs(List<Long> userIds) {
+        Map<Long, Double> diffs = new HashMap<>();
+        List<Object[]> rows = dayRepo.findWeeklyAveragesByUsers(
+                userIds, getLastWeekStart(), getLastWeekEnd(), getThisWeekStart(), getThisWeekEnd());
+        for (Object[] row : rows) {
+            double lastAvg = row[1] != null ? ((Number) row[1]).doubleValue() : DEFAULT_AVG;
+            double thisAvg = row[2] != null ? ((Number) row[2]).doubleValue() : DEFAULT_AVG;
+            diffs.put((Long) row[0], lastAvg == 0 ? 0.0 : thisAvg - lastAvg);
         }
+        return diffs;
+    }
+
+    /**
+     * 3) Redis 저장 (사용자별 해시 하나, 페이지 단위 파이프라인)
+     */
+    private void writeSummaries(List<Long> userIds, Map<Long, String> emotions, Map<Long, Double> diffs) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (Long userId : userIds) {
+                    ops.opsForHash().putAll(SUMMARY_KEY_PREFIX + userId, Map.of(
+                            FIELD_EMOTION, emotions.getOrDefault(userId, NO_EMOTION),
+                            FIELD_HAPPINESS_DIFF, String.valueOf(diffs.getOrDefault(userId, 0.0))));
+                }
+                return null;
+            }
+        });
     }
 }
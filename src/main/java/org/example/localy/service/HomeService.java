@@ -11,7 +11,6 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -34,8 +33,6 @@ public class HomeService {
                 );
 
         // Bookmark → BookmarkItem 변환
-        return bookmarks.stream()
-                .map(placeService::convertToBookmarkItem)
-                .collect(Collectors.toList());
+        return placeService.convertToBookmarkItems(bookmarks);
     }
 }
@@ -1,5 +1,6 @@
 package org.example.localy.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.RequiredArgsConstructor;
 import org.example.localy.dto.dailyFeedback.EmotionDayDto;
 import org.example.localy.dto.dailyFeedback.MonthlyEmotionDto;
@@ -17,6 +18,7 @@ import java.util.*;
 public class MonthlyEmotionService {
 
     private final EmotionDayResultRepository repository;
+    private final FeedbackPeriodCache feedbackPeriodCache;
 
     public MonthlyEmotionDto getMonthlyEmotion(Long userId, String yearMonthStr) {
 
@@ -28,6 +30,14 @@ public class MonthlyEmotionService {
             yearMonth = YearMonth.now();
         }
 
+        // 지난 달은 캐시
+        return feedbackPeriodCache.get(userId, "month:" + yearMonth, yearMonth.atEndOfMonth(),
+                new TypeReference<MonthlyEmotionDto>() {}, () -> calcMonthlyEmotion(userId, yearMonth),
+                dto -> dto.getDays().isEmpty());
+    }
+
+    private MonthlyEmotionDto calcMonthlyEmotion(Long userId, YearMonth yearMonth) {
+
         LocalDate startDate = yearMonth.atDay(1);
         LocalDate endDate = yearMonth.atEndOfMonth();
 
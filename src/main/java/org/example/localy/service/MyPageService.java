@@ -6,6 +6,7 @@ import org.example.localy.common.exception.CustomException;
 import org.example.localy.common.exception.errorCode.AuthErrorCode;
 import org.example.localy.dto.MyPageDto;
 import org.example.localy.entity.Users;
+import org.example.localy.event.HomeDataChangedEvent;
 import org.example.localy.repository.ChatBotRepository;
 import org.example.localy.repository.NotificationReadRepository;
 import org.example.localy.repository.EmotionDayResultRepository;
@@ -13,11 +14,13 @@ import org.example.localy.repository.EmotionWindowResultRepository;
 import org.example.localy.repository.place.BookmarkRepository;
 import org.example.localy.repository.place.MissionRepository;
 import org.example.localy.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.example.localy.repository.place.MissionArchiveRepository;
+import org.example.localy.service.place.BookmarkTotalCache;
 
 @Slf4j
 @Service
@@ -38,6 +41,10 @@ public class MyPageService {
     private final EmotionDayResultRepository emotionDayResultRepository;
     private final EmotionWindowResultRepository emotionWindowResultRepository;
     private final MissionArchiveRepository missionArchiveRepository;
+    private final BookmarkTotalCache bookmarkTotalCache;
+    private final EmotionWindowService emotionWindowService;
+    private final FeedbackPeriodCache feedbackPeriodCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public String getEmailByUserId(Long userId) {
         Users user = userRepository.findById(userId)
@@ -140,10 +147,15 @@ public class MyPageService {
             missionRepository.deleteAllByUser(user);
             missionArchiveRepository.deleteAllByUser(user);
             bookmarkRepository.deleteAllByUser(user);
+            bookmarkTotalCache.evict(userId);
+            // 커밋 후 홈 캐시도 비운다 (미션/북마크가 모두 지워짐)
+            eventPublisher.publishEvent(new HomeDataChangedEvent(userId, HomeDataChangedEvent.Reason.BOOKMARK));
             notificationReadRepository.deleteAllByUser(user);
             chatBotRepository.deleteAllByUserId(userId);
             emotionDayResultRepository.deleteAllByUserId(userId);
             emotionWindowResultRepository.deleteAllByUserId(userId);
+            emotionWindowService.evict(userId);
+            feedbackPeriodCache.evict(userId);
             // 사용자 삭제
             userRepository.delete(user);
 
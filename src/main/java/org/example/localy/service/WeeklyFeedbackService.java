@@ -1,5 +1,6 @@
 package org.example.localy.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.RequiredArgsConstructor;
 import org.example.localy.dto.dailyFeedback.DailyEmotionDto;
 import org.example.localy.dto.dailyFeedback.WeekRangeDto;
@@ -16,9 +17,20 @@ import java.util.*;
 @RequiredArgsConstructor
 public class WeeklyFeedbackService {
 
+    // 일일 결과가 없는 요일의 점수
+    private static final int NO_SCORE = -1;
+
     private final EmotionDayResultRepository emotionDayResultRepository;
+    private final FeedbackPeriodCache feedbackPeriodCache;
 
     public WeeklyEmotionDto getWeeklyEmotion(Long userId, LocalDate startDate) {
+        // 지난 주는 캐시
+        return feedbackPeriodCache.get(userId, "week:" + startDate, startDate.plusDays(6),
+                new TypeReference<WeeklyEmotionDto>() {}, () -> calcWeeklyEmotion(userId, startDate),
+                dto -> dto.getEmotions().stream().allMatch(emotion -> emotion.getScore() == NO_SCORE));
+    }
+
+    private WeeklyEmotionDto calcWeeklyEmotion(Long userId, LocalDate startDate) {
 
         LocalDate endDate = startDate.plusDays(6);
 
@@ -27,7 +39,7 @@ public class WeeklyFeedbackService {
 
         // 기본값 score = 0
         Map<String, Integer> dayScoreMap = new HashMap<>();
-        days.forEach(d -> dayScoreMap.put(d, -1));
+        days.forEach(d -> dayScoreMap.put(d, NO_SCORE));
 
         // 👉 DB에서 가져오기
         List<EmotionDayResult> records =
@@ -0,0 +1,323 @@
+package org.example.localy.service.mission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.localy.entity.Notification;
+import org.example.localy.entity.place.Mission;
+import org.example.localy.event.HomeDataChangedEvent;
+import org.example.localy.repository.place.MissionRepository;
+import org.example.localy.service.NotificationService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 미션 마감 시각을 Redis Sorted Set(score = 처리 시각 epoch ms)으로 관리하는 큐.
+ * "3시간 남음" 알림과 만료 미션 삭제를 주기적인 테이블 스캔 대신, 처리 시각이 된 항목만 score 범위로 꺼내 일괄 처리한다.
+ * 꺼낼 항목이 없으면 MySQL은 건드리지 않는다. 폴링은 MissionDeadlineScheduler가 분산 잠금을 잡은 인스턴스에서만 실행한다.
+ * <p>
+ * 꺼낼 때는 지우지 않고 score를 "지금 + VISIBILITY_TIMEOUT_MS"로 옮겨 두고(DelayedTaskScheduler와 같은 클레임),
+ * 처리에 성공하면 지우고 실패하면 재시도 시각으로 옮긴다. 처리 도중 인스턴스가 죽어도 항목이 남아 있다가
+ * 가시성 제한 시간이 지나면 다시 꺼내진다 (최소 한 번 처리).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MissionDeadlineQueue {
+
+    private static final String REMINDER_KEY = "localy:mission:deadline:reminder";
+    private static final String EXPIRY_KEY = "localy:mission:deadline:expiry";
+    // 기존 미션을 한 번 큐에 적재했는지 표시 (Redis가 비워지면 다시 적재된다)
+    private static final String BOOTSTRAPPED_KEY = "localy:mission:deadline:bootstrapped";
+
+    private static final long REMINDER_BEFORE_HOURS = 3;
+    private static final int BATCH_SIZE = 100;
+    // 처리에 실패한 항목은 잠시 뒤 다시 꺼낸다
+    private static final long RETRY_DELAY_MS = 60_000;
+    // 꺼낸 뒤 이 시간 안에 처리를 마치지 못하면 (인스턴스 종료 등) 다시 꺼낸다
+    private static final long VISIBILITY_TIMEOUT_MS = 5 * 60 * 1000;
+
+    // 처리 시각이 지난 항목을 최대 ARGV[2]개 골라 score를 가시성 제한 시각(ARGV[3])으로 옮긴다 (다른 폴링이 다시 꺼내지 않도록 원자적으로)
+    private static final DefaultRedisScript<List> CLAIM_DUE_SCRIPT = new DefaultRedisScript<>(
+            "local items = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) " +
+            "for _, item in ipairs(items) do redis.call('ZADD', KEYS[1], ARGV[3], item) end " +
+            "return items",
+            List.class);
+
+    // 내가 꺼낸 그대로(score == ARGV[1])인 항목(ARGV[2..])만 지운다. 처리 중에 다시 예약됐으면 새 예약을 남긴다.
+    private static final DefaultRedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+            "local removed = 0 " +
+            "for i = 2, #ARGV do " +
+            "  local score = redis.call('ZSCORE', KEYS[1], ARGV[i]) " +
+            "  if score and tonumber(score) == tonumber(ARGV[1]) then removed = removed + redis.call('ZREM', KEYS[1], ARGV[i]) end " +
+            "end " +
+            "return removed",
+            Long.class);
+
+    // 내가 꺼낸 그대로(score == ARGV[1])인 항목(ARGV[3..])만 재시도 시각(ARGV[2])으로 옮긴다. 그사이 취소됐으면 되살리지 않는다.
+    private static final DefaultRedisScript<Long> RETRY_SCRIPT = new DefaultRedisScript<>(
+            "local moved = 0 " +
+            "for i = 3, #ARGV do " +
+            "  local score = redis.call('ZSCORE', KEYS[1], ARGV[i]) " +
+            "  if score and tonumber(score) == tonumber(ARGV[1]) then redis.call('ZADD', KEYS[1], ARGV[2], ARGV[i]) moved = moved + 1 end " +
+            "end " +
+            "return moved",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MissionRepository missionRepository;
+    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    private TransactionTemplate transactionTemplate;
+    private Counter remindedCounter;
+    private Counter expiredCounter;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        remindedCounter = Counter.builder("localy.mission.deadline.reminded")
+                .description("마감 3시간 전 알림을 보낸 미션 수")
+                .register(meterRegistry);
+        expiredCounter = Counter.builder("localy.mission.deadline.expired")
+                .description("마감 시각에 삭제된 미션 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 새로 저장한 미션의 알림/만료 시각을 등록한다. 트랜잭션 안이면 커밋된 뒤에 등록한다.
+     */
+    public void registerAfterCommit(Collection<Mission> missions) {
+        List<Mission> targets = missions.stream()
+                .filter(m -> m.getId() != null && m.getExpiresAt() != null)
+                .collect(Collectors.toList());
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    register(targets);
+                }
+            });
+        } else {
+            register(targets);
+        }
+    }
+
+    /**
+     * 완료한 미션은 마감 임박 알림을 보내지 않는다. 트랜잭션 안이면 완료가 커밋된 뒤에 취소한다.
+     * (롤백된 완료 처리가 알림만 지워 버리지 않도록)
+     */
+    public void cancelReminderAfterCommit(Long missionId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cancelReminder(missionId);
+                }
+            });
+        } else {
+            cancelReminder(missionId);
+        }
+    }
+
+    /**
+     * 처리 시각이 된 알림과 만료를 배치로 처리한다. 처리한 항목 수를 돌려준다.
+     */
+    public int processDue() {
+        bootstrapIfNeeded();
+
+        long now = System.currentTimeMillis();
+        long leaseUntil = now + VISIBILITY_TIMEOUT_MS;
+        int processed = 0;
+
+        List<Long> due;
+        while (!(due = claimDue(REMINDER_KEY, now, leaseUntil)).isEmpty()) {
+            sendReminders(due, leaseUntil);
+            processed += due.size();
+            if (due.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+
+        while (!(due = claimDue(EXPIRY_KEY, now, leaseUntil)).isEmpty()) {
+            expire(due, leaseUntil);
+            processed += due.size();
+            if (due.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+        return processed;
+    }
+
+    // 보낼 필요가 없어진 항목(완료/만료/삭제된 미션)도 처리한 것으로 보고 지운다. 실패한 항목만 재시도 시각으로 옮긴다.
+    private void sendReminders(List<Long> missionIds, long leaseUntil) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Mission> missions;
+        try {
+            missions = missionRepository.findAllById(missionIds);
+        } catch (Exception e) {
+            log.error("미션 마감 알림 대상 조회 실패, 잠시 뒤 재시도: ids={}", missionIds, e);
+            retry(REMINDER_KEY, missionIds, leaseUntil);
+            return;
+        }
+
+        List<Long> failed = new ArrayList<>();
+        for (Mission mission : missions) {
+            try {
+                if (Boolean.TRUE.equals(mission.getIsCompleted()) || !mission.getExpiresAt().isAfter(now)) {
+                    continue;
+                }
+                transactionTemplate.executeWithoutResult(status ->
+                        notificationService.createGeneralNotice(Notification.GeneralNoticeType.MISSIONTIME, mission.getId()));
+                remindedCounter.increment();
+                log.info("미션 {} 3시간 이내 만료 예정 알림 발송", mission.getTitle());
+            } catch (Exception e) {
+                log.error("미션 마감 알림 실패, 잠시 뒤 재시도: missionId={}", mission.getId(), e);
+                failed.add(mission.getId());
+            }
+        }
+
+        complete(REMINDER_KEY, missionIds.stream().filter(id -> !failed.contains(id)).collect(Collectors.toList()), leaseUntil);
+        retry(REMINDER_KEY, failed, leaseUntil);
+    }
+
+    private void expire(List<Long> missionIds, long leaseUntil) {
+        try {
+            List<Long> userIds = missionRepository.findUserIdsByIdIn(missionIds);
+            int deleted = missionRepository.deleteExpiredByIdIn(missionIds, LocalDateTime.now());
+            expiredCounter.increment(deleted);
+            log.info("만료된 미션 삭제: 대상 {}개, 삭제 {}개", missionIds.size(), deleted);
+
+            // 만료로 진행할 미션이 사라진 사용자의 홈 캐시를 비운다 (다음 미션은 사용자가 다시 들어올 때 생성된다)
+            userIds.forEach(userId ->
+                    eventPublisher.publishEvent(new HomeDataChangedEvent(userId, HomeDataChangedEvent.Reason.MISSION)));
+        } catch (Exception e) {
+            log.error("만료 미션 삭제 실패, 잠시 뒤 재시도: ids={}", missionIds, e);
+            retry(EXPIRY_KEY, missionIds, leaseUntil);
+            return;
+        }
+        complete(EXPIRY_KEY, missionIds, leaseUntil);
+    }
+
+    private void cancelReminder(Long missionId) {
+        try {
+            redisTemplate.opsForZSet().remove(REMINDER_KEY, String.valueOf(missionId));
+        } catch (Exception e) {
+            log.warn("미션 알림 예약 취소 실패: missionId={}, error={}", missionId, e.getMessage());
+        }
+    }
+
+    private void register(List<Mission> missions) {
+        long now = System.currentTimeMillis();
+        try {
+            for (Mission mission : missions) {
+                long expiresAt = toEpochMillis(mission.getExpiresAt());
+                if (!Boolean.TRUE.equals(mission.getIsCompleted())) {
+                    // 이미 3시간 이내로 남았으면 다음 폴링에서 바로 알린다
+                    long remindAt = Math.max(now, expiresAt - REMINDER_BEFORE_HOURS * 3_600_000L);
+                    if (remindAt < expiresAt) {
+                        schedule(REMINDER_KEY, mission.getId(), remindAt);
+                    }
+                }
+                schedule(EXPIRY_KEY, mission.getId(), expiresAt);
+            }
+        } catch (Exception e) {
+            // 등록에 실패한 미션은 MissionCleanupScheduler의 일일 보정에서 정리된다
+            log.warn("미션 마감 예약 실패: error={}", e.getMessage());
+        }
+    }
+
+    // 큐가 처음 쓰이거나 Redis가 비워졌을 때 DB에 남아 있는 미션을 한 번 적재한다
+    private void bootstrapIfNeeded() {
+        Boolean first = redisTemplate.opsForValue().setIfAbsent(BOOTSTRAPPED_KEY, LocalDateTime.now().toString());
+        if (!Boolean.TRUE.equals(first)) {
+            return;
+        }
+
+        try {
+            List<Mission> missions = missionRepository.findAll();
+            register(missions);
+            log.info("미션 마감 큐 초기 적재: {}개", missions.size());
+        } catch (Exception e) {
+            redisTemplate.delete(BOOTSTRAPPED_KEY);
+            throw e;
+        }
+    }
+
+    private void schedule(String key, Long missionId, long dueAtMillis) {
+        redisTemplate.opsForZSet().add(key, String.valueOf(missionId), dueAtMillis);
+    }
+
+    // 정리 자체가 실패해도 나머지 항목은 계속 처리한다. 남은 항목은 가시성 제한 시간이 지나면 다시 꺼내진다.
+    private void complete(String key, List<Long> missionIds, long leaseUntil) {
+        if (missionIds.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.execute(COMPLETE_SCRIPT, List.of(key), scriptArgs(missionIds, String.valueOf(leaseUntil)));
+        } catch (Exception e) {
+            log.error("미션 마감 처리 완료 표시 실패: key={}, ids={}", key, missionIds, e);
+        }
+    }
+
+    private void retry(String key, List<Long> missionIds, long leaseUntil) {
+        if (missionIds.isEmpty()) {
+            return;
+        }
+        long retryAt = System.currentTimeMillis() + RETRY_DELAY_MS;
+        try {
+            redisTemplate.execute(RETRY_SCRIPT, List.of(key),
+                    scriptArgs(missionIds, String.valueOf(leaseUntil), String.valueOf(retryAt)));
+        } catch (Exception e) {
+            log.error("미션 마감 재시도 등록 실패: key={}, ids={}", key, missionIds, e);
+        }
+    }
+
+    private static Object[] scriptArgs(List<Long> missionIds, String... leading) {
+        Object[] args = new Object[leading.length + missionIds.size()];
+        System.arraycopy(leading, 0, args, 0, leading.length);
+        for (int i = 0; i < missionIds.size(); i++) {
+            args[leading.length + i] = String.valueOf(missionIds.get(i));
+        }
+        return args;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> claimDue(String key, long now, long leaseUntil) {
+        List<Object> items = redisTemplate.execute(CLAIM_DUE_SCRIPT, List.of(key),
+                String.valueOf(now), String.valueOf(BATCH_SIZE), String.valueOf(leaseUntil));
+        if (items == null) {
+            return List.of();
+        }
+        return items.stream()
+                .filter(Objects::nonNull)
+                .map(item -> Long.valueOf(item.toString()))
+                .collect(Collectors.toList());
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,183 @@
+package org.example.localy.service.mission;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.localy.entity.Users;
+import org.example.localy.event.MissionCompletedEvent;
+import org.example.localy.repository.UserRepository;
+import org.example.localy.repository.place.MissionRepository;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 미션 생성을 요청 경로 밖에서 처리하는 서비스.
+ * 추천(DB 후보 조회 + VisitSeoul + GPT)과 GPT 미션 문구 작성을 GET /api/missions 안에서 기다리던 것을 백그라운드 작업으로 옮겨,
+ * 조회 API는 지금 있는 미션과 "생성 중" 여부만 바로 돌려주고 완료는 STOMP(/topic/mission/generated/{userId})로 알린다.
+ * 진행할 미션이 없을 때 미션 홈 조회, 로컬가이드 홈 조회(위치 갱신), 로그인, 미션 완료 시점에 미리 생성을 시작한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MissionGenerationService {
+
+    private static final String GENERATING_KEY_PREFIX = "localy:mission:generating:";
+    private static final String LOCATION_KEY_PREFIX = "localy:mission:last_location:";
+    // 어느 인스턴스에서 생성이 끝나도 사용자가 STOMP로 붙어 있는 인스턴스가 전달할 수 있도록 Redis로 완료를 알린다
+    private static final String GENERATED_CHANNEL = "localy:mission:generated";
+    private static final String GENERATED_DESTINATION_PREFIX = "/topic/mission/generated/";
+
+    // 생성 작업이 비정상 종료돼도 플래그가 영원히 남지 않도록 TTL을 둔다 (추천 + GPT 호출 최대 소요 시간보다 넉넉히)
+    private static final Duration GENERATING_TTL = Duration.ofMinutes(3);
+    private static final Duration LOCATION_TTL = Duration.ofDays(7);
+
+    private final MissionService missionService;
+    private final MissionRepository missionRepository;
+    private final UserRepository userRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ExecutorService missionGenerationExecutor;
+
+    @PostConstruct
+    void subscribeGenerated() {
+        redisMessageListenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            String[] parts = body.split(":");
+            try {
+                Long userId = Long.valueOf(parts[0]);
+                int createdCount = parts.length > 1 ? Integer.parseInt(parts[1]) : 0;
+                messagingTemplate.convertAndSend(GENERATED_DESTINATION_PREFIX + userId, Map.of(
+                        "userId", userId,
+                        "createdCount", createdCount,
+                        "generating", false));
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 미션 생성 완료 메시지: {}", body);
+            }
+        }, new ChannelTopic(GENERATED_CHANNEL));
+    }
+
+    /**
+     * 진행할 미션이 없으면 백그라운드 생성을 시작한다. 위치가 없으면 마지막으로 받은 위치를 쓴다.
+     * 생성이 진행 중(이번 호출로 시작했거나 이미 진행 중)이면 true.
+     */
+    public boolean requestIfNeeded(Users user, Double latitude, Double longitude) {
+        if (user == null) {
+            return false;
+        }
+
+        try {
+            if (latitude != null && longitude != null) {
+                rememberLocation(user.getId(), latitude, longitude);
+            } else {
+                double[] last = lastLocation(user.getId());
+                if (last == null) {
+                    return isGenerating(user.getId());
+                }
+                latitude = last[0];
+                longitude = last[1];
+            }
+
+            if (missionRepository.countPendingByUser(user, LocalDateTime.now()) > 0) {
+                return false;
+            }
+
+            String flagKey = GENERATING_KEY_PREFIX + user.getId();
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(flagKey, "1", GENERATING_TTL);
+            if (!Boolean.TRUE.equals(acquired)) {
+                return true;
+            }
+
+            submit(user.getId(), latitude, longitude);
+            return true;
+        } catch (Exception e) {
+            // 미션 생성 예약 실패가 조회 API까지 실패시키지 않도록 한다
+            log.warn("미션 생성 예약 실패: userId={}, error={}", user.getId(), e.getMessage());
+            return false;
+        }
+    }
+
+    // 로그인처럼 위치를 받지 못하는 시점에는 마지막 위치로 미리 생성해 둔다
+    public void prefetch(Long userId) {
+        try {
+            userRepository.findById(userId).ifPresent(user -> requestIfNeeded(user, null, null));
+        } catch (Exception e) {
+            log.warn("미션 선생성 실패: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    public boolean isGenerating(Long userId) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(GENERATING_KEY_PREFIX + userId));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    // 미션을 완료해 진행할 미션이 없어지면 다음 미션을 미리 만든다.
+    // 만료처럼 사용자 활동이 아닌 변경에는 반응하지 않는다 (휴면 사용자까지 매일 GPT/VisitSeoul 호출이 나가지 않도록).
+    // 만료로 미션이 없어진 사용자는 다음 홈/미션 조회나 로그인 때 생성된다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMissionCompleted(MissionCompletedEvent event) {
+        prefetch(event.getUserId());
+    }
+
+    private void submit(Long userId, double latitude, double longitude) {
+        try {
+            missionGenerationExecutor.execute(() -> generate(userId, latitude, longitude));
+        } catch (RejectedExecutionException e) {
+            redisTemplate.delete(GENERATING_KEY_PREFIX + userId);
+            throw e;
+        }
+    }
+
+    private void generate(Long userId, double latitude, double longitude) {
+        int createdCount = 0;
+        try {
+            Users user = userRepository.findById(userId).orElse(null);
+            if (user != null) {
+                createdCount = missionService.processMissionGenerationAndAccumulation(user, latitude, longitude);
+                log.info("백그라운드 미션 생성 완료: userId={}, created={}", userId, createdCount);
+            }
+        } catch (Exception e) {
+            log.error("백그라운드 미션 생성 실패: userId={}", userId, e);
+        } finally {
+            try {
+                redisTemplate.delete(GENERATING_KEY_PREFIX + userId);
+                redisTemplate.convertAndSend(GENERATED_CHANNEL, userId + ":" + createdCount);
+            } catch (Exception e) {
+                log.warn("미션 생성 완료 알림 실패: userId={}, error={}", userId, e.getMessage());
+            }
+        }
+    }
+
+    private void rememberLocation(Long userId, double latitude, double longitude) {
+        redisTemplate.opsForValue().set(LOCATION_KEY_PREFIX + userId,
+                String.format(Locale.ROOT, "%.6f,%.6f", latitude, longitude), LOCATION_TTL);
+    }
+
+    private double[] lastLocation(Long userId) {
+        String value = redisTemplate.opsForValue().get(LOCATION_KEY_PREFIX + userId);
+        if (value == null) {
+            return null;
+        }
+        String[] parts = value.split(",");
+        try {
+            return new double[]{Double.parseDouble(parts[0]), Double.parseDouble(parts[1])};
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
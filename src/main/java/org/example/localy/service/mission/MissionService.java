@@ -12,16 +12,19 @@ import org.example.localy.entity.place.Mission;
 import org.example.localy.entity.place.MissionArchive;
 import org.example.localy.entity.place.Place;
 import org.example.localy.entity.place.PlaceImage;
+import org.example.localy.event.HomeDataChangedEvent;
+import org.example.localy.event.MissionCompletedEvent;
 import org.example.localy.repository.UserRepository;
 import org.example.localy.repository.place.MissionArchiveRepository;
 import org.example.localy.repository.place.MissionRepository;
 import org.example.localy.repository.place.PlaceImageRepository;
 import org.example.localy.service.Chat.GPTService;
 import org.example.localy.util.DistanceCalculator;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.example.localy.repository.place.PlaceRepository;
 import org.example.localy.service.place.EmotionDataService;
+import org.example.localy.service.place.PlaceHydrationService;
 import org.example.localy.service.place.PlaceRecommendService;
 
 import java.time.LocalDate;
@@ -47,9 +50,12 @@ public class MissionService {
     private final GPTService gptService;
     private final PlaceRecommendService recommendService;
     private final EmotionDataService emotionDataService;
-    private final PlaceRepository placeRepository;
     private final MissionArchiveRepository missionArchiveRepository; // 신규 추가
-    private final ExecutorService externalApiExecutor;
+    private final ExecutorService gptExecutor;
+    private final PlaceHydrationService placeHydrationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MissionTemplatePool missionTemplatePool;
+    private final MissionDeadlineQueue missionDeadlineQueue;
 
     private static final double VERIFICATION_RADIUS_KM = 0.05; // 50m
     private static final long NEW_TAG_HOURS = 48; // 48시간 이내 생성된 미션
@@ -72,9 +78,7 @@ public class MissionService {
         int missionPoints = user.isPremium() ? PREMIUM_MISSION_POINTS : DEFAULT_MISSION_POINTS;
 
         // 프리미엄용 프롬프트 (장소와 무관하게 동일하므로 루프 밖에서 한 번만 계산)
-        final String promptKeyword = user.isPremium()
-                ? emotionKeyword + " (Premium Grade: 사용자가 더 높은 성취감을 느낄 수 있도록 난이도가 높은 도전적인 미션을 1개 제안해줘. 보상은 30포인트 가치)"
-                : emotionKeyword;
+        final String promptKeyword = MissionTemplatePool.promptKeyword(emotionKeyword, user.isPremium());
 
         // 활성 미션이 없을 때만 호출된다고 가정하므로, 여기서는 후보 목록 내에서
         // 서로 다른 장소를 최대 maxMissions개(장소당 미션 1개) 골라내기만 하면 된다.
@@ -91,30 +95,23 @@ public class MissionService {
             eligiblePlaces.add(place);
         }
 
-        // 장소별 GPT 미션 문구 생성은 서로 독립적인 호출이라 병렬로 처리
+        // 미션 문구는 (카테고리, 감정, 등급)별 템플릿 풀에서 먼저 가져오고, 풀이 빈 장소만 GPT로 직접 생성한다.
+        // GPT 호출은 장소별로 서로 독립적이라 병렬로 처리
         List<CompletableFuture<Mission>> missionFutures = eligiblePlaces.stream()
-                .map(place -> CompletableFuture.supplyAsync(() -> {
-                    try {
-                        GPTService.MissionCreationResult missionContent =
-                                gptService.createMissionContent(place.getTitle(), place.getCategory(), promptKeyword);
-
-                        return Mission.builder()
-                                .user(user)
-                                .place(place)
-                                .title(missionContent.getTitle())
-                                .description(missionContent.getDescription())
-                                .points(missionPoints)
-                                .emotion(emotionKeyword)
-                                .isCompleted(false)
-                                .createdAt(now)
-                                .expiresAt(now.plusHours(ACTIVE_MISSION_HOURS))
-                                .build();
-                    } catch (Exception e) {
-                        // 장소 하나의 GPT 호출 실패로 나머지 장소의 미션 생성까지 다 날아가지 않도록 격리
-                        log.error("미션 문구 생성 실패: placeId={}", place.getId(), e);
-                        return null;
-                    }
-                }, externalApiExecutor))
+                .map(place -> missionTemplatePool.draw(place, emotionKeyword, user.isPremium())
+                        .map(content -> CompletableFuture.completedFuture(
+                                toMission(user, place, content, missionPoints, emotionKeyword, now)))
+                        .orElseGet(() -> CompletableFuture.supplyAsync(() -> {
+                            try {
+                                GPTService.MissionCreationResult missionContent =
+                                        gptService.createMissionContent(place.getTitle(), place.getCategory(), promptKeyword);
+                                return toMission(user, place, missionContent, missionPoints, emotionKeyword, now);
+                            } catch (Exception e) {
+                                // 장소 하나의 GPT 호출 실패로 나머지 장소의 미션 생성까지 다 날아가지 않도록 격리
+                                log.error("미션 문구 생성 실패: placeId={}", place.getId(), e);
+                                return null;
+                            }
+                        }, gptExecutor)))
                 .collect(Collectors.toList());
 
         List<Mission> newMissions = missionFutures.stream()
@@ -123,6 +120,10 @@ public class MissionService {
                 .collect(Collectors.toList());
 
         missionRepository.saveAll(newMissions);
+        missionDeadlineQueue.registerAfterCommit(newMissions);
+        if (!newMissions.isEmpty()) {
+            eventPublisher.publishEvent(new HomeDataChangedEvent(user.getId(), HomeDataChangedEvent.Reason.MISSION));
+        }
         return newMissions.stream()
                 .map(m -> RecommendDto.MissionItem.builder()
                         .placeId(m.getPlace().getId())
@@ -134,6 +135,21 @@ public class MissionService {
                 .collect(Collectors.toList());
     }
 
+    private Mission toMission(Users user, Place place, GPTService.MissionCreationResult content,
+                              int points, String emotionKeyword, LocalDateTime now) {
+        return Mission.builder()
+                .user(user)
+                .place(place)
+                .title(content.getTitle())
+                .description(content.getDescription())
+                .points(points)
+                .emotion(emotionKeyword)
+                .isCompleted(false)
+                .createdAt(now)
+                .expiresAt(now.plusHours(ACTIVE_MISSION_HOURS))
+                .build();
+    }
+
     //캘린더 아카이빙 (날짜 검증 및 저장)
     @Transactional
     public MissionArchive archiveMission(Users user, Long missionId, String imageUrl, LocalDate targetDate, LocalDate photoStoredDate) {
@@ -173,18 +189,11 @@ public class MissionService {
         return missionArchiveRepository.findByUserAndArchivedDateBetween(user, start, end);
     }
 
-    @Transactional
-    public MissionDto.MissionHomeResponse getMissionHome(Users user, Double userLat, Double userLon) {
+    // 미션 생성은 MissionGenerationService가 백그라운드에서 처리하고, 여기서는 지금 있는 미션만 조회한다
+    @Transactional(readOnly = true)
+    public MissionDto.MissionHomeResponse getMissionHome(Users user, boolean generating) {
         LocalDateTime now = LocalDateTime.now();
 
-        if (userLat != null && userLon != null) {
-            try {
-                processMissionGenerationAndAccumulation(user, userLat, userLon);
-            } catch (Exception e) {
-                log.error("미션 생성 중 오류 발생: userId={}", user.getId(), e);
-            }
-        }
-
         List<Mission> activeMissions = missionRepository.findActiveByUser(user, now);
 
         return MissionDto.MissionHomeResponse.builder()
@@ -201,6 +210,7 @@ public class MissionService {
                         .filter(Mission::getIsCompleted)
                         .map(m -> convertToMissionItem(m, now))
                         .collect(Collectors.toList()))
+                .generating(generating)
                 .build();
     }
 
@@ -230,9 +240,9 @@ public class MissionService {
                 .build();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public MissionDto.MissionHomeResponse getMissionHome(Users user) {
-        return getMissionHome(user, null, null);
+        return getMissionHome(user, false);
     }
 
     @Transactional(readOnly = true)
@@ -278,8 +288,9 @@ public class MissionService {
                 .build();
     }
 
+    // 진행할 미션이 없을 때 추천 장소로 미션을 만들고, 새로 만든 미션 수를 돌려준다
     @Transactional
-    public void processMissionGenerationAndAccumulation(Users user, Double userLat, Double userLon) {
+    public int processMissionGenerationAndAccumulation(Users user, Double userLat, Double userLon) {
         LocalDateTime now = LocalDateTime.now();
         List<Mission> activeMissions = missionRepository.findActiveByUser(user, now).stream()
                 .filter(m -> !m.getIsCompleted() && ChronoUnit.HOURS.between(m.getCreatedAt(), now) < ACTIVE_MISSION_HOURS)
@@ -287,18 +298,19 @@ public class MissionService {
 
         // 활성 미션이 하나도 없을 때만 새로 생성한다 (감정이 바뀌어도 기존 활성 미션이 있으면 그대로 둔다)
         if (!activeMissions.isEmpty()) {
-            return;
+            return 0;
         }
 
         String currentEmotion = emotionDataService.getCurrentEmotion(user).getDominantEmotion();
         RecommendDto.RecommendResponse recommendation = recommendService.recommendPlaces(user, userLat, userLon);
-        List<Place> places = recommendation.getRecommendedPlaces().stream()
-                .map(rec -> placeRepository.findById(rec.getPlaceId()).orElse(null))
-                .filter(Objects::nonNull).toList();
+        List<Place> places = placeHydrationService.hydrate(recommendation.getRecommendedPlaces().stream()
+                .map(RecommendDto.PlaceRecommendation::getPlaceId)
+                .toList());
 
-        if (!places.isEmpty()) {
-            createMissionsForRecommendedPlaces(user, places, currentEmotion);
+        if (places.isEmpty()) {
+            return 0;
         }
+        return createMissionsForRecommendedPlaces(user, places, currentEmotion).size();
     }
 
     @Transactional
@@ -319,6 +331,9 @@ public class MissionService {
         user.addPoints(mission.getPoints());
         userRepository.save(user);
         missionRepository.save(mission);
+        missionDeadlineQueue.cancelReminderAfterCommit(mission.getId());
+        eventPublisher.publishEvent(new HomeDataChangedEvent(user.getId(), HomeDataChangedEvent.Reason.MISSION));
+        eventPublisher.publishEvent(new MissionCompletedEvent(user.getId()));
 
         return MissionDto.VerifyResponse.builder()
                 .success(true)
@@ -364,9 +379,10 @@ public class MissionService {
             try {
                 RecommendDto.RecommendResponse recommendation =
                         recommendService.recommendPlaces(user, place.getLatitude(), place.getLongitude());
-                recommendation.getRecommendedPlaces().stream()
-                        .map(rec -> placeRepository.findById(rec.getPlaceId()).orElse(null))
-                        .filter(Objects::nonNull)
+                placeHydrationService.hydrate(recommendation.getRecommendedPlaces().stream()
+                                .map(RecommendDto.PlaceRecommendation::getPlaceId)
+                                .toList())
+                        .stream()
                         .filter(p -> !p.getId().equals(place.getId()))
                         .forEach(candidatePlaces::add);
             } catch (Exception e) {
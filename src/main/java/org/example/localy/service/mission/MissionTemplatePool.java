@@ -0,0 +1,288 @@
+package org.example.localy.service.mission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.localy.common.concurrency.JobFenceGuard;
+import org.example.localy.common.concurrency.LockLostException;
+import org.example.localy.common.concurrency.RedisJobLock;
+import org.example.localy.entity.place.MissionTemplate;
+import org.example.localy.entity.place.Place;
+import org.example.localy.repository.place.MissionTemplateRepository;
+import org.example.localy.repository.place.PlaceRepository;
+import org.example.localy.service.Chat.GPTService;
+import org.example.localy.service.place.EmotionDataService;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * (카테고리, 감정, 프리미엄 여부)별 미션 템플릿 풀.
+ * 같은 카테고리/감정의 미션은 장소 이름만 다르고 내용이 거의 같으므로, GPT로 장소 이름 자리표시자가 들어간 템플릿을 미리 만들어 두고
+ * 미션 생성 시에는 DB에서 하나를 골라 장소 이름만 채운다. 풀이 비어 있는 버킷은 수요로 기록해 두었다가 replenish가 먼저 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MissionTemplatePool {
+
+    // 버킷당 유지할 템플릿 수 (같은 미션이 자주 반복되지 않을 만큼)
+    private static final int TARGET_TEMPLATES_PER_BUCKET = 8;
+    // 한 번 보충할 때 호출할 GPT 최대 횟수
+    private static final int MAX_GENERATIONS_PER_RUN = 24;
+    // 오래된 템플릿은 새로 만든 템플릿으로 교체해 문구가 고착되지 않게 한다.
+    // 버킷이 목표 수만큼 차 있을 때만 한 번에 하나씩(가장 오래된 것부터) 바꾸고, 회당 교체 수도 제한해
+    // 처음 한꺼번에 채운 템플릿이 같은 날 만료되더라도 GPT 호출이 몰리지 않게 한다.
+    private static final Duration TEMPLATE_MAX_AGE = Duration.ofDays(30);
+    private static final int MAX_ROTATIONS_PER_RUN = 4;
+    private static final String DEFAULT_CATEGORY = "기타";
+    private static final int TITLE_MAX_LENGTH = 100;
+
+    private static final String DEMAND_KEY = "localy:mission:template:demand";
+
+    static final String PREMIUM_PROMPT_SUFFIX =
+            " (Premium Grade: 사용자가 더 높은 성취감을 느낄 수 있도록 난이도가 높은 도전적인 미션을 1개 제안해줘. 보상은 30포인트 가치)";
+
+    private final MissionTemplateRepository missionTemplateRepository;
+    private final PlaceRepository placeRepository;
+    private final GPTService gptService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisJobLock redisJobLock;
+    private final MeterRegistry meterRegistry;
+    private final PlatformTransactionManager transactionManager;
+    private final JobFenceGuard jobFenceGuard;
+
+    private TransactionTemplate transactionTemplate;
+    private Counter hitCounter;
+    private Counter missCounter;
+    private Counter generatedCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        hitCounter = Counter.builder("localy.mission.template.draw")
+                .tag("result", "hit")
+                .description("미션 템플릿 풀에서 미션 문구를 가져온 횟수")
+                .register(meterRegistry);
+        missCounter = Counter.builder("localy.mission.template.draw")
+                .tag("result", "miss")
+                .description("풀이 비어 GPT를 직접 호출한 횟수")
+                .register(meterRegistry);
+        generatedCounter = Counter.builder("localy.mission.template.generated")
+                .description("백그라운드에서 새로 만든 미션 템플릿 수")
+                .register(meterRegistry);
+    }
+
+    // 프리미엄 사용자는 같은 감정이라도 난이도가 높은 미션을 받도록 프롬프트에 등급을 덧붙인다
+    public static String promptKeyword(String emotion, boolean premium) {
+        return premium ? emotion + PREMIUM_PROMPT_SUFFIX : emotion;
+    }
+
+    /**
+     * 장소의 카테고리와 감정에 맞는 템플릿을 하나 골라 장소 이름을 채운다. 풀이 비어 있으면 수요를 기록하고 empty.
+     */
+    public Optional<GPTService.MissionCreationResult> draw(Place place, String emotion, boolean premium) {
+        String category = categoryOf(place);
+        List<MissionTemplate> templates;
+        try {
+            templates = missionTemplateRepository.findByCategoryAndEmotionAndPremium(category, emotion, premium);
+        } catch (Exception e) {
+            log.warn("미션 템플릿 조회 실패: category={}, emotion={}, error={}", category, emotion, e.getMessage());
+            return Optional.empty();
+        }
+
+        if (templates.isEmpty()) {
+            missCounter.increment();
+            recordDemand(category, emotion, premium);
+            return Optional.empty();
+        }
+
+        hitCounter.increment();
+        MissionTemplate template = templates.get(ThreadLocalRandom.current().nextInt(templates.size()));
+        return Optional.of(new GPTService.MissionCreationResult(
+                truncate(fill(template.getTitle(), place.getTitle()), TITLE_MAX_LENGTH),
+                fill(template.getDescription(), place.getTitle())));
+    }
+
+    /**
+     * 부족한 버킷을 채운다. 실제 미션 생성에서 비어 있던 버킷을 먼저, 그다음 템플릿이 적은 버킷부터 채운다.
+     * 여러 인스턴스가 같은 버킷에 GPT를 중복 호출하지 않도록 MissionTemplateReplenishScheduler가 분산 잠금 안에서 호출하고,
+     * 템플릿 저장/삭제는 펜싱 토큰과 같은 트랜잭션에서 해 임대가 끝난 뒤 늦게 도착한 쓰기는 롤백한다.
+     */
+    public int replenish() {
+        LocalDateTime rotateBefore = LocalDateTime.now().minus(TEMPLATE_MAX_AGE);
+        Map<Bucket, Long> counts = new HashMap<>();
+        Map<Bucket, LocalDateTime> oldest = new HashMap<>();
+        for (Object[] row : missionTemplateRepository.countByBucket()) {
+            Bucket bucket = new Bucket((String) row[0], (String) row[1], (Boolean) row[2]);
+            counts.put(bucket, (Long) row[3]);
+            oldest.put(bucket, (LocalDateTime) row[4]);
+        }
+
+        List<Bucket> queue = new ArrayList<>(drainDemand());
+        List<Bucket> sweep = allBuckets();
+        sweep.sort(Comparator.comparingLong(bucket -> counts.getOrDefault(bucket, 0L)));
+        queue.addAll(sweep);
+
+        int generated = 0;
+        int rotated = 0;
+        for (Bucket bucket : new LinkedHashSet<>(queue)) {
+            long count = counts.getOrDefault(bucket, 0L);
+            while (count < TARGET_TEMPLATES_PER_BUCKET && generated < MAX_GENERATIONS_PER_RUN) {
+                if (!generate(bucket)) {
+                    break;
+                }
+                count++;
+                generated++;
+            }
+
+            // 부족한 버킷을 다 채우고 남은 호출 한도로만, 가득 찬 버킷의 가장 오래된 템플릿을 하나 교체한다
+            LocalDateTime oldestCreatedAt = oldest.get(bucket);
+            if (count >= TARGET_TEMPLATES_PER_BUCKET && oldestCreatedAt != null && oldestCreatedAt.isBefore(rotateBefore)
+                    && rotated < MAX_ROTATIONS_PER_RUN && generated < MAX_GENERATIONS_PER_RUN) {
+                if (rotateOldest(bucket)) {
+                    rotated++;
+                    generated++;
+                }
+            }
+
+            if (generated >= MAX_GENERATIONS_PER_RUN) {
+                break;
+            }
+        }
+
+        if (generated > 0) {
+            log.info("미션 템플릿 보충 완료: {}개 (교체 {}개)", generated, rotated);
+        }
+        return generated;
+    }
+
+    // 새 템플릿을 먼저 만든 뒤 가장 오래된 템플릿을 지운다. 생성이 실패하면 기존 템플릿을 그대로 둔다.
+    private boolean rotateOldest(Bucket bucket) {
+        Optional<MissionTemplate> oldest = missionTemplateRepository
+                .findFirstByCategoryAndEmotionAndPremiumOrderByCreatedAtAscIdAsc(bucket.category, bucket.emotion, bucket.premium);
+        if (oldest.isEmpty() || !generate(bucket)) {
+            return false;
+        }
+        redisJobLock.checkHeld();
+        transactionTemplate.executeWithoutResult(status -> {
+            jobFenceGuard.advance();
+            missionTemplateRepository.delete(oldest.get());
+        });
+        return true;
+    }
+
+    private boolean generate(Bucket bucket) {
+        try {
+            GPTService.MissionCreationResult content =
+                    gptService.createMissionTemplate(bucket.category, promptKeyword(bucket.emotion, bucket.premium));
+            if (!content.isParsed()) {
+                return false;
+            }
+            // 자리표시자 없이 특정 장소 이름을 써 버린 응답은 다른 장소에 쓸 수 없으므로 버린다
+            if (!hasPlaceholder(content.getTitle()) && !hasPlaceholder(content.getDescription())) {
+                log.warn("장소 자리표시자가 없는 미션 템플릿 응답을 버립니다: bucket={}, title={}", bucket, content.getTitle());
+                return false;
+            }
+
+            // GPT 응답을 기다리는 사이 잠금을 잃었으면 이어받은 인스턴스와 같은 버킷을 중복으로 채우지 않는다
+            redisJobLock.checkHeld();
+            MissionTemplate template = MissionTemplate.builder()
+                    .category(bucket.category)
+                    .emotion(bucket.emotion)
+                    .premium(bucket.premium)
+                    .title(truncate(content.getTitle(), TITLE_MAX_LENGTH))
+                    .description(content.getDescription())
+                    .build();
+            transactionTemplate.executeWithoutResult(status -> {
+                jobFenceGuard.advance();
+                missionTemplateRepository.save(template);
+            });
+            generatedCounter.increment();
+            return true;
+        } catch (LockLostException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("미션 템플릿 생성 실패: bucket={}, error={}", bucket, e.getMessage());
+            return false;
+        }
+    }
+
+    private static boolean hasPlaceholder(String text) {
+        return text != null && text.contains(MissionTemplate.PLACE_PLACEHOLDER);
+    }
+
+    // DB에 있는 장소 카테고리 × 주요 감정 × 등급
+    private List<Bucket> allBuckets() {
+        List<Bucket> buckets = new ArrayList<>();
+        for (String category : placeRepository.findDistinctCategories()) {
+            for (String emotion : EmotionDataService.dominantEmotionKeywords()) {
+                buckets.add(new Bucket(category, emotion, false));
+                buckets.add(new Bucket(category, emotion, true));
+            }
+        }
+        return buckets;
+    }
+
+    private void recordDemand(String category, String emotion, boolean premium) {
+        try {
+            redisTemplate.opsForSet().add(DEMAND_KEY, new Bucket(category, emotion, premium).encode());
+        } catch (Exception e) {
+            log.debug("미션 템플릿 수요 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    private List<Bucket> drainDemand() {
+        List<String> members = redisTemplate.opsForSet().pop(DEMAND_KEY, MAX_GENERATIONS_PER_RUN);
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream()
+                .map(Bucket::decode)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static String categoryOf(Place place) {
+        return StringUtils.hasText(place.getCategory()) ? place.getCategory() : DEFAULT_CATEGORY;
+    }
+
+    private static String fill(String text, String placeName) {
+        if (text == null) {
+            return null;
+        }
+        return text.replace(MissionTemplate.PLACE_PLACEHOLDER, placeName != null ? placeName : "");
+    }
+
+    private static String truncate(String text, int maxLength) {
+        return text != null && text.length() > maxLength ? text.substring(0, maxLength) : text;
+    }
+
+    private record Bucket(String category, String emotion, boolean premium) {
+
+        String encode() {
+            return category + "|" + emotion + "|" + premium;
+        }
+
+        static Bucket decode(String value) {
+            String[] parts = value.split("\\|");
+            return parts.length == 3 ? new Bucket(parts[0], parts[1], Boolean.parseBoolean(parts[2])) : null;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package org.example.localy.service.place;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.localy.entity.Users;
+import org.example.localy.repository.place.BookmarkRepository;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 사용자별 전체 북마크 수 캐시.
+ * 북마크 목록은 페이지마다 totalElements를 내려주는데, 매번 countByUser를 실행하지 않도록 Redis에 보관하고
+ * 북마크 토글이 커밋될 때 증감해 최신 값을 유지한다. 캐시가 없을 때만 DB에서 센다.
+ * 토글마다 사용자별 버전을 올리고, DB에서 센 값은 세기 전에 읽은 버전이 그대로일 때만 채운다.
+ * 세는 사이 커밋된 토글은 캐시가 없어 증감되지 않으므로, 그 토글이 빠진 값으로 채워지는 것을 막기 위해서다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookmarkTotalCache {
+
+    private static final String KEY_PREFIX = "localy:bookmark:total:";
+    private static final String VERSION_KEY_PREFIX = "localy:bookmark:total:version:";
+    private static final Duration TTL = Duration.ofDays(1);
+
+    /*
+     * 버전을 올리고, 캐시가 있을 때만 증감한다. 없으면 다음 조회에서 DB 값으로 다시 채운다.
+     * KEYS[1]=캐시, KEYS[2]=버전 / ARGV[1]=증감분, ARGV[2]=TTL(ms)
+     */
+    private static final DefaultRedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[2]) " +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return redis.call('INCRBY', KEYS[1], ARGV[1]) end " +
+            "return nil",
+            Long.class);
+
+    /*
+     * DB를 세기 전에 읽은 버전이 그대로이고 캐시가 없을 때만 DB 값으로 채운다.
+     * KEYS[1]=캐시, KEYS[2]=버전 / ARGV[1]=세기 전 버전, ARGV[2]=DB 값, ARGV[3]=TTL(ms)
+     */
+    private static final DefaultRedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end " +
+            "if redis.call('SET', KEYS[1], ARGV[2], 'NX', 'PX', ARGV[3]) then return 1 end " +
+            "return 0",
+            Long.class);
+
+    // 캐시를 지우고 버전을 올려, 지우기 전에 센 값이 다시 채워지지 않게 한다. KEYS[1]=캐시, KEYS[2]=버전 / ARGV[1]=TTL(ms)
+    private static final DefaultRedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final BookmarkRepository bookmarkRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate countTransaction;
+
+    @PostConstruct
+    void init() {
+        // 호출한 쪽의 읽기 전용 트랜잭션은 버전을 읽기 전에 스냅샷이 잡혀 있을 수 있으므로, 버전을 읽은 뒤 새 트랜잭션에서 센다
+        countTransaction = new TransactionTemplate(transactionManager);
+        countTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        countTransaction.setReadOnly(true);
+    }
+
+    public long get(Users user) {
+        List<String> keys = keys(user.getId());
+        String version = null;
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            String cached = values != null ? values.get(0) : null;
+            if (cached != null) {
+                return Math.max(0L, Long.parseLong(cached));
+            }
+            version = values != null && values.get(1) != null ? values.get(1) : "0";
+        } catch (Exception e) {
+            log.warn("북마크 수 캐시 조회 실패: userId={}, error={}", user.getId(), e.getMessage());
+        }
+
+        long total = Objects.requireNonNull(countTransaction.execute(status -> bookmarkRepository.countByUser(user)));
+        if (version == null) {
+            return total;
+        }
+        try {
+            redisTemplate.execute(SEED_SCRIPT, keys, version, String.valueOf(total), String.valueOf(TTL.toMillis()));
+        } catch (Exception e) {
+            log.warn("북마크 수 캐시 저장 실패: userId={}, error={}", user.getId(), e.getMessage());
+        }
+        return total;
+    }
+
+    // 북마크 행 변경이 커밋된 뒤에만 반영해, 롤백된 토글이 캐시를 어긋나게 하지 않는다
+    public void applyAfterCommit(Long userId, int delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(userId, delta);
+                }
+            });
+        } else {
+            apply(userId, delta);
+        }
+    }
+
+    public void evict(Long userId) {
+        redisTemplate.execute(EVICT_SCRIPT, keys(userId), String.valueOf(TTL.toMillis()));
+    }
+
+    private void apply(Long userId, int delta) {
+        try {
+            redisTemplate.execute(INCREMENT_SCRIPT, keys(userId), String.valueOf(delta), String.valueOf(TTL.toMillis()));
+        } catch (Exception e) {
+            // 증감에 실패하면 값이 틀린 채로 남지 않도록 지워서 다음 조회에서 다시 세게 한다
+            log.warn("북마크 수 캐시 갱신 실패, 캐시를 비웁니다: userId={}, error={}", userId, e.getMessage());
+            try {
+                evict(userId);
+            } catch (Exception ignored) {
+                // Redis 장애 중이면 TTL로 만료되도록 둔다
+            }
+        }
+    }
+
+    private static List<String> keys(Long userId) {
+        return List.of(KEY_PREFIX + userId, VERSION_KEY_PREFIX + userId);
+    }
+}
@@ -3,11 +3,15 @@ package org.example.localy.service.place;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.localy.dto.place.RecommendDto;
+import org.example.localy.common.timer.DelayedTaskScheduler;
 import org.example.localy.entity.Users;
+import org.example.localy.event.HomeDataChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
@@ -19,6 +23,8 @@ import java.util.Map;
 public class EmotionDataService {
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final DelayedTaskScheduler delayedTaskScheduler;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final List<EmotionRange> EMOTION_RANGES = List.of(
             new EmotionRange(15, "depressed", 0.45), // 0-15: 우울 (매우 부정)
@@ -93,6 +99,43 @@ public class EmotionDataService {
         }
     }
 
+    /**
+     * 감정 수치가 홈 화면에 영향을 주는 구간. 추천에 쓰이는 주요 감정 구간(EMOTION_RANGES)과
+     * 미션 배너 키워드 구간(bannerKeywordOf) 중 하나라도 바뀌면 다른 값이 된다.
+     */
+    public static String homeEmotionBucketOf(int score) {
+        String dominant = EMOTION_RANGES.get(EMOTION_RANGES.size() - 1).keyword;
+        for (EmotionRange range : EMOTION_RANGES) {
+            if (score <= range.rangeEnd) {
+                dominant = range.keyword;
+                break;
+            }
+        }
+        return dominant + "/" + bannerKeywordOf(score);
+    }
+
+    // 추천/미션에 쓰이는 주요 감정 키워드 목록 (getCurrentEmotion의 dominantEmotion 값 범위)
+    public static List<String> dominantEmotionKeywords() {
+        return EMOTION_RANGES.stream().map(range -> range.keyword).toList();
+    }
+
+    // 감정 수치(0~100)를 미션 배너용 키워드로 변환
+    public static String bannerKeywordOf(int score) {
+        if (score >= 84) {
+            return "매우 긍정적"; // 84~100
+        } else if (score >= 67) {
+            return "긍정적"; // 67~83
+        } else if (score >= 51) {
+            return "약간 긍정적"; // 51~66
+        } else if (score >= 34) {
+            return "중립"; // 34~50
+        } else if (score >= 17) {
+            return "부정적"; // 17~33
+        } else {
+            return "매우 부정적"; // 0~16
+        }
+    }
+
     // 감정 수치(0~100)를 감정 맵으로 변환
     private Map<String, Double> convertScoreToEmotionMap(int score) {
         Map<String, Double> emotions = getDefaultEmotions();
@@ -129,18 +172,33 @@ public class EmotionDataService {
 
     // 고향 모드 활성화
     public void activateHomesickMode(Users user) {
-        String nostalgiaKey = EMOTION_KEY_PREFIX + user.getId() + NOSTALGIA_KEY_SUFFIX;
-        redisTemplate.opsForValue().set(nostalgiaKey, "true", Duration.ofHours(5));
-        log.info("고향 모드 활성화: userId={}, TTL=5시간", user.getId());
+        activateLongingMode(user.getId(), Duration.ofHours(5));
     }
 
     // 고향 모드 비활성화
     public void deactivateHomesickMode(Users user) {
-        String nostalgiaKey = EMOTION_KEY_PREFIX + user.getId() + NOSTALGIA_KEY_SUFFIX;
-        redisTemplate.delete(nostalgiaKey);
+        redisTemplate.delete(longingKeyOf(user.getId()));
+        delayedTaskScheduler.cancel(LongingExpiryHandler.TYPE, String.valueOf(user.getId()));
+        eventPublisher.publishEvent(new HomeDataChangedEvent(user.getId(), HomeDataChangedEvent.Reason.EMOTION));
         log.info("고향 모드 비활성화: userId={}", user.getId());
     }
 
+    /**
+     * 그리움(고향) 모드를 ttl 동안 켠다. 키가 만료되는 시각에 홈 캐시를 비우도록 만료 작업도 함께 예약한다.
+     */
+    public void activateLongingMode(Long userId, Duration ttl) {
+        redisTemplate.opsForValue().set(longingKeyOf(userId), "true", ttl);
+        // 타이밍 휠은 최대 1틱 일찍 실행될 수 있어, 키가 확실히 사라진 뒤에 실행되도록 조금 늦춘다
+        delayedTaskScheduler.schedule(LongingExpiryHandler.TYPE, String.valueOf(userId),
+                Instant.now().plus(ttl).plus(LongingExpiryHandler.GRACE));
+        eventPublisher.publishEvent(new HomeDataChangedEvent(userId, HomeDataChangedEvent.Reason.EMOTION));
+        log.info("그리움 모드 활성화: userId={}, TTL={}분", userId, ttl.toMinutes());
+    }
+
+    static String longingKeyOf(Long userId) {
+        return EMOTION_KEY_PREFIX + userId + NOSTALGIA_KEY_SUFFIX;
+    }
+
     // 주요 감정 판별
     private String findDominantEmotion(Map<String, Double> emotions) {
         if (emotions == null || emotions.isEmpty()) {
@@ -0,0 +1,173 @@
+package org.example.localy.service.place;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.localy.dto.place.HomeSnapshot;
+import org.example.localy.event.HomeDataChangedEvent;
+import org.example.localy.util.DistanceCalculator;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 사용자별 로컬가이드 홈 캐시 (서버 내 L1 + Redis L2).
+ * 북마크/미션/감정 구간 변경 이벤트(HomeDataChangedEvent)가 오면 커밋 후 지우고, pub/sub으로 다른 서버의 L1도 비운다.
+ * 추천 장소는 위치에 따라 달라지므로, 계산한 위치에서 일정 거리 이상 이동한 요청은 캐시를 쓰지 않는다.
+ * <p>
+ * 무효화할 때마다 사용자별 버전을 올리고, 홈 데이터는 계산을 시작하기 전에 읽은 버전이 그대로일 때만 저장한다.
+ * 그래서 무효화 전에 읽은 데이터로 만든 응답이 무효화 뒤에 늦게 저장되는 경합(cache-aside race)이 생기지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HomeResponseCache {
+
+    private static final String KEY_PREFIX = "localy:home:response:";
+    private static final String VERSION_KEY_PREFIX = "localy:home:response:version:";
+    private static final String INVALIDATE_CHANNEL = "localy:home:response:invalidate";
+
+    private static final Duration L1_TTL = Duration.ofSeconds(10);
+    private static final long L1_MAX_SIZE = 10_000;
+    // 이벤트로 잡히지 않는 시간 경과(미션 만료 등)도 이 안에는 반영되도록
+    private static final Duration L2_TTL = Duration.ofMinutes(5);
+    // 추천 반경(3km~)에 비해 충분히 작은 이동 거리까지만 같은 추천을 재사용
+    private static final double MAX_ORIGIN_DRIFT_KM = 1.0;
+    // 버전 키는 진행 중인 홈 계산(최대 수 초)보다 훨씬 오래 남아 있으면 된다
+    private static final Duration VERSION_TTL = Duration.ofHours(1);
+
+    // 계산 시작 시 읽은 버전(ARGV[1])이 그대로일 때만 저장한다. 버전 키가 없으면 0으로 본다.
+    private static final DefaultRedisScript<Long> PUT_IF_CURRENT_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('GET', KEYS[2]) or '0' " +
+            "if current ~= ARGV[1] then return 0 end " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1",
+            Long.class);
+
+    // 버전을 올리고 저장된 응답을 지운다
+    private static final DefaultRedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "local version = redis.call('INCR', KEYS[2]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[1]) " +
+            "redis.call('DEL', KEYS[1]) return version",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final Cache<Long, HomeSnapshot> localCache = Caffeine.newBuilder()
+            .maximumSize(L1_MAX_SIZE)
+            .expireAfterWrite(L1_TTL)
+            .build();
+
+    @PostConstruct
+    void subscribeInvalidation() {
+        redisMessageListenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                localCache.invalidate(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 홈 캐시 무효화 메시지: {}", new String(message.getBody(), StandardCharsets.UTF_8));
+            }
+        }, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    // 캐시가 없거나, 캐시를 만든 위치에서 너무 멀리 이동했으면 null
+    public HomeSnapshot get(Long userId, double latitude, double longitude) {
+        HomeSnapshot snapshot = localCache.getIfPresent(userId);
+        if (snapshot == null) {
+            Long version = currentVersion(userId);
+            snapshot = readRemote(userId);
+            if (snapshot != null && version != null) {
+                putLocalIfCurrent(userId, snapshot, version);
+            }
+        }
+
+        if (snapshot == null || snapshot.getOriginLatitude() == null || snapshot.getOriginLongitude() == null) {
+            return null;
+        }
+
+        double drift = DistanceCalculator.calculateDistance(
+                latitude, longitude, snapshot.getOriginLatitude(), snapshot.getOriginLongitude());
+        return drift <= MAX_ORIGIN_DRIFT_KM ? snapshot : null;
+    }
+
+    /**
+     * 홈 데이터를 계산하기 전에 호출해 현재 버전을 받아 둔다. 계산이 끝나면 이 값을 put에 넘긴다.
+     * Redis를 읽지 못하면 null이고, 이때는 저장하지 않는다.
+     */
+    public Long currentVersion(Long userId) {
+        try {
+            String version = redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + userId);
+            return version != null ? Long.valueOf(version) : 0L;
+        } catch (Exception e) {
+            log.warn("홈 캐시 버전 조회 실패. userId: {}, error: {}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    // version은 계산을 시작하기 전에 currentVersion으로 읽은 값. 그 사이 무효화가 있었으면 저장하지 않는다.
+    public void put(Long userId, HomeSnapshot snapshot, Long version) {
+        if (version == null) {
+            return;
+        }
+        try {
+            Long stored = redisTemplate.execute(PUT_IF_CURRENT_SCRIPT,
+                    List.of(KEY_PREFIX + userId, VERSION_KEY_PREFIX + userId),
+                    String.valueOf(version), objectMapper.writeValueAsString(snapshot), String.valueOf(L2_TTL.toMillis()));
+            if (stored == null || stored != 1L) {
+                log.debug("홈 캐시 저장 생략 (계산 중 무효화됨). userId: {}", userId);
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("홈 캐시 저장 실패. userId: {}, error: {}", userId, e.getMessage());
+            return;
+        }
+        putLocalIfCurrent(userId, snapshot, version);
+    }
+
+    public void evict(Long userId) {
+        localCache.invalidate(userId);
+        try {
+            redisTemplate.execute(EVICT_SCRIPT, List.of(KEY_PREFIX + userId, VERSION_KEY_PREFIX + userId),
+                    String.valueOf(VERSION_TTL.toMillis()));
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.valueOf(userId));
+        } catch (Exception e) {
+            log.warn("홈 캐시 무효화 실패. userId: {}, error: {}", userId, e.getMessage());
+        }
+    }
+
+    // L1에 넣은 뒤 버전을 다시 확인해, 그 사이 무효화(다른 서버의 pub/sub 포함)가 먼저 지나갔으면 L1에서도 내린다
+    private void putLocalIfCurrent(Long userId, HomeSnapshot snapshot, long version) {
+        localCache.put(userId, snapshot);
+        Long current = currentVersion(userId);
+        if (current == null || current != version) {
+            localCache.invalidate(userId);
+        }
+    }
+
+    // 트랜잭션 안에서 발행된 이벤트는 커밋 후에 지운다 (커밋 전에 지우면 다른 요청이 이전 데이터로 다시 채울 수 있음)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHomeDataChanged(HomeDataChangedEvent event) {
+        log.debug("홈 캐시 무효화: userId={}, reason={}", event.getUserId(), event.getReason());
+        evict(event.getUserId());
+    }
+
+    private HomeSnapshot readRemote(Long userId) {
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+            return json != null ? objectMapper.readValue(json, HomeSnapshot.class) : null;
+        } catch (Exception e) {
+            log.warn("홈 캐시 조회 실패. userId: {}, error: {}", userId, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.localy.service.place;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.localy.common.timer.DelayedTaskHandler;
+import org.example.localy.event.HomeDataChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 그리움 모드 키(localy:emotion:{userId}:longing)가 만료되는 시각에 실행된다.
+ * Redis TTL 만료는 알려 주지 않아 홈 캐시에 고향 모드 추천이 남아 있었는데, 만료 시각에 EMOTION 이벤트를 발행해 캐시를 비운다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LongingExpiryHandler implements DelayedTaskHandler {
+
+    static final String TYPE = "longing-expiry";
+    static final Duration GRACE = Duration.ofSeconds(2);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    public void handle(String key) {
+        Long userId = Long.valueOf(key);
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(EmotionDataService.longingKeyOf(userId)))) {
+            return; // 그사이 다시 활성화됐다 (새 만료 작업이 예약돼 있다)
+        }
+
+        eventPublisher.publishEvent(new HomeDataChangedEvent(userId, HomeDataChangedEvent.Reason.EMOTION));
+        log.info("그리움 모드 만료: userId={}", userId);
+    }
+}
@@ -0,0 +1,253 @@
+package org.example.localy.service.place;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.localy.common.concurrency.JobFenceGuard;
+import org.example.localy.common.concurrency.LockLostException;
+import org.example.localy.common.concurrency.RedisJobLock;
+import org.example.localy.entity.place.Place;
+import org.example.localy.repository.place.PlaceRepository;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 장소별 북마크 수를 Redis 원자 카운터로 관리한다.
+ * 북마크 토글마다 Place 엔티티 전체를 읽고-수정하고-저장하던 방식은 동시 토글 시 갱신 손실이 나고 place 행 잠금을 잡으므로,
+ * 토글은 INCRBY 한 번으로 끝내고 증감분은 델타 해시에 모아 두었다가 주기적으로
+ * "UPDATE place SET bookmark_count = bookmark_count + ?" 배치로 MySQL에 반영한다.
+ * 조회는 카운터를 우선 읽고, 카운터가 없으면 DB 값을 쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceBookmarkCounter {
+
+    private static final String COUNT_KEY_PREFIX = "localy:place:bookmark_count:";
+    private static final String DELTA_KEY = "localy:place:bookmark_count:delta";
+    // 반영 중인 델타. 반영이 실패하면 남아 있다가 다음 주기에 다시 반영된다.
+    private static final String FLUSHING_KEY = "localy:place:bookmark_count:delta:flushing";
+    // 델타를 반영 중 키로 옮길 때마다 올린다. 카운터 초기화가 DB 값을 읽는 동안 반영이 시작됐는지 확인하는 용도.
+    private static final String FLUSH_EPOCH_KEY = "localy:place:bookmark_count:flush_epoch";
+    // 반영 중 델타 묶음의 ID. 같은 트랜잭션에서 bookmark_count_flush에 기록해, 커밋 뒤 정리 전에 실패한 묶음을 다시 더하지 않는다.
+    private static final String FLUSHING_ID_KEY = "localy:place:bookmark_count:delta:flushing_id";
+
+    /*
+     * 증감분을 델타 해시에 누적하고, 카운터가 있으면 카운터도 증감해 새 값을 돌려준다. 카운터가 없으면 nil.
+     * KEYS[1]=카운터, KEYS[2]=델타 해시 / ARGV[1]=증감분, ARGV[2]=placeId
+     */
+    private static final DefaultRedisScript<Long> APPLY_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HINCRBY', KEYS[2], ARGV[2], ARGV[1]) " +
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return nil end " +
+            "return redis.call('INCRBY', KEYS[1], ARGV[1])",
+            Long.class);
+
+    /*
+     * 카운터를 DB 값 + 아직 반영되지 않은 델타로 초기화한다.
+     * DB 값을 읽는 사이 반영이 시작됐거나(epoch 변경) 반영 중인 델타가 있으면, DB 값에 그 델타가 이미 들어갔는지
+     * 알 수 없으므로 초기화하지 않는다 (조회는 DB 값으로 대신하고, 다음 토글 때 다시 시도한다).
+     * KEYS[1]=카운터, KEYS[2]=델타 해시, KEYS[3]=반영 중 델타 해시, KEYS[4]=epoch / ARGV[1]=DB 값, ARGV[2]=placeId, ARGV[3]=DB를 읽기 전 epoch
+     */
+    private static final DefaultRedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 1 end " +
+            "if redis.call('EXISTS', KEYS[3]) == 1 then return 0 end " +
+            "if (redis.call('GET', KEYS[4]) or '0') ~= ARGV[3] then return 0 end " +
+            "local pending = tonumber(redis.call('HGET', KEYS[2], ARGV[2])) or 0 " +
+            "redis.call('SET', KEYS[1], tonumber(ARGV[1]) + pending) " +
+            "return 1",
+            Long.class);
+
+    /*
+     * 델타 해시를 반영 중 키로 옮기고 epoch를 올린 뒤 새 묶음 ID를 돌려준다. 반영 중 델타가 남아 있으면 그 묶음의 ID를,
+     * 옮길 델타가 없으면 nil을 돌려준다.
+     * KEYS[1]=델타 해시, KEYS[2]=반영 중 델타 해시, KEYS[3]=epoch, KEYS[4]=묶음 ID / ARGV[1]=새 묶음 ID
+     */
+    private static final DefaultRedisScript<String> BEGIN_FLUSH_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 1 then " +
+            "  local id = redis.call('GET', KEYS[4]) " +
+            "  if not id then id = ARGV[1] redis.call('SET', KEYS[4], id) end " +
+            "  return id " +
+            "end " +
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return false end " +
+            "redis.call('RENAME', KEYS[1], KEYS[2]) " +
+            "redis.call('SET', KEYS[4], ARGV[1]) " +
+            "redis.call('INCR', KEYS[3]) " +
+            "return ARGV[1]",
+            String.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PlaceRepository placeRepository;
+    private final RedisJobLock redisJobLock;
+    private final MeterRegistry meterRegistry;
+    private final PlatformTransactionManager transactionManager;
+    private final JobFenceGuard jobFenceGuard;
+
+    private TransactionTemplate transactionTemplate;
+    private Counter flushedRowsCounter;
+    private Counter flushFailedCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        flushedRowsCounter = Counter.builder("localy.place.bookmark_count.flushed")
+                .description("MySQL에 반영된 장소별 북마크 수 증감 건수")
+                .register(meterRegistry);
+        flushFailedCounter = Counter.builder("localy.place.bookmark_count.flush_failed")
+                .description("북마크 수 일괄 반영 실패 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 북마크 수를 증감한다. 북마크 행 저장이 롤백되면 카운터도 움직이지 않는다.
+     * 응답에 쓸 수 있도록 커밋 후 예상되는 값을 돌려준다.
+     */
+    public int applyAfterCommit(Place place, int delta) {
+        int expected = Math.max(0, get(place) + delta);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(place, delta);
+                }
+            });
+        } else {
+            apply(place, delta);
+        }
+        return expected;
+    }
+
+    public int get(Place place) {
+        return getAll(List.of(place)).getOrDefault(place.getId(), dbValue(place));
+    }
+
+    /**
+     * 여러 장소의 북마크 수를 MGET 한 번으로 읽는다. 카운터가 없는 장소는 DB 값을 쓴다.
+     */
+    public Map<Long, Integer> getAll(Collection<Place> places) {
+        List<Place> targets = places.stream()
+                .filter(Objects::nonNull)
+                .filter(place -> place.getId() != null)
+                .distinct()
+                .collect(Collectors.toList());
+
+        Map<Long, Integer> counts = new HashMap<>();
+        if (targets.isEmpty()) {
+            return counts;
+        }
+
+        List<String> values = null;
+        try {
+            values = redisTemplate.opsForValue().multiGet(targets.stream()
+                    .map(place -> countKey(place.getId()))
+                    .collect(Collectors.toList()));
+        } catch (Exception e) {
+            log.warn("북마크 카운터 조회 실패, DB 값을 사용합니다: {}", e.getMessage());
+        }
+
+        for (int i = 0; i < targets.size(); i++) {
+            Place place = targets.get(i);
+            String value = values != null && i < values.size() ? values.get(i) : null;
+            counts.put(place.getId(), value != null ? Math.max(0, Integer.parseInt(value)) : dbValue(place));
+        }
+        return counts;
+    }
+
+    /**
+     * 델타 해시를 반영 중 키로 옮긴 뒤 한 번의 JDBC 배치로 MySQL에 더한다.
+     * 여러 인스턴스가 같은 델타를 두 번 더하지 않도록 BookmarkCountFlushScheduler가 분산 잠금 안에서 호출하고,
+     * DB에 더하기 직전에 잠금을 아직 가지고 있는지 확인하고, 더하는 트랜잭션 안에서 펜싱 토큰을 기록해
+     * 그사이 잠금을 이어받은 인스턴스가 먼저 반영했으면 롤백한다.
+     * 묶음 ID를 더하는 UPDATE와 같은 트랜잭션에서 기록하므로, 커밋 뒤 반영 중 델타를 지우지 못해도 다음 주기에 다시 더하지 않는다.
+     */
+    public int flush() {
+        try {
+            // 이전 주기에 반영하지 못한 델타가 남아 있으면 새 델타를 옮기지 않고 그것부터 반영한다
+            String flushId = redisTemplate.execute(BEGIN_FLUSH_SCRIPT,
+                    List.of(DELTA_KEY, FLUSHING_KEY, FLUSH_EPOCH_KEY, FLUSHING_ID_KEY), UUID.randomUUID().toString());
+            if (flushId == null) {
+                return 0;
+            }
+
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(FLUSHING_KEY);
+            Map<Long, Long> deltas = new HashMap<>();
+            entries.forEach((placeId, delta) -> {
+                long value = Long.parseLong(delta.toString());
+                if (value != 0) {
+                    deltas.put(Long.valueOf(placeId.toString()), value);
+                }
+            });
+
+            redisJobLock.checkHeld();
+            Integer updated = transactionTemplate.execute(status -> {
+                jobFenceGuard.advance();
+                return placeRepository.recordBookmarkFlush(flushId) ? placeRepository.addBookmarkCounts(deltas) : null;
+            });
+            redisTemplate.delete(List.of(FLUSHING_KEY, FLUSHING_ID_KEY));
+
+            if (updated == null) {
+                log.warn("이미 반영한 북마크 수 델타 묶음이라 정리만 함: flushId={}", flushId);
+                return 0;
+            }
+            flushedRowsCounter.increment(deltas.size());
+            if (!deltas.isEmpty()) {
+                log.info("북마크 수 반영 완료: 장소 {}개, 갱신 행 {}개", deltas.size(), updated);
+            }
+            return updated;
+        } catch (LockLostException e) {
+            // 반영 중 델타는 그대로 두어, 잠금을 이어받은 인스턴스가 한 번만 반영하게 한다
+            log.warn("북마크 수 반영 잠금을 잃어 이번 반영을 건너뜀: {}", e.getMessage());
+            return 0;
+        } catch (Exception e) {
+            flushFailedCounter.increment();
+            log.error("북마크 수 일괄 반영 실패 (다음 주기에 재시도)", e);
+            return 0;
+        }
+    }
+
+    private void apply(Place place, int delta) {
+        try {
+            Long value = redisTemplate.execute(APPLY_SCRIPT,
+                    List.of(countKey(place.getId()), DELTA_KEY),
+                    String.valueOf(delta), String.valueOf(place.getId()));
+            if (value == null) {
+                seed(place.getId());
+            }
+        } catch (Exception e) {
+            // 북마크 행은 이미 커밋됐으므로 토글 자체를 실패시키지 않는다. 이 증감분은 북마크 수에서 누락된다.
+            log.error("북마크 카운터 갱신 실패: placeId={}, delta={}", place.getId(), delta, e);
+        }
+    }
+
+    // 카운터가 없을 때 현재 DB 값으로 초기화한다. epoch를 먼저 읽어, DB를 읽는 사이 반영이 끼어들면 초기화를 건너뛴다.
+    private void seed(Long placeId) {
+        String epoch = Objects.requireNonNullElse(redisTemplate.opsForValue().get(FLUSH_EPOCH_KEY), "0");
+        int dbCount = placeRepository.findBookmarkCountById(placeId).orElse(0);
+        redisTemplate.execute(SEED_SCRIPT,
+                List.of(countKey(placeId), DELTA_KEY, FLUSHING_KEY, FLUSH_EPOCH_KEY),
+                String.valueOf(dbCount), String.valueOf(placeId), epoch);
+    }
+
+    private int dbValue(Place place) {
+        return place.getBookmarkCount() != null ? place.getBookmarkCount() : 0;
+    }
+
+    private String countKey(Long placeId) {
+        return COUNT_KEY_PREFIX + placeId;
+    }
+}
@@ -0,0 +1,141 @@
+package org.example.localy.service.place;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 추천 후보가 부족한 위치("커버리지 공백")를 모아두는 Redis 기반 작업 큐.
+ * 추천 요청은 여기에 위치만 넣고 DB에 있는 장소로 바로 응답하며,
+ * 실제 VisitSeoul 목록/상세 API 호출은 PlaceEnrichmentWorker가 백그라운드에서 처리한다.
+ * 같은 격자(약 1km)의 요청은 격자별 표시 키로 한 번만 적재된다.
+ * 표시 키는 TTL이 있어, 적재 직후 Redis 오류가 나거나 워커가 꺼낸 뒤 죽어도 PENDING_TTL이 지나면 다시 적재될 수 있다.
+ * 보강을 마친 격자는 FILLED_COOLDOWN 동안 다시 적재하지 않는다 (원래 장소가 적은 지역을 요청마다 다시 검색하지 않도록).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceCoverageGapQueue {
+
+    private static final String QUEUE_KEY = "localy:place:coverage_gap:queue";
+    private static final String CELL_KEY_PREFIX = "localy:place:coverage_gap:cell:";
+    private static final String PENDING = "pending";
+    private static final String FILLED = "filled";
+    // 적재부터 처리 완료까지 기다리는 최대 시간. 지나면 같은 격자를 다시 적재할 수 있다.
+    private static final Duration PENDING_TTL = Duration.ofMinutes(30);
+    private static final Duration FILLED_COOLDOWN = Duration.ofHours(1);
+
+    // 격자 표시와 큐 적재를 한 번에 처리한다 (표시만 남고 적재되지 않는 경우가 없도록)
+    private static final DefaultRedisScript<Long> ENQUEUE_SCRIPT = new DefaultRedisScript<>(
+            "if not redis.call('SET', KEYS[1], ARGV[2], 'NX', 'PX', ARGV[3]) then return 0 end " +
+            "redis.call('RPUSH', KEYS[2], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private Counter enqueuedCounter;
+    private Counter deduplicatedCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("localy.place.coverage_gap.queue.depth", this, PlaceCoverageGapQueue::depth)
+                .description("백그라운드 보강을 기다리는 커버리지 공백 위치 수")
+                .register(meterRegistry);
+        enqueuedCounter = Counter.builder("localy.place.coverage_gap.enqueued")
+                .description("새로 적재된 커버리지 공백 이벤트 수")
+                .register(meterRegistry);
+        deduplicatedCounter = Counter.builder("localy.place.coverage_gap.deduplicated")
+                .description("이미 대기 중이라 합쳐진 커버리지 공백 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 위치를 격자 단위로 정규화해 큐에 넣는다. 같은 격자가 이미 대기 중이거나 최근에 보강됐으면 무시한다.
+     * 추천 응답을 막지 않도록 Redis 오류는 로그만 남긴다.
+     */
+    public void enqueue(double latitude, double longitude) {
+        String cell = toCell(latitude, longitude);
+        try {
+            Long added = redisTemplate.execute(ENQUEUE_SCRIPT, List.of(cellKey(cell), QUEUE_KEY),
+                    cell, PENDING, String.valueOf(PENDING_TTL.toMillis()));
+            if (added != null && added > 0) {
+                enqueuedCounter.increment();
+                log.info("커버리지 공백 이벤트 적재: cell={}", cell);
+            } else {
+                deduplicatedCounter.increment();
+            }
+        } catch (Exception e) {
+            log.warn("커버리지 공백 이벤트 적재 실패: cell={}, error={}", cell, e.getMessage());
+        }
+    }
+
+    /**
+     * 가장 오래된 이벤트를 하나 꺼낸다. 처리가 끝나면 complete(보강 성공) 또는 release(실패)를 호출한다.
+     * 둘 다 호출되지 못하면 PENDING_TTL이 지난 뒤 같은 격자가 다시 적재될 수 있다.
+     */
+    public Optional<CoverageGap> poll() {
+        String cell = redisTemplate.opsForList().leftPop(QUEUE_KEY);
+        if (cell == null) {
+            return Optional.empty();
+        }
+
+        String[] parts = cell.split(",");
+        try {
+            return Optional.of(new CoverageGap(cell, Double.parseDouble(parts[0]), Double.parseDouble(parts[1])));
+        } catch (RuntimeException e) {
+            log.warn("잘못된 커버리지 공백 이벤트를 버립니다: cell={}", cell);
+            release(cell);
+            return Optional.empty();
+        }
+    }
+
+    // 보강을 마친 격자는 FILLED_COOLDOWN 동안 다시 적재하지 않는다
+    public void complete(String cell) {
+        redisTemplate.opsForValue().set(cellKey(cell), FILLED, FILLED_COOLDOWN);
+    }
+
+    // 보강에 실패한 격자는 다음 추천 요청에서 바로 다시 적재될 수 있게 한다
+    public void release(String cell) {
+        redisTemplate.delete(cellKey(cell));
+    }
+
+    public long depth() {
+        try {
+            Long size = redisTemplate.opsForList().size(QUEUE_KEY);
+            return size != null ? size : 0L;
+        } catch (Exception e) {
+            return 0L;
+        }
+    }
+
+    private static String cellKey(String cell) {
+        return CELL_KEY_PREFIX + cell;
+    }
+
+    // 소수점 둘째 자리(위도 기준 약 1.1km) 격자로 묶어 인접한 요청을 하나의 이벤트로 합친다
+    private String toCell(double latitude, double longitude) {
+        return String.format(Locale.ROOT, "%.2f,%.2f", latitude, longitude);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class CoverageGap {
+        private final String cell;
+        private final double latitude;
+        private final double longitude;
+    }
+}
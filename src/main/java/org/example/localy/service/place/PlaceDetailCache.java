@@ -0,0 +1,172 @@
+package org.example.localy.service.place;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.localy.dto.place.PlaceDetailSnapshot;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 장소 상세 2단 캐시 (cid 기준).
+ * L1: 서버 내 Caffeine 캐시 (짧은 TTL, 크기 제한) — 상세페이지 조회마다 Redis 왕복을 하지 않도록
+ * L2: Redis (PlaceDetailSnapshot 전용 직렬화기) — 서버 간 공유, LinkedHashMap 재변환 없음
+ * 장소가 갱신되면 L2를 지우고 pub/sub으로 모든 서버에 알려 각자의 L1도 비운다.
+ * <p>
+ * HomeResponseCache처럼 무효화할 때마다 cid별 버전을 올리고, 상세 데이터는 계산을 시작하기 전에 읽은 버전이 그대로일 때만 저장한다.
+ * 그래서 상세를 계산하는 동안 좌표 upsert 등으로 무효화된 장소가 계산 전 데이터로 다시 채워져 L2 TTL 동안 남지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceDetailCache {
+
+    private static final String KEY_PREFIX = "localy:place:detail:";
+    private static final String VERSION_KEY_PREFIX = "localy:place:detail:version:";
+    private static final String INVALIDATE_CHANNEL = "localy:place:detail:invalidate";
+
+    private static final Duration L1_TTL = Duration.ofSeconds(60);
+    private static final long L1_MAX_SIZE = 2_000;
+    private static final Duration L2_TTL = Duration.ofDays(1);
+    // 버전 키는 진행 중인 상세 계산(상세 API 대기 포함 수 초)보다 훨씬 오래 남아 있으면 된다
+    private static final Duration VERSION_TTL = Duration.ofHours(1);
+
+    // 계산 시작 시 읽은 버전(ARGV[1])이 그대로일 때만 저장한다. 버전 키가 없으면 0으로 본다.
+    private static final DefaultRedisScript<Long> PUT_IF_CURRENT_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('GET', KEYS[2]) or '0' " +
+            "if current ~= ARGV[1] then return 0 end " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1",
+            Long.class);
+
+    // KEYS는 (상세 키, 버전 키) 쌍. 쌍마다 버전을 올리고 저장된 상세를 지운다.
+    private static final DefaultRedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #KEYS, 2 do " +
+            "redis.call('INCR', KEYS[i + 1]) " +
+            "redis.call('PEXPIRE', KEYS[i + 1], ARGV[1]) " +
+            "redis.call('DEL', KEYS[i]) " +
+            "end " +
+            "return #KEYS / 2",
+            Long.class);
+
+    private final RedisTemplate<String, PlaceDetailSnapshot> placeDetailRedisTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final Cache<String, PlaceDetailSnapshot> localCache = Caffeine.newBuilder()
+            .maximumSize(L1_MAX_SIZE)
+            .expireAfterWrite(L1_TTL)
+            .build();
+
+    @PostConstruct
+    void subscribeInvalidation() {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> localCache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    public PlaceDetailSnapshot get(String contentId) {
+        PlaceDetailSnapshot local = localCache.getIfPresent(contentId);
+        if (local != null) {
+            return local;
+        }
+
+        try {
+            Long version = currentVersion(contentId);
+            PlaceDetailSnapshot remote = placeDetailRedisTemplate.opsForValue().get(KEY_PREFIX + contentId);
+            if (remote != null && version != null) {
+                putLocalIfCurrent(remote, version);
+            }
+            return remote;
+        } catch (Exception e) {
+            log.warn("장소 상세 캐시(Redis) 조회 실패. cid: {}, error: {}", contentId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 상세 데이터를 계산(DB 조회, 상세 API 보강)하기 전에 호출해 현재 버전을 받아 둔다. 계산이 끝나면 이 값을 put에 넘긴다.
+     * Redis를 읽지 못하면 null이고, 이때는 저장하지 않는다.
+     */
+    public Long currentVersion(String contentId) {
+        try {
+            String version = redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + contentId);
+            return version != null ? Long.valueOf(version) : 0L;
+        } catch (Exception e) {
+            log.warn("장소 상세 캐시 버전 조회 실패. cid: {}, error: {}", contentId, e.getMessage());
+            return null;
+        }
+    }
+
+    // version은 계산을 시작하기 전에 currentVersion으로 읽은 값. 그 사이 무효화가 있었으면 저장하지 않는다.
+    public void put(PlaceDetailSnapshot snapshot, Long version) {
+        if (version == null) {
+            return;
+        }
+        String contentId = snapshot.getContentId();
+        try {
+            Long stored = redisTemplate.execute(PUT_IF_CURRENT_SCRIPT,
+                    List.of(KEY_PREFIX + contentId, VERSION_KEY_PREFIX + contentId),
+                    String.valueOf(version), serialize(snapshot), String.valueOf(L2_TTL.toMillis()));
+            if (stored == null || stored != 1L) {
+                log.debug("장소 상세 캐시 저장 생략 (계산 중 무효화됨). cid: {}", contentId);
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("장소 상세 캐시(Redis) 저장 실패. cid: {}, error: {}", contentId, e.getMessage());
+            return;
+        }
+        putLocalIfCurrent(snapshot, version);
+    }
+
+    // 장소 정보가 갱신됐을 때 호출. 이 서버의 L1, Redis L2를 지우고 다른 서버에도 L1 무효화를 알린다.
+    public void evict(Collection<String> contentIds) {
+        if (contentIds.isEmpty()) {
+            return;
+        }
+
+        localCache.invalidateAll(contentIds);
+        try {
+            List<String> keys = new ArrayList<>(contentIds.size() * 2);
+            contentIds.forEach(cid -> {
+                keys.add(KEY_PREFIX + cid);
+                keys.add(VERSION_KEY_PREFIX + cid);
+            });
+            redisTemplate.execute(EVICT_SCRIPT, keys, String.valueOf(VERSION_TTL.toMillis()));
+            contentIds.forEach(cid -> redisTemplate.convertAndSend(INVALIDATE_CHANNEL, cid));
+        } catch (Exception e) {
+            log.warn("장소 상세 캐시 무효화 실패. cids: {}, error: {}", contentIds, e.getMessage());
+        }
+    }
+
+    public void evict(String contentId) {
+        evict(List.of(contentId));
+    }
+
+    // L1에 넣은 뒤 버전을 다시 확인해, 그 사이 무효화(다른 서버의 pub/sub 포함)가 먼저 지나갔으면 L1에서도 내린다
+    private void putLocalIfCurrent(PlaceDetailSnapshot snapshot, long version) {
+        localCache.put(snapshot.getContentId(), snapshot);
+        Long current = currentVersion(snapshot.getContentId());
+        if (current == null || current != version) {
+            localCache.invalidate(snapshot.getContentId());
+        }
+    }
+
+    // L2 값은 placeDetailRedisTemplate의 직렬화기 형식으로 저장해야 get에서 그대로 읽힌다
+    @SuppressWarnings("unchecked")
+    private String serialize(PlaceDetailSnapshot snapshot) {
+        byte[] bytes = ((RedisSerializer<PlaceDetailSnapshot>) placeDetailRedisTemplate.getValueSerializer()).serialize(snapshot);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
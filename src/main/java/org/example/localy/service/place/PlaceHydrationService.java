@@ -0,0 +1,130 @@
+package org.example.localy.service.place;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.localy.entity.place.Place;
+import org.example.localy.repository.place.PlaceRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * GPT 추천 결과처럼 ID 목록으로만 넘어온 장소들을 Place 엔티티로 바꿔주는 서비스.
+ * 추천 응답 변환, 로컬가이드 홈, 미션 생성이 같은 추천 ID를 각자 findById로 하나씩 다시 조회하던 것을
+ * findAllById 한 번으로 묶고, HTTP 요청 범위(또는 withMemo로 감싼 작업) 안에서는 한 번 조회한 장소를 기억해 두어
+ * 계층 간 중복 조회를 없앤다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceHydrationService {
+
+    private static final String MEMO_ATTRIBUTE = PlaceHydrationService.class.getName() + ".memo";
+
+    // withMemo로 감싼 작업 동안 현재 스레드에서 쓰는 메모. 요청 스레드가 아닌 작업 스레드(홈 구성 요소 등)용이다.
+    private static final ThreadLocal<Map<Long, Optional<Place>>> TASK_MEMO = new ThreadLocal<>();
+
+    private final PlaceRepository placeRepository;
+
+    /**
+     * 장소 ID 목록을 입력 순서(GPT 추천 순서)대로 Place 목록으로 변환한다.
+     * 아직 조회하지 않은 ID만 모아 findAllById 한 번으로 가져오고, DB에 없는 ID는 결과에서 빠진다.
+     */
+    public List<Place> hydrate(Collection<Long> placeIds) {
+        if (placeIds == null || placeIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Optional<Place>> memo = requestMemo();
+
+        Set<Long> missingIds = placeIds.stream()
+                .filter(Objects::nonNull)
+                .filter(id -> !memo.containsKey(id))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        if (!missingIds.isEmpty()) {
+            placeRepository.findAllById(missingIds).forEach(place -> memo.put(place.getId(), Optional.of(place)));
+            // DB에 없는 ID도 기억해 두어 같은 요청 안에서 다시 조회하지 않게 한다
+            missingIds.forEach(id -> memo.putIfAbsent(id, Optional.empty()));
+        }
+
+        List<Place> places = placeIds.stream()
+                .filter(Objects::nonNull)
+                .map(memo::get)
+                .filter(Objects::nonNull)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList());
+
+        if (places.size() < placeIds.size()) {
+            log.warn("요청한 장소 ID {}개 중 {}개만 DB에서 찾았습니다. ids={}", placeIds.size(), places.size(), placeIds);
+        }
+        return places;
+    }
+
+    /**
+     * 이미 메모리에 올라와 있는 장소들(예: 추천 후보 풀)을 요청 범위 메모에 등록해,
+     * 이후 같은 요청에서 hydrate할 때 DB를 다시 조회하지 않게 한다.
+     */
+    public void remember(Collection<Place> places) {
+        if (places == null || places.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Optional<Place>> memo = requestMemo();
+        places.stream()
+                .filter(Objects::nonNull)
+                .filter(place -> place.getId() != null)
+                .forEach(place -> memo.put(place.getId(), Optional.of(place)));
+    }
+
+    /**
+     * 작업 하나를 전용 메모와 함께 실행한다. 요청 속성을 다른 스레드로 넘기지 않고도, 작업 안에서
+     * remember한 장소를 이어지는 hydrate가 다시 조회하지 않게 한다. 메모는 작업이 끝나면 버려진다.
+     */
+    public <T> T withMemo(Supplier<T> task) {
+        Map<Long, Optional<Place>> previous = TASK_MEMO.get();
+        TASK_MEMO.set(new ConcurrentHashMap<>());
+        try {
+            return task.get();
+        } finally {
+            if (previous != null) {
+                TASK_MEMO.set(previous);
+            } else {
+                TASK_MEMO.remove();
+            }
+        }
+    }
+
+    // withMemo 안이면 작업 메모를, HTTP 요청 스레드면 요청 속성에 보관된 메모를, 그 밖(스케줄러/워커 스레드)이면 호출마다 새 메모를 쓴다.
+    // 동시 접근에 안전한 맵을 쓰고, DB에 없는 ID는 Optional.empty()로 기억한다.
+    @SuppressWarnings("unchecked")
+    private Map<Long, Optional<Place>> requestMemo() {
+        Map<Long, Optional<Place>> taskMemo = TASK_MEMO.get();
+        if (taskMemo != null) {
+            return taskMemo;
+        }
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return new ConcurrentHashMap<>();
+        }
+
+        Map<Long, Optional<Place>> memo = (Map<Long, Optional<Place>>) attributes.getAttribute(MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new ConcurrentHashMap<>();
+            attributes.setAttribute(MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return memo;
+    }
+}
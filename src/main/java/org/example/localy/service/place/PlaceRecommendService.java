@@ -1,6 +1,5 @@
 package org.example.localy.service.place;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.localy.common.exception.CustomException;
@@ -15,11 +14,14 @@ import org.example.localy.repository.place.PlaceImageRepository;
 import org.example.localy.repository.place.PlaceRepository;
 import org.example.localy.service.Chat.GPTService;
 import org.example.localy.util.DistanceCalculator;
+import org.example.localy.util.SeoulDistrictLocator;
+import org.example.localy.util.HtmlTextExtractor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
@@ -34,105 +36,71 @@ public class PlaceRecommendService {
     private final PlaceRepository placeRepository;
     private final PlaceImageRepository placeImageRepository;
     private final GPTService gptService;
-    private final RedisTemplate<String, Object> redisTemplate;
     private final EmotionDataService emotionDataService;
-    private final ObjectMapper objectMapper;
     private final ExecutorService externalApiExecutor;
+    private final PlaceHydrationService placeHydrationService;
+    private final PlaceCoverageGapQueue coverageGapQueue;
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final PlaceDetailCache placeDetailCache;
 
-    // 목록 API가 좌표를 안 줄 때, 상세 API로 좌표를 보강하는 최대 호출 수 (응답 지연 방지)
+    // 커버리지 공백 보강 시 상세 API로 좌표를 보강하는 최대 호출 수 (한 이벤트가 외부 API를 독점하지 않도록)
     private static final int MAX_COORDINATE_ENRICH_CALLS = 15;
 
+    // 커버리지 공백 보강 시 자치구 키워드 검색 페이지 크기와, 자치구별로 다음 페이지를 읽기 위한 커서 해시
+    private static final int COVERAGE_GAP_PAGE_SIZE = 50;
+    private static final String COVERAGE_GAP_PAGE_CURSOR_KEY = "localy:place:coverage_gap:district_page";
+
     // 추천 다양성을 위한 후보 풀 최소 크기 (이보다 적으면 이미 5개 이상이어도 API로 더 채움)
     private static final int MIN_CANDIDATE_POOL_SIZE = 15;
 
+    // 상세 페이지에서 VisitSeoul 상세 API 호출 허가를 기다리는 최대 시간. 넘기면 DB에 있는 정보로 응답한다.
+    private static final Duration DETAIL_PAGE_API_WAIT = Duration.ofSeconds(2);
+
     // 목록 API로 새로 받아온 장소를 후보에 포함할 최대 거리 (km) — 위치 필터가 없는 API라 직접 걸러냄
     private static final double MAX_RECOMMEND_DISTANCE_KM = 10.0;
 
-    // 카탈로그 전체 동기화 시 한 번에 순회할 최대 페이지 수 (외부 API 과호출 방지 안전장치)
-    private static final int MAX_CATALOG_SYNC_PAGES = 20;
     private static final int CATALOG_SYNC_PAGE_SIZE = 50;
 
-    // 카탈로그 전체 동기화 시 한 번에 좌표를 보강할 최대 개수 (요청 경로가 아니라 배치라 넉넉하게, 그래도 상한은 둠)
-    private static final int MAX_CATALOG_SYNC_ENRICH_CALLS = 100;
+    // 카탈로그 동기화 시 동시에 요청하는 목록 페이지 수 (VisitSeoul이 동시 요청에 약해 작게 유지)
+    private static final int CATALOG_SYNC_PARALLEL_PAGES = 3;
+
+    // 델타 동기화: 1페이지부터 읽다가 전부 이미 아는 장소뿐인 페이지를 만나면 멈춤. 그래도 최대 이만큼만 읽는다.
+    private static final int MAX_CATALOG_DELTA_PAGES = 10;
+
+    // 백필: 체크포인트 페이지부터 한 번 실행에 이어서 읽는 최대 페이지 수 (외부 API 과호출 방지 안전장치)
+    private static final int MAX_CATALOG_BACKFILL_PAGES_PER_RUN = 60;
+
+    // 백필이 끝까지 돈 뒤 다시 1페이지부터 전체를 훑기까지 기다리는 기간 (기존 장소의 정보 변경 반영용)
+    private static final long CATALOG_FULL_REWALK_DAYS = 7;
+
+    // 카탈로그 동기화 한 번에 좌표를 보강할 최대 개수. 커서로 이어서 보강하므로 여러 번의 실행에 걸쳐 백로그가 모두 소진된다.
+    private static final int MAX_CATALOG_SYNC_ENRICH_CALLS = 300;
+    private static final int CATALOG_SYNC_ENRICH_BATCH_SIZE = 50;
 
-    @Transactional
+    // 카탈로그 동기화 체크포인트 (Redis) — 다음에 읽을 백필 페이지, 백필 완료 시각, 좌표 보강 커서(마지막으로 본 place id)
+    private static final String CATALOG_BACKFILL_PAGE_KEY = "localy:place:catalog_sync:backfill_page";
+    private static final String CATALOG_BACKFILL_COMPLETED_AT_KEY = "localy:place:catalog_sync:backfill_completed_at";
+    private static final String CATALOG_ENRICH_CURSOR_KEY = "localy:place:catalog_sync:enrich_cursor";
+
+    // 트랜잭션으로 묶지 않는다 — 각 조회는 짧게 끝나고, GPT 호출을 기다리는 동안 DB 커넥션을 잡고 있지 않도록
     public RecommendDto.RecommendResponse recommendPlaces(Users user, Double latitude, Double longitude) {
         // 1. 실시간 감정 데이터 가져오기 (채팅 등으로 방금 바뀐 감정이 바로 반영되도록 Redis 기반 실시간 값 사용)
         RecommendDto.EmotionData latestEmotion = emotionDataService.getCurrentEmotion(user);
 
-        // 2. DB에서 모든 장소 가져오기
+        // 2. DB에서 모든 장소 가져오기 (추천 결과를 다시 Place로 바꿀 때 재조회하지 않도록 요청 범위에 등록)
         List<Place> allPlaces = placeRepository.findAll();
+        placeHydrationService.remember(allPlaces);
 
         // 3. 주변 장소 필터링 (동적 반경)
         List<Place> nearbyPlaces = findNearbyPlacesWithDynamicRadius(allPlaces, latitude, longitude);
 
         log.info("현재 위치 주변 DB 내 장소 개수: {}", nearbyPlaces.size());
 
-        // 4. 추천 다양성을 위해 후보 풀이 작으면 API 호출하여 추가 (이미 5개 이상이어도 보강)
+        // 4. 후보 풀이 작으면 VisitSeoul API를 요청 경로에서 직접 부르지 않고, 이 위치를 커버리지 공백으로 큐에 넣는다.
+        //    백그라운드 워커가 목록/상세 API로 장소를 보강해 두면 다음 요청부터 후보 풀에 반영된다.
         if (nearbyPlaces.size() < MIN_CANDIDATE_POOL_SIZE) {
-            log.info("추천 후보가 부족하여 API를 새로 호출합니다. (현재: {}개)", nearbyPlaces.size());
-            List<TourApiDto.Data> apiList = tourApiService.getContentsList();
-
-            if (apiList != null && !apiList.isEmpty()) {
-                log.info("API에서 {}개의 데이터를 받았습니다.", apiList.size());
-
-                List<Place> newPlaces = new ArrayList<>();
-                for (TourApiDto.Data data : apiList) {
-                    Place saved = saveNewPlaceFromApi(data);
-                    if (saved != null) {
-                        newPlaces.add(saved);
-                    }
-                }
-
-                log.info("{}개의 새 장소를 저장했습니다.", newPlaces.size());
-
-                // 목록 API는 좌표를 주지 않으므로, 좌표 있는/없는 장소를 분리
-                List<Place> placesWithCoords = newPlaces.stream()
-                        .filter(p -> p.getLatitude() != null && p.getLongitude() != null)
-                        .collect(Collectors.toList());
-                List<Place> placesWithoutCoords = newPlaces.stream()
-                        .filter(p -> p.getLatitude() == null || p.getLongitude() == null)
-                        .collect(Collectors.toList());
-
-                // 부족분만큼 상세 API로 좌표를 보강 (최대 호출 수 제한, 서로 독립적인 호출이라 병렬 처리)
-                int needed = MIN_CANDIDATE_POOL_SIZE - nearbyPlaces.size();
-                List<Place> enrichCandidates = placesWithoutCoords.stream()
-                        .limit(MAX_COORDINATE_ENRICH_CALLS)
-                        .collect(Collectors.toList());
-
-                List<CompletableFuture<Place>> enrichFutures = enrichCandidates.stream()
-                        .map(place -> CompletableFuture.supplyAsync(() -> enrichPlaceCoordinates(place), externalApiExecutor))
-                        .collect(Collectors.toList());
-
-                // 외부 API 호출 결과(join)를 모은 뒤, DB 저장은 JPA 세션이 있는 이 스레드에서 순차 수행
-                List<Place> enrichedPlaces = enrichFutures.stream()
-                        .map(CompletableFuture::join)
-                        .filter(Objects::nonNull)
-                        .map(placeRepository::save)
-                        .collect(Collectors.toList());
-
-                placesWithCoords.addAll(enrichedPlaces);
-
-                if (needed > 0) {
-                    log.info("좌표 없는 장소 {}개 중 {}건을 상세 API로 좌표 보강 시도하여 {}건 성공했습니다.",
-                            placesWithoutCoords.size(), enrichCandidates.size(), enrichedPlaces.size());
-                }
-
-                // 목록 API는 위치 필터가 없어 서울 전역이 섞여 나올 수 있으므로,
-                // 실제 거리를 계산해 반경 밖 장소는 후보에서 제외한 뒤 거리순으로 추가
-                List<Place> nearbyFromApi = placesWithCoords.stream()
-                        .filter(p -> DistanceCalculator.calculateDistance(latitude, longitude, p.getLatitude(), p.getLongitude()) <= MAX_RECOMMEND_DISTANCE_KM)
-                        .sorted((p1, p2) -> {
-                            double dist1 = DistanceCalculator.calculateDistance(latitude, longitude, p1.getLatitude(), p1.getLongitude());
-                            double dist2 = DistanceCalculator.calculateDistance(latitude, longitude, p2.getLatitude(), p2.getLongitude());
-                            return Double.compare(dist1, dist2);
-                        })
-                        .collect(Collectors.toList());
-
-                nearbyPlaces.addAll(nearbyFromApi);
-                log.info("좌표 있는 장소 {}개 중 {}km 이내 {}개 추가. API 호출 후 총 장소 개수: {}",
-                        placesWithCoords.size(), MAX_RECOMMEND_DISTANCE_KM, nearbyFromApi.size(), nearbyPlaces.size());
-            }
+            log.info("추천 후보가 부족하여 커버리지 공백 보강을 요청합니다. (현재: {}개)", nearbyPlaces.size());
+            coverageGapQueue.enqueue(latitude, longitude);
         }
 
         // 5. 여전히 장소가 부족하면 좌표 없는 장소라도 추가 (거리를 알 수 없는 장소만, 먼 장소는 제외)
@@ -169,6 +137,68 @@ public class PlaceRecommendService {
         return convertToRecommendResponse(aiResult, latestEmotion);
     }
 
+    /**
+     * 커버리지 공백 이벤트 처리 (PlaceEnrichmentWorker에서 호출).
+     * 목록 API는 위치 필터가 없어, 공백 위치에서 가장 가까운 자치구 이름으로 키워드 검색을 한다.
+     * 같은 자치구의 다음 이벤트는 다음 페이지를 읽고, 새 장소를 일괄 저장한 뒤 좌표 없는 장소를 상세 API로 보강한다.
+     */
+    public void fillCoverageGap(double latitude, double longitude) {
+        Optional<String> district = SeoulDistrictLocator.nearestDistrict(latitude, longitude);
+        if (district.isEmpty()) {
+            log.info("커버리지 공백 보강: 서울 밖 위치라 건너뜁니다. ({}, {})", latitude, longitude);
+            return;
+        }
+
+        int pageNo = nextCoverageGapPage(district.get());
+        TourApiDto response = tourApiService.searchContentsByKeyword(district.get(), pageNo, COVERAGE_GAP_PAGE_SIZE);
+        List<TourApiDto.Data> apiList = response.getData();
+
+        if (response.getPaging() != null && response.getPaging().getTotalCount() != null
+                && (long) pageNo * COVERAGE_GAP_PAGE_SIZE >= response.getPaging().getTotalCount()) {
+            // 마지막 페이지까지 읽었으면 이 자치구의 다음 이벤트는 1페이지부터 다시 읽는다
+            stringRedisTemplate.opsForHash().delete(COVERAGE_GAP_PAGE_CURSOR_KEY, district.get());
+        }
+
+        if (apiList == null || apiList.isEmpty()) {
+            log.info("커버리지 공백 보강: '{}' {}페이지에 데이터가 없습니다.", district.get(), pageNo);
+            return;
+        }
+
+        List<Place> newPlaces = ingestListPage(apiList);
+
+        // 목록 API는 좌표를 주지 않는 경우가 많아, 좌표 없는 장소를 상세 API로 보강 (서로 독립적인 호출이라 병렬 처리)
+        List<Place> enrichCandidates = newPlaces.stream()
+                .filter(p -> p.getLatitude() == null || p.getLongitude() == null)
+                .limit(MAX_COORDINATE_ENRICH_CALLS)
+                .collect(Collectors.toList());
+
+        List<CompletableFuture<Place>> enrichFutures = enrichCandidates.stream()
+                .map(place -> CompletableFuture.supplyAsync(() -> enrichPlaceCoordinates(place), externalApiExecutor))
+                .collect(Collectors.toList());
+
+        List<Place> enrichedPlaces = enrichFutures.stream()
+                .map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        placeRepository.upsertAllByContentId(enrichedPlaces);
+        // 좌표 없이 캐시된 상세 응답이 하루 동안 남지 않도록
+        placeDetailCache.evict(contentIdsOf(enrichedPlaces));
+
+        long nearbyCount = newPlaces.stream()
+                .filter(p -> p.getLatitude() != null && p.getLongitude() != null)
+                .filter(p -> DistanceCalculator.calculateDistance(latitude, longitude, p.getLatitude(), p.getLongitude()) <= MAX_RECOMMEND_DISTANCE_KM)
+                .count();
+
+        log.info("커버리지 공백 보강 ({}, {}) '{}': {}페이지 신규 {}건 저장, 좌표 보강 {}건 중 {}건 성공, {}km 이내 {}건",
+                latitude, longitude, district.get(), pageNo, newPlaces.size(), enrichCandidates.size(), enrichedPlaces.size(),
+                MAX_RECOMMEND_DISTANCE_KM, nearbyCount);
+    }
+
+    private int nextCoverageGapPage(String district) {
+        Long page = stringRedisTemplate.opsForHash().increment(COVERAGE_GAP_PAGE_CURSOR_KEY, district, 1);
+        return page != null ? page.intValue() : 1;
+    }
+
     /**
      * 동적 반경으로 주변 장소 찾기 (3km → 5km → MAX_RECOMMEND_DISTANCE_KM 순으로 확장, 그 이상은 확장하지 않음)
      */
@@ -217,10 +247,17 @@ public class PlaceRecommendService {
     }
 
     private RecommendDto.RecommendResponse convertToRecommendResponse(GPTService.PlaceRecommendationResult aiResult, RecommendDto.EmotionData latestEmotion) {
+        // 추천 ID를 한 번에 조회해 두고, GPT 추천 순서대로 매핑
+        Map<Long, Place> placesById = placeHydrationService.hydrate(aiResult.getRecommendedPlaces().stream()
+                        .map(GPTService.PlaceRecommendationResult.RecommendedPlace::getPlaceId)
+                        .collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Place::getId, p -> p, (a, b) -> a));
+
         // RecommendDto.PlaceRecommendation 빌더에 맞춰 필드 매핑
         List<RecommendDto.PlaceRecommendation> recommendations = aiResult.getRecommendedPlaces().stream()
                 .map(rec -> {
-                    Place p = placeRepository.findById(rec.getPlaceId()).orElse(null);
+                    Place p = placesById.get(rec.getPlaceId());
                     if (p == null) return null;
                     return RecommendDto.PlaceRecommendation.builder()
                             .placeId(p.getId())
@@ -243,46 +280,127 @@ public class PlaceRecommendService {
                 .build();
     }
 
-    private Place saveNewPlaceFromApi(TourApiDto.Data data) {
+    /**
+     * 목록 API 한 페이지를 한 번에 적재한다.
+     * 이미 있는 contentId는 IN 조회 한 번으로 걸러내고, 신규 장소만 JDBC 배치 upsert 한 번으로 저장한 뒤 다시 조회해 반환한다.
+     * (항목마다 findByContentId + save 하던 방식은 50건 페이지에 쿼리 100번이 필요했다)
+     * @return 새로 저장된 장소 (비어 있으면 페이지 전체가 이미 아는 장소)
+     */
+    public List<Place> ingestListPage(List<TourApiDto.Data> pageData) {
+        Map<String, TourApiDto.Data> itemsByCid = new LinkedHashMap<>();
+        for (TourApiDto.Data data : pageData) {
+            if (data != null && data.getCid() != null && StringUtils.hasText(data.getPost_sj())) {
+                itemsByCid.putIfAbsent(data.getCid(), data);
+            }
+        }
+        if (itemsByCid.isEmpty()) {
+            return List.of();
+        }
+
+        placeRepository.findByContentIdIn(new ArrayList<>(itemsByCid.keySet()))
+                .forEach(place -> itemsByCid.remove(place.getContentId()));
+        if (itemsByCid.isEmpty()) {
+            return List.of();
+        }
+
+        List<Place> newPlaces = itemsByCid.values().stream()
+                .map(this::buildPlaceFromListItem)
+                .collect(Collectors.toList());
+
         try {
-            if (data == null || data.getCid() == null) return null;
+            placeRepository.upsertAllByContentId(newPlaces);
+        } catch (Exception e) {
+            log.error("장소 일괄 저장 실패: {}건, error={}", newPlaces.size(), e.getMessage());
+            return List.of();
+        }
+        return placeRepository.findByContentIdIn(new ArrayList<>(itemsByCid.keySet()));
+    }
 
-            Optional<Place> existing = placeRepository.findByContentId(data.getCid());
-            if (existing.isPresent()) return existing.get();
+    /**
+     * 관리자가 지정한 cid들을 실제 VisitSeoul 상세 데이터로 한 번에 저장/갱신한다.
+     * 기존 장소는 IN 조회 한 번으로 가져오고, 상세 API는 외부 API 스레드 풀에서 병렬로 호출한 뒤 배치 upsert 한 번으로 반영한다.
+     * @return 저장/갱신된 장소 (상세 API 호출에 실패한 cid는 빠진다)
+     */
+    public List<Place> ingestPlaces(List<String> cids) {
+        List<String> distinctCids = cids.stream()
+                .filter(StringUtils::hasText)
+                .distinct()
+                .collect(Collectors.toList());
+        if (distinctCids.isEmpty()) {
+            return List.of();
+        }
 
-            Double lat = null, lon = null;
-            String address = null;
+        Map<String, Place> existing = placeRepository.findByContentIdIn(distinctCids).stream()
+                .collect(Collectors.toMap(Place::getContentId, p -> p));
 
-            if (data.getTraffic() != null) {
-                address = data.getTraffic().getAdres();
-                try {
-                    if (org.springframework.util.StringUtils.hasText(data.getTraffic().getMap_position_y())) {
-                        lat = Double.parseDouble(data.getTraffic().getMap_position_y());
-                    }
-                    if (org.springframework.util.StringUtils.hasText(data.getTraffic().getMap_position_x())) {
-                        lon = Double.parseDouble(data.getTraffic().getMap_position_x());
+        List<CompletableFuture<Place>> detailFutures = distinctCids.stream()
+                .map(cid -> CompletableFuture.supplyAsync(() -> {
+                    // 어드민 적재는 하루 캐시/음성 캐시를 건너뛰고 VisitSeoul 최신 데이터를 반영한다
+                    TourApiDetailDto response = tourApiService.refreshPlaceDetailByCid(cid);
+                    if (response == null || response.getData() == null) {
+                        log.warn("장소 상세 정보를 가져올 수 없습니다. cid: {}", cid);
+                        return null;
                     }
-                } catch (NumberFormatException e) {
-                    log.warn("좌표 형식 오류: cid={}", data.getCid());
+                    Place place = existing.getOrDefault(cid, Place.builder().build());
+                    applyDetail(place, response.getData());
+                    return place;
+                }, externalApiExecutor))
+                .collect(Collectors.toList());
+
+        List<Place> fetched = detailFutures.stream()
+                .map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        if (fetched.isEmpty()) {
+            return List.of();
+        }
+
+        placeRepository.upsertAllByContentId(fetched);
+        List<String> fetchedCids = fetched.stream().map(Place::getContentId).collect(Collectors.toList());
+        placeDetailCache.evict(fetchedCids);
+        return placeRepository.findByContentIdIn(fetchedCids);
+    }
+
+    // 목록 API 항목을 Place 엔티티로 변환 (목록 API는 좌표를 주지 않는 경우가 많아 lat/lon이 null일 수 있음)
+    private Place buildPlaceFromListItem(TourApiDto.Data data) {
+        Double lat = null, lon = null;
+        String address = null;
+
+        if (data.getTraffic() != null) {
+            address = data.getTraffic().getAdres();
+            try {
+                if (org.springframework.util.StringUtils.hasText(data.getTraffic().getMap_position_y())) {
+                    lat = Double.parseDouble(data.getTraffic().getMap_position_y());
                 }
+                if (org.springframework.util.StringUtils.hasText(data.getTraffic().getMap_position_x())) {
+                    lon = Double.parseDouble(data.getTraffic().getMap_position_x());
+                }
+            } catch (NumberFormatException e) {
+                log.warn("좌표 형식 오류: cid={}", data.getCid());
             }
+        }
 
-            Place place = Place.builder()
-                    .contentId(data.getCid())
-                    .title(data.getPost_sj())
-                    .latitude(lat)
-                    .longitude(lon)
-                    .address(address)
-                    .category(data.getCate_depth())
-                    .shortDescription(data.getSumry())
-                    .thumbnailImage(data.getMain_img())
-                    .build();
-
-            return placeRepository.save(place);
-        } catch (Exception e) {
-            log.error("저장 실패: cid={}, error={}", data.getCid(), e.getMessage());
-            return null;
+        Place place = Place.builder()
+                .contentId(data.getCid())
+                .title(data.getPost_sj())
+                .latitude(lat)
+                .longitude(lon)
+                .address(address)
+                .category(data.getCate_depth())
+                .shortDescription(toShortDescription(data.getSumry(), null))
+                .thumbnailImage(data.getMain_img())
+                .build();
+        return place;
+    }
+
+    // 요약(sumry)에도 태그/엔티티가 섞여 오고 컬럼 길이(255)를 넘기도 해서, 평문으로 바꾸고 길이를 제한한다.
+    // 요약이 비어 있으면 상세 소개 앞부분으로 대신한다.
+    private String toShortDescription(String summary, String plainDescription) {
+        String shortDescription = HtmlTextExtractor.extract(summary, HtmlTextExtractor.SHORT_DESCRIPTION_MAX_LENGTH);
+        if (shortDescription.isEmpty() && plainDescription != null) {
+            shortDescription = HtmlTextExtractor.summarize(plainDescription, HtmlTextExtractor.SHORT_DESCRIPTION_MAX_LENGTH);
         }
+        return shortDescription;
     }
 
     /**
@@ -319,46 +437,37 @@ public class PlaceRecommendService {
         }
     }
 
+    /**
+     * 상세 API로만 채워지는 필드(소개, 전화번호, 영업시간 등)가 비어 있으면 VisitSeoul 상세 API로 보강해 저장한다.
+     * 이미 보강된 장소는 DB 값을 그대로 반환한다. 상세페이지용 캐시는 PlaceDetailCache가 담당한다.
+     */
     public Place saveOrUpdatePlace(String cid) {
-        String redisKey = "place_detail:" + cid;
-        Object cached = redisTemplate.opsForValue().get(redisKey);
-        if (cached != null) {
-            // Object 타입 RedisTemplate은 타입 정보 없이 저장되어 Place가 아닌
-            // LinkedHashMap으로 역직렬화되므로 ObjectMapper로 명시적으로 변환한다.
-            try {
-                return objectMapper.convertValue(cached, Place.class);
-            } catch (IllegalArgumentException e) {
-                log.warn("Redis 캐시 변환 실패, DB에서 다시 조회합니다. cid: {}", cid);
-            }
-        }
-
         Optional<Place> existingPlace = placeRepository.findByContentId(cid);
 
         // 상세정보가 이미 있으면 DB에서 반환
         if (existingPlace.isPresent() && StringUtils.hasText(existingPlace.get().getLongDescription())) {
-            redisTemplate.opsForValue().set(redisKey, existingPlace.get(), 1, TimeUnit.DAYS);
             return existingPlace.get();
         }
 
-        // 상세정보 없을 때만 VisitSeoul API 호출
-        TourApiDetailDto response = tourApiService.getPlaceDetailByCid(cid);
+        // 상세정보 없을 때만 VisitSeoul API 호출 (상세 페이지 요청 스레드라 오래 기다리지 않는다)
+        TourApiDetailDto response = tourApiService.getPlaceDetailByCidWithin(cid, DETAIL_PAGE_API_WAIT);
         if (response == null || response.getData() == null) {
             log.warn("장소 상세 정보를 가져올 수 없습니다. cid: {}", cid);
             return existingPlace.orElse(null);
         }
 
-        TourApiDto.Data d = response.getData();
-        String cleanDesc = "";
-        if (d.getPost_desc() != null) {
-            cleanDesc = d.getPost_desc()
-                    .replaceAll("(?is)<style[^>]*>.*?</style>", " ")
-                    .replaceAll("(?is)<script[^>]*>.*?</script>", " ")
-                    .replaceAll("<[^>]*>", " ")
-                    .replaceAll("\\s+", " ")
-                    .trim();
-        }
-
         Place place = existingPlace.orElseGet(() -> Place.builder().build());
+        applyDetail(place, response.getData());
+
+        Place savedPlace = placeRepository.save(place);
+        placeDetailCache.evict(cid);
+        return savedPlace;
+    }
+
+    // 상세 API 응답을 Place 필드에 반영 (DB 저장은 호출한 쪽에서)
+    private void applyDetail(Place place, TourApiDto.Data d) {
+        String cleanDesc = HtmlTextExtractor.extract(d.getPost_desc());
+
         place.setContentId(d.getCid());
         place.setTitle(d.getPost_sj() != null ? d.getPost_sj() : "제목 없음");
         place.setCategory(d.getCate_depth() != null ? d.getCate_depth() : "기타");
@@ -371,7 +480,7 @@ public class PlaceRecommendService {
                     place.setLatitude(Double.parseDouble(d.getTraffic().getMap_position_y()));
                     place.setLongitude(Double.parseDouble(d.getTraffic().getMap_position_x()));
                 } catch (NumberFormatException e) {
-                    log.warn("좌표 파싱 실패. cid: {}", cid);
+                    log.warn("좌표 파싱 실패. cid: {}", d.getCid());
                 }
             }
         }
@@ -382,76 +491,168 @@ public class PlaceRecommendService {
         }
 
         place.setLongDescription(cleanDesc);
-        place.setShortDescription(d.getSumry() != null ? d.getSumry() : "");
+        place.setShortDescription(toShortDescription(d.getSumry(), cleanDesc));
         place.setThumbnailImage(d.getMain_img() != null ? d.getMain_img() : "");
-
-        Place savedPlace = placeRepository.save(place);
-        redisTemplate.opsForValue().set(redisKey, savedPlace, 1, TimeUnit.DAYS);
-        return savedPlace;
     }
 
     /**
      * VisitSeoul 콘텐츠 목록 API는 위치 기반 검색을 지원하지 않고 서울 전역 콘텐츠 카탈로그를 페이지 단위로 줄 뿐이라,
-     * 사용자 요청 시점에 매번 1페이지만 불러오면 추천 후보가 항상 같은 좁은 풀로 고정된다.
-     * 이 메서드는 스케줄러에서 주기적으로 호출되어 카탈로그 전체 페이지를 순회하며 신규 장소를 저장하고,
-     * 좌표가 없는 장소들의 좌표를 상세 API로 보강해 DB의 지리적 커버리지를 넓힌다.
-     * 요청 경로가 아니라 배치 작업이므로 하나의 트랜잭션으로 묶지 않고, 각 저장 호출이 개별 트랜잭션으로 커밋되게 둔다.
+     * 스케줄러에서 주기적으로 카탈로그를 훑어 신규 장소를 저장하고 좌표를 보강해 DB의 지리적 커버리지를 넓힌다.
+     * 한 번에 전체를 다 읽을 수 없으므로 재개 가능한 작업으로 나눠 실행한다.
+     * 1) 델타: 1페이지부터 읽다가 페이지 전체가 이미 아는 장소면 멈춘다 (새로 추가된 콘텐츠 반영)
+     * 2) 백필: Redis 체크포인트 페이지부터 이어서 읽고, 끝까지 돌면 일정 기간 뒤 다시 처음부터 훑는다
+     * 3) 좌표 보강: place id 커서로 좌표 없는 장소를 이어서 보강해, 매 실행마다 같은 앞부분만 보강하지 않게 한다
+     * 요청 경로가 아니라 배치 작업이므로 하나의 트랜잭션으로 묶지 않고, 페이지 단위 저장이 개별 트랜잭션으로 커밋되게 둔다.
      */
     public void syncFullCatalog() {
-        int pageNo = 1;
-        int totalCount = Integer.MAX_VALUE;
-        int savedCount = 0;
+        int deltaSaved = syncCatalogDelta();
+        int backfillSaved = syncCatalogBackfill();
+        log.info("장소 카탈로그 동기화: 델타 {}건, 백필 {}건 신규 저장", deltaSaved, backfillSaved);
 
-        while ((pageNo - 1) * CATALOG_SYNC_PAGE_SIZE < totalCount && pageNo <= MAX_CATALOG_SYNC_PAGES) {
-            TourApiDto response = tourApiService.getContentsPage(pageNo, CATALOG_SYNC_PAGE_SIZE);
-            List<TourApiDto.Data> pageData = response.getData();
+        drainCoordinateBacklog();
+    }
 
-            if (pageData == null || pageData.isEmpty()) {
-                break;
-            }
+    private int syncCatalogDelta() {
+        int savedCount = 0;
+        int pageNo = 1;
 
-            if (response.getPaging() != null && response.getPaging().getTotalCount() != null) {
-                totalCount = response.getPaging().getTotalCount();
-            }
+        while (pageNo <= MAX_CATALOG_DELTA_PAGES) {
+            int lastPage = Math.min(pageNo + CATALOG_SYNC_PARALLEL_PAGES - 1, MAX_CATALOG_DELTA_PAGES);
+            List<TourApiDto> pages = fetchCatalogPages(pageNo, lastPage);
+
+            for (TourApiDto page : pages) {
+                List<TourApiDto.Data> pageData = page.getData();
+                if (pageData == null || pageData.isEmpty()) {
+                    return savedCount;
+                }
 
-            for (TourApiDto.Data data : pageData) {
-                if (saveNewPlaceFromApi(data) != null) {
-                    savedCount++;
+                int saved = ingestListPage(pageData).size();
+                savedCount += saved;
+                if (saved == 0) {
+                    log.info("장소 카탈로그 델타 동기화: {}페이지가 모두 이미 저장된 장소라 중단합니다.", pageNo);
+                    return savedCount;
                 }
+                pageNo++;
             }
+        }
+        return savedCount;
+    }
 
-            pageNo++;
+    private int syncCatalogBackfill() {
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(CATALOG_BACKFILL_COMPLETED_AT_KEY))) {
+            return 0;
         }
 
-        log.info("장소 카탈로그 동기화: {}페이지 순회, {}건 저장/확인 완료", pageNo - 1, savedCount);
+        String checkpoint = stringRedisTemplate.opsForValue().get(CATALOG_BACKFILL_PAGE_KEY);
+        int startPage = checkpoint != null ? Integer.parseInt(checkpoint) : 1;
+        int endPage = startPage + MAX_CATALOG_BACKFILL_PAGES_PER_RUN - 1;
+        int savedCount = 0;
+        int pageNo = startPage;
+        boolean reachedEnd = false;
+        boolean failed = false;
+
+        while (pageNo <= endPage && !reachedEnd && !failed) {
+            int lastPage = Math.min(pageNo + CATALOG_SYNC_PARALLEL_PAGES - 1, endPage);
+            List<TourApiDto> pages = fetchCatalogPages(pageNo, lastPage);
+
+            for (TourApiDto page : pages) {
+                List<TourApiDto.Data> pageData = page.getData();
+                if (pageData == null || pageData.isEmpty()) {
+                    // 정상 응답(paging 있음)인데 비어 있으면 카탈로그 끝, 오류 응답이면 다음 실행에서 같은 페이지부터 재시도
+                    reachedEnd = page.getPaging() != null;
+                    failed = !reachedEnd;
+                    break;
+                }
 
-        List<Place> placesWithoutCoords = placeRepository.findByLatitudeIsNullOrLongitudeIsNull().stream()
-                .limit(MAX_CATALOG_SYNC_ENRICH_CALLS)
-                .collect(Collectors.toList());
+                savedCount += ingestListPage(pageData).size();
+                pageNo++;
 
-        if (placesWithoutCoords.isEmpty()) {
-            log.info("장소 카탈로그 동기화: 좌표 보강이 필요한 장소가 없습니다.");
-            return;
+                if (isLastCatalogPage(page, pageNo - 1)) {
+                    reachedEnd = true;
+                    break;
+                }
+            }
+
+            // 배치마다 체크포인트를 남겨, 중간에 실패하거나 서버가 내려가도 다음 실행이 이어서 읽게 한다
+            stringRedisTemplate.opsForValue().set(CATALOG_BACKFILL_PAGE_KEY, String.valueOf(pageNo));
         }
 
-        List<CompletableFuture<Place>> enrichFutures = placesWithoutCoords.stream()
-                .map(place -> CompletableFuture.supplyAsync(() -> enrichPlaceCoordinates(place), externalApiExecutor))
-                .collect(Collectors.toList());
+        if (reachedEnd) {
+            // 끝까지 돌았으면 체크포인트를 지우고, 일정 기간 뒤 처음부터 다시 훑도록 완료 표시를 TTL로 남긴다
+            stringRedisTemplate.delete(CATALOG_BACKFILL_PAGE_KEY);
+            stringRedisTemplate.opsForValue().set(CATALOG_BACKFILL_COMPLETED_AT_KEY,
+                    String.valueOf(System.currentTimeMillis()), CATALOG_FULL_REWALK_DAYS, TimeUnit.DAYS);
+            log.info("장소 카탈로그 백필 완료: {}페이지까지 읽었습니다.", pageNo - 1);
+        } else {
+            log.info("장소 카탈로그 백필: {}~{}페이지 처리, 다음 실행은 {}페이지부터", startPage, pageNo - 1, pageNo);
+        }
+        return savedCount;
+    }
 
-        List<Place> enrichedPlaces = enrichFutures.stream()
+    private boolean isLastCatalogPage(TourApiDto page, int pageNo) {
+        TourApiDto.Paging paging = page.getPaging();
+        if (paging == null || paging.getTotalCount() == null) {
+            return false;
+        }
+        return (long) pageNo * CATALOG_SYNC_PAGE_SIZE >= paging.getTotalCount();
+    }
+
+    // 목록 페이지들을 외부 API 스레드 풀에서 동시에 요청하고, 페이지 순서대로 결과를 모은다
+    private List<TourApiDto> fetchCatalogPages(int firstPage, int lastPage) {
+        List<CompletableFuture<TourApiDto>> futures = new ArrayList<>();
+        for (int page = firstPage; page <= lastPage; page++) {
+            int pageNo = page;
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> tourApiService.getContentsPage(pageNo, CATALOG_SYNC_PAGE_SIZE), externalApiExecutor));
+        }
+        return futures.stream()
                 .map(CompletableFuture::join)
-                .filter(Objects::nonNull)
-                .map(placeRepository::save)
                 .collect(Collectors.toList());
+    }
+
+    private void drainCoordinateBacklog() {
+        String cursorValue = stringRedisTemplate.opsForValue().get(CATALOG_ENRICH_CURSOR_KEY);
+        long cursor = cursorValue != null ? Long.parseLong(cursorValue) : 0L;
+        int attempted = 0;
+        int enriched = 0;
+
+        while (attempted < MAX_CATALOG_SYNC_ENRICH_CALLS) {
+            int batchSize = Math.min(CATALOG_SYNC_ENRICH_BATCH_SIZE, MAX_CATALOG_SYNC_ENRICH_CALLS - attempted);
+            List<Place> batch = placeRepository.findWithoutCoordinatesAfterId(cursor, PageRequest.of(0, batchSize));
+
+            if (batch.isEmpty()) {
+                // 백로그 끝까지 왔으면 커서를 처음으로 돌려, 이전에 실패했던 장소도 다음 실행에서 다시 시도
+                cursor = 0L;
+                break;
+            }
+
+            List<CompletableFuture<Place>> enrichFutures = batch.stream()
+                    .map(place -> CompletableFuture.supplyAsync(() -> enrichPlaceCoordinates(place), externalApiExecutor))
+                    .collect(Collectors.toList());
+
+            List<Place> enrichedPlaces = enrichFutures.stream()
+                    .map(CompletableFuture::join)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+
+            placeRepository.upsertAllByContentId(enrichedPlaces);
+            placeDetailCache.evict(contentIdsOf(enrichedPlaces));
 
-        log.info("장소 카탈로그 동기화: 좌표 없는 장소 {}건 중 {}건 좌표 보강 성공",
-                placesWithoutCoords.size(), enrichedPlaces.size());
+            attempted += batch.size();
+            enriched += enrichedPlaces.size();
+            cursor = batch.get(batch.size() - 1).getId();
+            stringRedisTemplate.opsForValue().set(CATALOG_ENRICH_CURSOR_KEY, String.valueOf(cursor));
+        }
+
+        stringRedisTemplate.opsForValue().set(CATALOG_ENRICH_CURSOR_KEY, String.valueOf(cursor));
+        log.info("장소 카탈로그 동기화: 좌표 없는 장소 {}건 중 {}건 좌표 보강 성공 (다음 커서: {})", attempted, enriched, cursor);
     }
 
     /**
-     * 키워드로 VisitSeoul 실제 콘텐츠를 검색하고, 각 후보의 실제 좌표를 상세 API로 조회해
-     * 기준 좌표로부터 가까운 순으로 정렬해 반환한다. DB에 저장하지 않는 읽기 전용 조회다.
-     * (예: 동네 이름으로 검색해서 그 근처에 실제로 있는 콘텐츠를 찾을 때 사용)
+     * 키워드로 VisitSeoul 실제 콘텐츠를 검색하고, 각 후보의 실제 좌표를 구해
+     * 기준 좌표로부터 가까운 순으로 정렬해 반환한다. (예: 동네 이름으로 검색해서 그 근처에 실제로 있는 콘텐츠를 찾을 때 사용)
+     * 좌표는 1) DB에 이미 있는 장소 좌표(IN 조회 한 번) 2) 목록 응답에 들어 있는 좌표 3) 상세 API 순으로 찾고,
+     * 상세 API로 새로 알게 된 장소는 DB에 일괄 반영해 다음 검색부터는 API를 다시 부르지 않게 한다.
      */
     public List<PlaceCandidateDto> searchNearbyContent(String keyword, double latitude, double longitude, int limit) {
         TourApiDto response = tourApiService.searchContentsByKeyword(keyword, 30);
@@ -461,45 +662,101 @@ public class PlaceRecommendService {
             return List.of();
         }
 
-        List<CompletableFuture<PlaceCandidateDto>> futures = candidates.stream()
+        Map<String, TourApiDto.Data> candidatesByCid = new LinkedHashMap<>();
+        for (TourApiDto.Data data : candidates) {
+            if (data != null && data.getCid() != null) {
+                candidatesByCid.putIfAbsent(data.getCid(), data);
+            }
+        }
+
+        Map<String, Place> knownPlaces = placeRepository.findByContentIdIn(new ArrayList<>(candidatesByCid.keySet())).stream()
+                .collect(Collectors.toMap(Place::getContentId, p -> p));
+
+        List<PlaceCandidateDto> results = new ArrayList<>();
+        List<TourApiDto.Data> unresolved = new ArrayList<>();
+        List<Place> learnedFromList = new ArrayList<>();
+
+        for (TourApiDto.Data data : candidatesByCid.values()) {
+            Place known = knownPlaces.get(data.getCid());
+            if (known != null && known.getLatitude() != null && known.getLongitude() != null) {
+                results.add(toCandidate(known.getContentId(), known.getTitle(), known.getCategory(), known.getAddress(),
+                        known.getLatitude(), known.getLongitude(), latitude, longitude));
+                continue;
+            }
+
+            Place fromList = buildPlaceFromListItem(data);
+            if (fromList.getLatitude() != null && fromList.getLongitude() != null) {
+                results.add(toCandidate(data.getCid(), data.getPost_sj(), data.getCate_depth(), fromList.getAddress(),
+                        fromList.getLatitude(), fromList.getLongitude(), latitude, longitude));
+                if (known != null) {
+                    // DB에는 좌표가 없던 장소 — 목록 응답의 좌표를 반영
+                    known.setLatitude(fromList.getLatitude());
+                    known.setLongitude(fromList.getLongitude());
+                    learnedFromList.add(known);
+                }
+                continue;
+            }
+
+            unresolved.add(data);
+        }
+
+        // DB/목록 응답으로 좌표를 못 구한 후보만 상세 API 호출 (서로 독립적인 호출이라 병렬 처리)
+        List<CompletableFuture<Place>> futures = unresolved.stream()
                 .map(data -> CompletableFuture.supplyAsync(() -> {
                     TourApiDetailDto detailResponse = tourApiService.getPlaceDetailByCid(data.getCid());
                     if (detailResponse == null || detailResponse.getData() == null) {
                         return null;
                     }
 
-                    TourApiDto.Data detail = detailResponse.getData();
-                    if (detail.getTraffic() == null
-                            || !StringUtils.hasText(detail.getTraffic().getMap_position_y())
-                            || !StringUtils.hasText(detail.getTraffic().getMap_position_x())) {
-                        return null;
-                    }
-
-                    try {
-                        double lat = Double.parseDouble(detail.getTraffic().getMap_position_y());
-                        double lon = Double.parseDouble(detail.getTraffic().getMap_position_x());
-                        double distance = DistanceCalculator.calculateDistance(latitude, longitude, lat, lon);
-
-                        return PlaceCandidateDto.builder()
-                                .cid(data.getCid())
-                                .title(detail.getPost_sj())
-                                .category(detail.getCate_depth())
-                                .address(detail.getTraffic().getNew_adres())
-                                .latitude(lat)
-                                .longitude(lon)
-                                .distanceKm(DistanceCalculator.roundDistance(distance))
-                                .build();
-                    } catch (NumberFormatException e) {
-                        return null;
-                    }
+                    Place place = knownPlaces.getOrDefault(data.getCid(), Place.builder().build());
+                    applyDetail(place, detailResponse.getData());
+                    return place.getLatitude() != null && place.getLongitude() != null ? place : null;
                 }, externalApiExecutor))
                 .collect(Collectors.toList());
 
-        return futures.stream()
+        List<Place> learned = futures.stream()
                 .map(CompletableFuture::join)
                 .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        List<Place> toSave = new ArrayList<>(learnedFromList);
+        toSave.addAll(learned);
+        if (!toSave.isEmpty()) {
+            try {
+                placeRepository.upsertAllByContentId(toSave);
+                placeDetailCache.evict(contentIdsOf(toSave));
+            } catch (Exception e) {
+                log.warn("검색으로 알게 된 장소 좌표 저장 실패: {}건, error={}", toSave.size(), e.getMessage());
+            }
+        }
+
+        learned.forEach(place -> results.add(toCandidate(place.getContentId(), place.getTitle(), place.getCategory(),
+                place.getAddress(), place.getLatitude(), place.getLongitude(), latitude, longitude)));
+
+        log.info("장소 검색 '{}': 후보 {}건 중 DB/목록 좌표 {}건, 상세 API 조회 {}건", keyword, candidatesByCid.size(),
+                candidatesByCid.size() - unresolved.size(), unresolved.size());
+
+        return results.stream()
                 .sorted(Comparator.comparingDouble(PlaceCandidateDto::getDistanceKm))
                 .limit(limit)
                 .collect(Collectors.toList());
     }
+
+    private List<String> contentIdsOf(List<Place> places) {
+        return places.stream().map(Place::getContentId).collect(Collectors.toList());
+    }
+
+    private PlaceCandidateDto toCandidate(String cid, String title, String category, String address,
+                                          double placeLat, double placeLon, double originLat, double originLon) {
+        double distance = DistanceCalculator.calculateDistance(originLat, originLon, placeLat, placeLon);
+        return PlaceCandidateDto.builder()
+                .cid(cid)
+                .title(title)
+                .category(category)
+                .address(address)
+                .latitude(placeLat)
+                .longitude(placeLon)
+                .distanceKm(DistanceCalculator.roundDistance(distance))
+                .build();
+    }
 }
\ No newline at end of file
@@ -1,7 +1,11 @@
 package org.example.localy.service.place;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.localy.dto.place.BookmarkCursor;
+import org.example.localy.dto.place.HomeSnapshot;
+import org.example.localy.dto.place.PlaceDetailSnapshot;
 import org.example.localy.dto.place.PlaceDto;
 import org.example.localy.dto.place.RecommendDto;
 import org.example.localy.entity.place.Bookmark;
@@ -9,18 +13,23 @@ import org.example.localy.entity.place.Mission;
 import org.example.localy.entity.place.Place;
 import org.example.localy.entity.place.PlaceImage;
 import org.example.localy.entity.Users;
+import org.example.localy.event.HomeDataChangedEvent;
 import org.example.localy.common.exception.CustomException;
 import org.example.localy.common.exception.errorCode.PlaceErrorCode;
 import org.example.localy.repository.place.BookmarkRepository;
 import org.example.localy.repository.place.MissionRepository;
 import org.example.localy.repository.place.PlaceImageRepository;
 import org.example.localy.repository.place.PlaceRepository;
+import org.example.localy.service.mission.MissionGenerationService;
 import org.example.localy.service.mission.MissionService;
 import org.example.localy.util.DistanceCalculator;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
 import java.util.Objects;
 
@@ -29,6 +38,13 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -43,12 +59,35 @@ public class PlaceService {
     private final PlaceImageRepository placeImageRepository;
     private final MissionRepository missionRepository;
     private final MissionService missionService;
+    private final MissionGenerationService missionGenerationService;
+    private final PlaceHydrationService placeHydrationService;
+    private final PlaceDetailCache placeDetailCache;
+    private final PlaceBookmarkCounter bookmarkCounter;
+    private final BookmarkTotalCache bookmarkTotalCache;
+    private final HomeResponseCache homeResponseCache;
+    private final ApplicationEventPublisher eventPublisher;
     private final RedisTemplate<String, Object> objectRedisTemplate;
+    private final ExecutorService homeExecutor;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransactionTemplate;
+
+    // 홈 화면 구성 요소별 제한 시간 — DB 조회는 짧게, GPT 추천은 넉넉하게
+    private static final long HOME_DB_PART_TIMEOUT_MS = 2_000;
+    private static final long HOME_RECOMMEND_TIMEOUT_MS = 8_000;
     private static final String RECOMMENDED_PLACES_KEY_PREFIX = "localy:recommended_places:";
     private static final long RECOMMENDED_PLACES_TTL_HOURS = 24;
 
+    @PostConstruct
+    void initTransactionTemplate() {
+        readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
     // 로컬가이드 홈 조회
-    @Transactional
+    // 사용자별 캐시(HomeResponseCache)가 있으면 거리만 현재 위치 기준으로 다시 계산해 바로 반환한다 (캐시 조회 외에 다른 I/O 없음).
+    // 없으면 미션 배너, 추천 장소, 미션 장소, 최근 북마크를 동시에 조회하고, 각자 제한 시간 안에 끝나지 않으면 기본값으로 채운다.
+    // 트랜잭션으로 묶지 않아, GPT 호출이 포함된 추천 단계가 DB 커넥션을 잡고 기다리지 않게 한다.
     public PlaceDto.HomeResponse getHomeData(Users user, Double latitude, Double longitude) {
         if (latitude == null || longitude == null) {
             throw new CustomException(PlaceErrorCode.LOCATION_REQUIRED);
@@ -64,159 +103,234 @@ public class PlaceService {
                     .build();
         }
 
-        // 미션 배너 데이터
-        PlaceDto.MissionBanner missionBanner = getMissionBanner(user);
+        HomeSnapshot cached = homeResponseCache.get(user.getId(), latitude, longitude);
+        if (cached != null) {
+            return toHomeResponse(cached, latitude, longitude);
+        }
+
+        // 캐시가 없을 때만 확인한다. 진행할 미션이 없으면 백그라운드 생성을 시작한다 (완료되면 홈 캐시가 무효화된다).
+        // 캐시가 있는 동안은 미션 변경(인증, 생성 완료)이 캐시를 지우므로, 적중한 요청마다 확인할 필요가 없다.
+        missionGenerationService.requestIfNeeded(user, latitude, longitude);
+        // 계산 도중 무효화가 일어나면 결과를 캐시하지 않도록, 조회를 시작하기 전의 버전을 받아 둔다
+        Long cacheVersion = homeResponseCache.currentVersion(user.getId());
 
-        // 감정 기반 추천 장소 (미션 생성 로직 포함)
-        //missionService.processMissionGenerationAndAccumulation(user, latitude, longitude);
+        // 미션 배너 데이터
+        CompletableFuture<PlaceDto.MissionBanner> missionBanner = homePart("미션 배너",
+                () -> readOnly(() -> getMissionBanner(user)), HOME_DB_PART_TIMEOUT_MS);
 
-        // 감정 기반 추천 장소
-        List<PlaceDto.PlaceSimple> recommendedPlaces = getRecommendedPlaces(user, latitude, longitude);
+        // 감정 기반 추천 장소 (VisitSeoul/GPT가 포함될 수 있어 트랜잭션 밖에서 실행)
+        CompletableFuture<List<HomeSnapshot.PlaceEntry>> recommendedPlaces = homePart("추천 장소",
+                () -> getRecommendedPlaces(user, latitude, longitude), HOME_RECOMMEND_TIMEOUT_MS);
 
         // 미션 장소 (활성 미션의 장소들)
-        List<PlaceDto.PlaceSimple> missionPlaces = getMissionPlaces(user, latitude, longitude);
+        CompletableFuture<List<HomeSnapshot.PlaceEntry>> missionPlaces = homePart("미션 장소",
+                () -> readOnly(() -> getMissionPlaces(user)), HOME_DB_PART_TIMEOUT_MS);
 
         // 최근 북마크한 장소
-        List<PlaceDto.BookmarkItem> recentBookmarks = getRecentBookmarks(user);
+        CompletableFuture<List<PlaceDto.BookmarkItem>> recentBookmarks = homePart("최근 북마크",
+                () -> readOnly(() -> getRecentBookmarks(user)), HOME_DB_PART_TIMEOUT_MS);
+
+        HomeSnapshot snapshot = HomeSnapshot.builder()
+                .originLatitude(latitude)
+                .originLongitude(longitude)
+                .missionBanner(missionBanner.join())
+                .recommendedPlaces(recommendedPlaces.join())
+                .missionPlaces(missionPlaces.join())
+                .recentBookmarks(recentBookmarks.join())
+                .build();
+
+        boolean complete = snapshot.getMissionBanner() != null && snapshot.getRecommendedPlaces() != null
+                && snapshot.getMissionPlaces() != null && snapshot.getRecentBookmarks() != null;
+        if (complete) {
+            // 일부가 실패/시간 초과로 기본값이 된 응답은 캐시하지 않는다
+            homeResponseCache.put(user.getId(), snapshot, cacheVersion);
+        }
+        return toHomeResponse(snapshot, latitude, longitude);
+    }
+
+    /**
+     * 홈 화면 구성 요소 하나를 homeExecutor에서 실행한다. 제한 시간을 넘기거나 실패하면 null로 끝나고,
+     * toHomeResponse에서 기본값으로 채워 나머지 응답은 그대로 내보낸다.
+     * 제한 시간을 넘긴 작업은 인터럽트로 취소해(대기 중이면 큐에서 빠진다) 응답이 나간 뒤에도 풀을 차지하지 않게 하고,
+     * 풀과 큐가 가득 차 제출이 거절되면 실행하지 않고 바로 기본값으로 처리한다.
+     * 요청 속성은 넘기지 않는다. 사용자와 위치는 part가 인자로 들고 있고, 장소 메모는 작업마다 따로 쓴다.
+     */
+    private <T> CompletableFuture<T> homePart(String name, Supplier<T> part, long timeoutMs) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = homeExecutor.submit(() -> {
+                try {
+                    result.complete(placeHydrationService.withMemo(part));
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("홈 작업 풀이 가득 차 {} 조회를 건너뛰고 기본값 반환", name);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return result
+                .orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .handle((value, e) -> {
+                    if (e instanceof TimeoutException) {
+                        task.cancel(true);
+                        log.warn("홈 {} 조회가 {}ms 안에 끝나지 않아 취소하고 기본값 반환", name, timeoutMs);
+                        return null;
+                    }
+                    if (e != null) {
+                        log.error("홈 {} 조회 실패, 기본값 반환", name, e);
+                        return null;
+                    }
+                    return value;
+                });
+    }
+
+    // 지연 로딩 연관관계(Mission.place, Bookmark.place)를 읽는 조회를 짧은 읽기 전용 트랜잭션으로 감싼다
+    private <T> T readOnly(Supplier<T> query) {
+        return readOnlyTransactionTemplate.execute(status -> query.get());
+    }
+
+    // 캐시된(또는 방금 만든) 홈 데이터를 현재 위치 기준 응답으로 변환. 빠진 부분은 기본값으로 채운다.
+    private PlaceDto.HomeResponse toHomeResponse(HomeSnapshot snapshot, double latitude, double longitude) {
         return PlaceDto.HomeResponse.builder()
-                .missionBanner(missionBanner)
-                .missionPlaces(missionPlaces)
-                .recommendedPlaces(recommendedPlaces)
-                .recentBookmarks(recentBookmarks)
+                .missionBanner(snapshot.getMissionBanner() != null ? snapshot.getMissionBanner() : defaultMissionBanner())
+                .missionPlaces(toPlaceSimples(snapshot.getMissionPlaces(), latitude, longitude))
+                .recommendedPlaces(toPlaceSimples(snapshot.getRecommendedPlaces(), latitude, longitude))
+                .recentBookmarks(snapshot.getRecentBookmarks() != null ? snapshot.getRecentBookmarks() : List.of())
+                .build();
+    }
+
+    private List<PlaceDto.PlaceSimple> toPlaceSimples(List<HomeSnapshot.PlaceEntry> entries, double latitude, double longitude) {
+        if (entries == null) {
+            return List.of();
+        }
+        return entries.stream()
+                .map(entry -> PlaceDto.PlaceSimple.builder()
+                        .placeId(entry.getPlaceId())
+                        .placeName(entry.getPlaceName())
+                        .category(entry.getCategory())
+                        .address(entry.getAddress())
+                        .thumbnailImage(entry.getThumbnailImage())
+                        .distance(DistanceCalculator.roundDistance(DistanceCalculator.calculateDistance(
+                                latitude, longitude, entry.getLatitude(), entry.getLongitude())))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private PlaceDto.MissionBanner defaultMissionBanner() {
+        return PlaceDto.MissionBanner.builder()
+                .emotionKeyword(getEmotionKeyword(50))
+                .totalMissions(0)
+                .completedMissions(0)
+                .progressPercent(0)
                 .build();
     }
 
     // 미션 배너 데이터
     private PlaceDto.MissionBanner getMissionBanner(Users user) {
         if (user == null) {
-            return PlaceDto.MissionBanner.builder()
-                    .emotionKeyword(getEmotionKeyword(50)) // 기본값 50점 (중립)
-                    .totalMissions(0)
-                    .completedMissions(0)
-                    .progressPercent(0)
-                    .build();
+            return defaultMissionBanner(); // 기본값 50점 (중립)
         }
 
-        try {
-            // EmotionDataService가 Score를 반환한다고 가정
-            RecommendDto.EmotionData emotionData = emotionDataService.getCurrentEmotion(user);
+        // EmotionDataService가 Score를 반환한다고 가정
+        RecommendDto.EmotionData emotionData = emotionDataService.getCurrentEmotion(user);
 
-            int currentEmotionScore = emotionData != null ? emotionData.getEmotionScore() : 50;
+        int currentEmotionScore = emotionData != null ? emotionData.getEmotionScore() : 50;
 
-            LocalDateTime now = LocalDateTime.now();
-            long totalMissions = missionRepository.countActiveByUser(user, now);
-            long completedMissions = missionRepository.countCompletedByUser(user, now);
+        LocalDateTime now = LocalDateTime.now();
+        long totalMissions = missionRepository.countActiveByUser(user, now);
+        long completedMissions = missionRepository.countCompletedByUser(user, now);
 
-            int progressPercent = totalMissions > 0
-                    ? (int) ((completedMissions * 100) / totalMissions)
-                    : 0;
+        int progressPercent = totalMissions > 0
+                ? (int) ((completedMissions * 100) / totalMissions)
+                : 0;
 
-            return PlaceDto.MissionBanner.builder()
-                    .emotionKeyword(getEmotionKeyword(currentEmotionScore)) // 수치 기반 키워드 사용
-                    .totalMissions((int) totalMissions)
-                    .completedMissions((int) completedMissions)
-                    .progressPercent(progressPercent)
-                    .build();
-        } catch (Exception e) {
-            log.error("미션 배너 데이터 조회 실패, 기본값 반환", e);
-            return PlaceDto.MissionBanner.builder()
-                    .emotionKeyword(getEmotionKeyword(50))
-                    .totalMissions(0)
-                    .completedMissions(0)
-                    .progressPercent(0)
-                    .build();
-        }
+        return PlaceDto.MissionBanner.builder()
+                .emotionKeyword(getEmotionKeyword(currentEmotionScore)) // 수치 기반 키워드 사용
+                .totalMissions((int) totalMissions)
+                .completedMissions((int) completedMissions)
+                .progressPercent(progressPercent)
+                .build();
     }
 
     // 미션 장소 목록
-    private List<PlaceDto.PlaceSimple> getMissionPlaces(Users user, Double latitude, Double longitude) {
-        if (user == null) return List.of();
+    private List<HomeSnapshot.PlaceEntry> getMissionPlaces(Users user) {
+        List<Mission> activeMissions = missionRepository.findActiveByUser(user, LocalDateTime.now()).stream()
+                .filter(m -> !m.getIsCompleted())
+                .collect(Collectors.toList());
 
-        try {
-            List<Mission> activeMissions = missionRepository.findActiveByUser(user, LocalDateTime.now()).stream()
-                    .filter(m -> !m.getIsCompleted())
-                    .collect(Collectors.toList());
-
-            // 한 장소에 미션이 여러 개 있을 수 있으므로 장소 기준으로 중복 제거
-            Map<Long, Place> uniquePlaces = new LinkedHashMap<>();
-            activeMissions.stream()
-                    .map(Mission::getPlace)
-                    .filter(Objects::nonNull)
-                    .forEach(place -> uniquePlaces.putIfAbsent(place.getId(), place));
-
-            return uniquePlaces.values().stream()
-                    .map(place -> convertToPlaceSimple(place, latitude, longitude))
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
-        } catch (Exception e) {
-            log.error("미션 장소 조회 실패", e);
-            return List.of();
-        }
+        // 한 장소에 미션이 여러 개 있을 수 있으므로 장소 기준으로 중복 제거
+        Map<Long, Place> uniquePlaces = new LinkedHashMap<>();
+        activeMissions.stream()
+                .map(Mission::getPlace)
+                .filter(Objects::nonNull)
+                .forEach(place -> uniquePlaces.putIfAbsent(place.getId(), place));
+
+        return uniquePlaces.values().stream()
+                .map(this::toPlaceEntry)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     // 추천 장소 (미션 포함)
-    private List<PlaceDto.PlaceSimple> getRecommendedPlaces(Users user, Double latitude, Double longitude) {
-        if (user == null) return List.of();
-
-        try {
-            RecommendDto.RecommendResponse recommendation =
-                    recommendService.recommendPlaces(user, latitude, longitude);
-
-            if (recommendation == null || recommendation.getRecommendedPlaces() == null) {
-                log.warn("추천 결과가 null입니다.");
-                return List.of();
-            }
+    private List<HomeSnapshot.PlaceEntry> getRecommendedPlaces(Users user, Double latitude, Double longitude) {
+        RecommendDto.RecommendResponse recommendation =
+                recommendService.recommendPlaces(user, latitude, longitude);
 
-            return recommendation.getRecommendedPlaces().stream()
-                    .limit(5)
-                    .map(rec -> {
-                        Place place = placeRepository.findById(rec.getPlaceId())
-                                .orElse(null);
-
-                        if (place == null) {
-                            log.warn("GPT가 추천한 Place ID={}에 해당하는 장소를 DB에서 찾을 수 없습니다.", rec.getPlaceId());
-                            return null;
-                        }
-
-                        return convertToPlaceSimple(place, latitude, longitude);
-                    })
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
-        } catch (Exception e) {
-            log.error("추천 장소 조회 실패", e);
+        if (recommendation == null || recommendation.getRecommendedPlaces() == null) {
+            log.warn("추천 결과가 null입니다.");
             return List.of();
         }
+
+        // 추천 단계에서 이미 조회한 장소는 작업 메모(homePart의 withMemo)에서 바로 꺼내고, 나머지만 한 번에 조회
+        List<Long> placeIds = recommendation.getRecommendedPlaces().stream()
+                .limit(5)
+                .map(RecommendDto.PlaceRecommendation::getPlaceId)
+                .collect(Collectors.toList());
+
+        return placeHydrationService.hydrate(placeIds).stream()
+                .map(this::toPlaceEntry)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     // 최근 북마크 생성 (최대 5개)
     private List<PlaceDto.BookmarkItem> getRecentBookmarks(Users user) {
-        if (user == null) return List.of();
+        List<Bookmark> bookmarks = bookmarkRepository.findTop5ByUserOrderByCreatedAtDesc(
+                user, PageRequest.of(0, 5));
 
-        try {
-            List<Bookmark> bookmarks = bookmarkRepository.findTop5ByUserOrderByCreatedAtDesc(
-                    user, PageRequest.of(0, 5));
-
-            return bookmarks.stream()
-                    .map(this::convertToBookmarkItem)
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
-        } catch (Exception e) {
-            log.error("북마크 조회 실패", e);
-            return List.of();
-        }
+        return convertToBookmarkItems(bookmarks);
     }
 
     // 장소 상세페이지 조회
-    @Transactional
+    // 트랜잭션으로 묶지 않는다 — 상세 캐시 버전을 읽은 뒤의 조회가 그 시점에 커밋된 데이터를 보도록
+    // (하나의 트랜잭션 안에서는 첫 조회 시점의 스냅샷을 계속 읽는다). 쓰기(상세 보강 저장, 미션 생성)는 각자 트랜잭션으로 처리된다.
     public PlaceDto.PlaceDetail getPlaceDetail(Users user, Long placeId) {
         Place place = placeRepository.findById(placeId)
                 .orElseThrow(() -> new CustomException(PlaceErrorCode.PLACE_NOT_FOUND));
 
-        // 전화번호/영업시간/상세 소개는 상세 API로만 채워지므로, 상세페이지 조회 시점에 보강한다.
-        if (StringUtils.hasText(place.getContentId())) {
-            Place enriched = recommendService.saveOrUpdatePlace(place.getContentId());
-            if (enriched != null) {
-                place = enriched;
+        // 상세 필드(소개, 이미지 목록 등)는 L1/L2 캐시에서 읽는다. 캐시에 없을 때만 상세 API 보강 + 이미지 조회를 한다.
+        PlaceDetailSnapshot detail = StringUtils.hasText(place.getContentId())
+                ? placeDetailCache.get(place.getContentId())
+                : null;
+        if (detail == null) {
+            // 계산을 시작하기 전에 버전을 읽어 둔다. 계산하는 동안 장소가 갱신(무효화)되면 이 결과는 캐시하지 않는다.
+            Long version = StringUtils.hasText(place.getContentId())
+                    ? placeDetailCache.currentVersion(place.getContentId())
+                    : null;
+            // 전화번호/영업시간/상세 소개는 상세 API로만 채워지므로, 상세페이지 조회 시점에 보강한다.
+            if (StringUtils.hasText(place.getContentId())) {
+                Place enriched = recommendService.saveOrUpdatePlace(place.getContentId());
+                if (enriched != null) {
+                    place = enriched;
+                }
+            }
+            detail = toDetailSnapshot(place);
+            // 상세 API 보강에 실패한 상태는 캐시하지 않아, 다음 조회에서 다시 보강을 시도하게 한다
+            if (StringUtils.hasText(place.getContentId()) && StringUtils.hasText(place.getLongDescription())) {
+                placeDetailCache.put(detail, version);
             }
         }
 
@@ -234,48 +348,67 @@ public class PlaceService {
             }
         }
 
-        // 기존 상세 정보 조회 및 반환 로직
-        List<PlaceImage> images = placeImageRepository.findByPlaceOrderByDisplayOrder(place);
-        List<String> imageUrls = images.stream()
-                .map(PlaceImage::getImageUrl)
-                .collect(Collectors.toList());
-
         boolean isBookmarked = bookmarkRepository.existsByUserAndPlace(user, place);
 
         return PlaceDto.PlaceDetail.builder()
                 .placeId(place.getId())
-                .placeName(place.getTitle())
+                .placeName(detail.getTitle())
+                .category(detail.getCategory())
+                .address(detail.getAddress())
+                .latitude(detail.getLatitude())
+                .longitude(detail.getLongitude())
+                .phoneNumber(detail.getPhoneNumber())
+                .openingHours(detail.getOpeningHours())
+                .images(detail.getImageUrls().isEmpty() ? List.of(detail.getThumbnailImage()) : detail.getImageUrls())
+                .shortDescription(detail.getShortDescription())
+                .longDescription(detail.getLongDescription())
+                .isBookmarked(isBookmarked)
+                .bookmarkCount(bookmarkCounter.get(place))
+                .build();
+    }
+
+    private PlaceDetailSnapshot toDetailSnapshot(Place place) {
+        List<String> imageUrls = placeImageRepository.findByPlaceOrderByDisplayOrder(place).stream()
+                .map(PlaceImage::getImageUrl)
+                .collect(Collectors.toList());
+
+        return PlaceDetailSnapshot.builder()
+                .placeId(place.getId())
+                .contentId(place.getContentId())
+                .title(place.getTitle())
                 .category(place.getCategory())
                 .address(place.getAddress())
                 .latitude(place.getLatitude())
                 .longitude(place.getLongitude())
                 .phoneNumber(place.getPhoneNumber())
                 .openingHours(place.getOpeningHours())
-                .images(imageUrls.isEmpty() ? List.of(place.getThumbnailImage()) : imageUrls)
+                .thumbnailImage(place.getThumbnailImage())
                 .shortDescription(place.getShortDescription())
                 .longDescription(place.getLongDescription())
-                .isBookmarked(isBookmarked)
-                .bookmarkCount(place.getBookmarkCount())
+                .imageUrls(imageUrls)
                 .build();
     }
 
     // 북마크 목록 조회
     @Transactional(readOnly = true)
     public PlaceDto.BookmarkListResponse getBookmarks(
-            Users user, String sortType, Long lastBookmarkId, Integer size) {
+            Users user, String sortType, String cursor, Long lastBookmarkId, Integer size) {
 
         if (size == null || size <= 0) {
             size = 20;
         }
 
-        PageRequest pageRequest = PageRequest.of(0, size);
+        // 다음 페이지 존재 여부를 정확히 알기 위해 한 건 더 읽는다
+        PageRequest pageRequest = PageRequest.of(0, size + 1);
         List<Bookmark> bookmarks;
+        boolean popular = "POPULAR".equalsIgnoreCase(sortType);
 
         // 조회 (정렬 최신순/인기순)
-        if ("POPULAR".equalsIgnoreCase(sortType)) {
-            if (lastBookmarkId != null) {
-                bookmarks = bookmarkRepository.findByUserAndIdLessThanOrderByPopularity(
-                        user, lastBookmarkId, pageRequest);
+        if (popular) {
+            BookmarkCursor after = resolvePopularityCursor(user, cursor, lastBookmarkId);
+            if (after != null) {
+                bookmarks = bookmarkRepository.findByUserAfterCursorOrderByPopularity(
+                        user, after.getPlaceBookmarkCount(), after.getCreatedAt(), after.getBookmarkId(), pageRequest);
             } else {
                 bookmarks = bookmarkRepository.findByUserOrderByPopularity(user, pageRequest);
             }
@@ -289,25 +422,43 @@ public class PlaceService {
         }
 
         // 다음 페이지 존재 여부 확인
-        boolean hasNext = bookmarks.size() >= size;
-        Long newLastBookmarkId = bookmarks.isEmpty() ? null : bookmarks.get(bookmarks.size() - 1).getId();
+        boolean hasNext = bookmarks.size() > size;
+        if (hasNext) {
+            bookmarks = bookmarks.subList(0, size);
+        }
+        Bookmark last = bookmarks.isEmpty() ? null : bookmarks.get(bookmarks.size() - 1);
+        Long newLastBookmarkId = last != null ? last.getId() : null;
+        String nextCursor = popular && hasNext ? BookmarkCursor.of(last).encode() : null;
 
         // DTO 변환
-        List<PlaceDto.BookmarkItem> bookmarkItems = bookmarks.stream()
-                .map(this::convertToBookmarkItem)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        List<PlaceDto.BookmarkItem> bookmarkItems = convertToBookmarkItems(bookmarks);
 
-        long totalElements = bookmarkRepository.countByUser(user);
+        // 전체 개수는 토글 시 증감되는 사용자별 캐시에서 읽는다
+        long totalElements = bookmarkTotalCache.get(user);
 
         return PlaceDto.BookmarkListResponse.builder()
                 .bookmarks(bookmarkItems)
                 .hasNext(hasNext)
                 .totalElements(totalElements)
                 .lastBookmarkId(newLastBookmarkId)
+                .nextCursor(nextCursor)
                 .build();
     }
 
+    // 인기순 커서 해석. lastBookmarkId만 보내는 기존 클라이언트는 해당 북마크 행의 정렬 키로 커서를 만든다 (PK 조회 1회).
+    private BookmarkCursor resolvePopularityCursor(Users user, String cursor, Long lastBookmarkId) {
+        if (StringUtils.hasText(cursor)) {
+            return BookmarkCursor.decode(cursor);
+        }
+        if (lastBookmarkId == null) {
+            return null;
+        }
+        return bookmarkRepository.findById(lastBookmarkId)
+                .filter(bookmark -> bookmark.getUser().getId().equals(user.getId()))
+                .map(BookmarkCursor::of)
+                .orElseThrow(() -> new CustomException(PlaceErrorCode.BOOKMARK_NOT_FOUND));
+    }
+
     // 북마크 추가/취소
     @Transactional
     public PlaceDto.BookmarkResponse toggleBookmark(
@@ -321,12 +472,14 @@ public class PlaceService {
         if (existingBookmark.isPresent()) {
             // 북마크 취소
             bookmarkRepository.delete(existingBookmark.get());
-            place.decrementBookmarkCount();
-            placeRepository.save(place);
+            // 북마크 수는 Place를 저장하지 않고 커밋 후 Redis 카운터로 증감한다 (MySQL 반영은 주기적 일괄 UPDATE)
+            int bookmarkCount = bookmarkCounter.applyAfterCommit(place, -1);
+            bookmarkTotalCache.applyAfterCommit(user.getId(), -1);
+            eventPublisher.publishEvent(new HomeDataChangedEvent(user.getId(), HomeDataChangedEvent.Reason.BOOKMARK));
 
             return PlaceDto.BookmarkResponse.builder()
                     .isBookmarked(false)
-                    .bookmarkCount(place.getBookmarkCount())
+                    .bookmarkCount(bookmarkCount)
                     .build();
         } else {
             // 북마크 추가
@@ -334,45 +487,60 @@ public class PlaceService {
                     ? request.getCurrentEmotion()
                     : "기본";  // null 처리 추가
 
+            // 정렬 키는 엔티티에 읽어 둔 (마지막 일괄 반영 시점의) 값이 아니라 카운터 기준 현재 북마크 수로 넣는다
+            int bookmarkCount = bookmarkCounter.applyAfterCommit(place, 1);
+
             Bookmark bookmark = Bookmark.builder()
                     .user(user)
                     .place(place)
                     .bookmarkedEmotion(currentEmotion)
+                    .placeBookmarkCount(bookmarkCount)
                     .build();
             bookmarkRepository.save(bookmark);
 
-            place.incrementBookmarkCount();
-            placeRepository.save(place);
+            bookmarkTotalCache.applyAfterCommit(user.getId(), 1);
+            eventPublisher.publishEvent(new HomeDataChangedEvent(user.getId(), HomeDataChangedEvent.Reason.BOOKMARK));
 
             return PlaceDto.BookmarkResponse.builder()
                     .isBookmarked(true)
-                    .bookmarkCount(place.getBookmarkCount())
+                    .bookmarkCount(bookmarkCount)
                     .build();
         }
     }
 
-    // Place를 PlaceSimple로 변환
-    private PlaceDto.PlaceSimple convertToPlaceSimple(Place place, Double latitude, Double longitude) {
+    // Place를 홈 캐시용 항목으로 변환 (거리는 응답 시점의 위치로 계산하므로 좌표를 담아 둔다)
+    private HomeSnapshot.PlaceEntry toPlaceEntry(Place place) {
         if (place == null || place.getLatitude() == null || place.getLongitude() == null) {
             log.warn("장소 정보가 불완전합니다. place={}", place);
             return null;
         }
 
-        double distance = DistanceCalculator.calculateDistance(
-                latitude, longitude, place.getLatitude(), place.getLongitude());
-
-        return PlaceDto.PlaceSimple.builder()
+        return HomeSnapshot.PlaceEntry.builder()
                 .placeId(place.getId())
                 .placeName(place.getTitle())
                 .category(place.getCategory())
                 .address(place.getAddress())
                 .thumbnailImage(place.getThumbnailImage())
-                .distance(DistanceCalculator.roundDistance(distance))
+                .latitude(place.getLatitude())
+                .longitude(place.getLongitude())
                 .build();
     }
 
+    // 북마크 목록 변환 (장소별 북마크 수는 카운터에서 한 번에 읽는다)
+    public List<PlaceDto.BookmarkItem> convertToBookmarkItems(List<Bookmark> bookmarks) {
+        Map<Long, Integer> bookmarkCounts = bookmarkCounter.getAll(bookmarks.stream()
+                .map(Bookmark::getPlace)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()));
+
+        return bookmarks.stream()
+                .map(bookmark -> convertToBookmarkItem(bookmark, bookmarkCounts))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     //북마크 변환
-    public PlaceDto.BookmarkItem convertToBookmarkItem(Bookmark bookmark) {
+    private PlaceDto.BookmarkItem convertToBookmarkItem(Bookmark bookmark, Map<Long, Integer> bookmarkCounts) {
         Place place = bookmark.getPlace();
 
         if (place == null) {
@@ -388,25 +556,13 @@ public class PlaceService {
                 .address(place.getAddress())
                 .thumbnailImage(place.getThumbnailImage())
                 .bookmarkedAt(bookmark.getCreatedAt())
-                .bookmarkCount(place.getBookmarkCount())
+                .bookmarkCount(bookmarkCounts.getOrDefault(place.getId(), place.getBookmarkCount()))
                 .bookmarkedEmotion(bookmark.getBookmarkedEmotion())
                 .build();
     }
 
     private String getEmotionKeyword(int score) {
-        if (score >= 84) {
-            return "매우 긍정적"; // 84~100
-        } else if (score >= 67) {
-            return "긍정적"; // 67~83
-        } else if (score >= 51) {
-            return "약간 긍정적"; // 51~66
-        } else if (score >= 34) {
-            return "중립"; // 34~50
-        } else if (score >= 17) {
-            return "부정적"; // 17~33
-        } else {
-            return "매우 부정적"; // 0~16
-        }
+        return EmotionDataService.bannerKeywordOf(score);
     }
 
     private String generateShortDescription(String overview) {
@@ -1,14 +1,24 @@
 package org.example.localy.service.place;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.localy.common.concurrency.AdaptiveConcurrencyLimiter;
+import org.example.localy.common.concurrency.ConcurrencyLimitExceededException;
+import org.example.localy.common.concurrency.UpstreamConcurrencyLimiters;
 import org.example.localy.dto.place.TourApiDetailDto;
 import org.example.localy.dto.place.TourApiDto;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
 import java.time.Duration;
@@ -16,58 +26,228 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TourApiService {
+
+    private static final String DETAIL_CACHE_KEY_PREFIX = "localy:tour:detail:";
+    private static final String NOT_FOUND_MARKER = "__NONE__";
+
+    // 상세 정보는 자주 바뀌지 않으므로 하루 캐시
+    private static final Duration DETAIL_TTL = Duration.ofDays(1);
+    // 상세 API에도 좌표가 없는 장소는 좌표 보강 배치가 매번 다시 호출하지 않도록 더 길게 캐시
+    private static final Duration NO_COORDINATES_TTL = Duration.ofDays(7);
+    // 없는 cid / 오류 응답
+    private static final Duration NOT_FOUND_TTL = Duration.ofHours(6);
+    // 재시도까지 실패한 일시 오류 (5xx, 타임아웃 등)
+    private static final Duration FAILURE_TTL = Duration.ofMinutes(1);
+
+    private static final String VISITSEOUL_HOST = "api-call.visitseoul.net";
+
     private final WebClient webClient;
+    private final UpstreamConcurrencyLimiters upstreamConcurrencyLimiters;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    // cid별로 진행 중인 상세 API 호출
+    private final ConcurrentMap<String, CompletableFuture<TourApiDetailDto>> inFlightDetails = new ConcurrentHashMap<>();
+
+    private Counter detailCacheHitCounter;
+    private Counter detailCoalescedCounter;
+    private Counter detailFetchCounter;
 
     @Value("${app.tour-api.service-key}")
     private String apiKey;
 
+    @PostConstruct
+    void registerMetrics() {
+        detailCacheHitCounter = Counter.builder("localy.tour.detail.requests")
+                .tag("result", "cache_hit")
+                .description("VisitSeoul 상세 조회 요청 수")
+                .register(meterRegistry);
+        detailCoalescedCounter = Counter.builder("localy.tour.detail.requests")
+                .tag("result", "coalesced")
+                .description("VisitSeoul 상세 조회 요청 수")
+                .register(meterRegistry);
+        detailFetchCounter = Counter.builder("localy.tour.detail.requests")
+                .tag("result", "fetched")
+                .description("VisitSeoul 상세 조회 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 장소 상세 조회. 같은 cid를 추천 좌표 보강, 상세 페이지, 키워드 검색이 동시에 요청하는 경우가 많아
+     * 1) Redis에 파싱된 상세 응답을 캐시하고 (좌표 없음/데이터 없음/일시 오류도 각각 TTL을 달리해 음성 캐시)
+     * 2) 캐시 미스일 때 같은 cid의 동시 요청은 하나의 외부 호출 결과를 함께 기다리게 한다 (single-flight)
+     * 동시 요청에 500을 자주 내는 VisitSeoul 상세 API 호출 수를 줄이기 위함.
+     */
     public TourApiDetailDto getPlaceDetailByCid(String cid) {
+        return getPlaceDetailByCid(cid, null);
+    }
+
+    /**
+     * maxWait까지만 기다리는 상세 조회. 동시 호출 한도가 차 있거나 같은 cid의 조회가 그 안에 끝나지 않으면 null을 돌려준다.
+     * 상세 페이지처럼 사용자 요청 스레드에서 부를 때 사용한다 (limit이 1까지 줄었을 때 요청이 오래 멈추지 않도록).
+     */
+    public TourApiDetailDto getPlaceDetailByCidWithin(String cid, Duration maxWait) {
+        return getPlaceDetailByCid(cid, maxWait);
+    }
+
+    // maxWait가 null이면 제한기의 기본 대기 시간까지 기다린다
+    private TourApiDetailDto getPlaceDetailByCid(String cid, Duration maxWait) {
+        Optional<TourApiDetailDto> cached = readCachedDetail(cid);
+        if (cached != null) {
+            detailCacheHitCounter.increment();
+            return cached.orElse(null);
+        }
+
+        CompletableFuture<TourApiDetailDto> call = new CompletableFuture<>();
+        CompletableFuture<TourApiDetailDto> inFlight = inFlightDetails.putIfAbsent(cid, call);
+        if (inFlight != null) {
+            // 같은 cid를 이미 다른 스레드가 조회 중이면 그 결과를 같이 쓴다
+            detailCoalescedCounter.increment();
+            return maxWait == null ? inFlight.join() : awaitInFlight(cid, inFlight, maxWait);
+        }
+
         try {
-            log.info("장소 상세 정보 조회 시작. cid: {}", cid);
-
-            TourApiDetailDto response = webClient.post()
-                    .uri("https://api-call.visitseoul.net/api/v1/contents/info")
-                    .header("VISITSEOUL-API-KEY", apiKey)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(Map.of("cid", cid))
-                    .retrieve()
-                    .bodyToMono(TourApiDetailDto.class)
-                    // VisitSeoul 상세 API가 간헐적으로 500을 반환하는 경우가 많아, 일시적인 오류로 보고 짧게 재시도
-                    .retryWhen(Retry.backoff(2, Duration.ofMillis(400))
-                            .filter(e -> e instanceof WebClientResponseException
-                                    && ((WebClientResponseException) e).getStatusCode().is5xxServerError()))
-                    .block();
+            detailFetchCounter.increment();
+            TourApiDetailDto response = loadAndCacheDetail(cid, maxWait);
+            call.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            call.complete(null);
+            throw e;
+        } finally {
+            inFlightDetails.remove(cid, call);
+        }
+    }
+
+    /**
+     * 캐시(음성 캐시 포함)를 거치지 않고 상세 API를 다시 호출해 캐시를 새 응답으로 덮어쓴다.
+     * 어드민 수동 적재처럼 VisitSeoul의 최신 데이터를 강제로 반영해야 할 때 사용한다.
+     */
+    public TourApiDetailDto refreshPlaceDetailByCid(String cid) {
+        detailFetchCounter.increment();
+        return loadAndCacheDetail(cid, null);
+    }
+
+    private TourApiDetailDto awaitInFlight(String cid, CompletableFuture<TourApiDetailDto> inFlight, Duration maxWait) {
+        try {
+            return inFlight.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("같은 cid의 상세 조회를 기다리다 시간 초과. cid: {}", cid);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
 
+    private TourApiDetailDto loadAndCacheDetail(String cid, Duration maxWait) {
+        try {
+            TourApiDetailDto response = fetchPlaceDetail(cid, maxWait);
             if (response == null) {
-                log.error("장소 상세 정보 API 응답이 null입니다. cid: {}", cid);
-                return null;
+                writeDetailCache(cid, NOT_FOUND_MARKER, NOT_FOUND_TTL);
+            } else {
+                writeDetailCache(cid, objectMapper.writeValueAsString(response),
+                        hasCoordinates(response) ? DETAIL_TTL : NO_COORDINATES_TTL);
             }
+            return response;
+        } catch (ConcurrencyLimitExceededException e) {
+            // 호출하지 못하고 대기 시간만 넘긴 경우라 음성 캐시하지 않는다 (다음 요청이나 백그라운드 보강이 다시 시도)
+            log.warn("장소 상세 정보 API 호출 대기 시간 초과. cid: {}", cid);
+            return null;
+        } catch (Exception e) {
+            // 재시도 후에도 실패한 일시 오류는 짧게만 음성 캐시해, 장애 중 같은 cid로 계속 두드리지 않게 한다
+            log.error("장소 상세 정보 API 호출 오류. cid: {}, error: {}", cid, e.getMessage(), e);
+            writeDetailCache(cid, NOT_FOUND_MARKER, FAILURE_TTL);
+            return null;
+        }
+    }
 
-            if (response.getResultCode() != null && response.getResultCode() != 200) {
-                log.error("장소 상세 정보 조회 실패. cid: {}, result_code: {}, message: {}",
-                        cid, response.getResultCode(), response.getResultMessage());
-                return null;
-            }
+    private TourApiDetailDto fetchPlaceDetail(String cid, Duration maxWait) {
+        log.info("장소 상세 정보 조회 시작. cid: {}", cid);
 
-            if (response.getData() == null) {
-                log.error("장소 상세 정보의 data가 null입니다. cid: {}", cid);
-                return null;
-            }
+        Mono<TourApiDetailDto> call = webClient.post()
+                .uri("https://" + VISITSEOUL_HOST + "/api/v1/contents/info")
+                .header("VISITSEOUL-API-KEY", apiKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("cid", cid))
+                .retrieve()
+                .bodyToMono(TourApiDetailDto.class);
 
-            log.info("장소 상세 정보 조회 성공. cid: {}, 장소명: {}", cid, response.getData().getPost_sj());
-            return response;
+        // 호스트별 적응형 동시성 제한기 — 재시도도 한 번 한 번 허가를 받아, 5xx가 나면 동시 호출 수가 줄어든다
+        TourApiDetailDto response = (maxWait == null ? visitSeoulLimiter().limit(call) : visitSeoulLimiter().limit(call, maxWait))
+                // VisitSeoul 상세 API가 간헐적으로 500을 반환하는 경우가 많아, 일시적인 오류로 보고 짧게 재시도
+                .retryWhen(Retry.backoff(2, Duration.ofMillis(400))
+                        .filter(e -> e instanceof WebClientResponseException
+                                && ((WebClientResponseException) e).getStatusCode().is5xxServerError()))
+                .block();
+
+        if (response == null) {
+            log.error("장소 상세 정보 API 응답이 null입니다. cid: {}", cid);
+            return null;
+        }
+
+        if (response.getResultCode() != null && response.getResultCode() != 200) {
+            log.error("장소 상세 정보 조회 실패. cid: {}, result_code: {}, message: {}",
+                    cid, response.getResultCode(), response.getResultMessage());
+            return null;
+        }
+
+        if (response.getData() == null) {
+            log.error("장소 상세 정보의 data가 null입니다. cid: {}", cid);
+            return null;
+        }
 
+        log.info("장소 상세 정보 조회 성공. cid: {}, 장소명: {}", cid, response.getData().getPost_sj());
+        return response;
+    }
+
+    // 캐시에 없으면 null, 음성 캐시면 Optional.empty()
+    private Optional<TourApiDetailDto> readCachedDetail(String cid) {
+        try {
+            String json = redisTemplate.opsForValue().get(DETAIL_CACHE_KEY_PREFIX + cid);
+            if (json == null) {
+                return null;
+            }
+            if (NOT_FOUND_MARKER.equals(json)) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(json, TourApiDetailDto.class));
         } catch (Exception e) {
-            log.error("장소 상세 정보 API 호출 오류. cid: {}, error: {}", cid, e.getMessage(), e);
+            log.warn("장소 상세 캐시 조회 실패, API로 조회합니다. cid: {}, error: {}", cid, e.getMessage());
             return null;
         }
     }
 
+    private void writeDetailCache(String cid, String value, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(DETAIL_CACHE_KEY_PREFIX + cid, value, ttl);
+        } catch (Exception e) {
+            log.warn("장소 상세 캐시 저장 실패. cid: {}, error: {}", cid, e.getMessage());
+        }
+    }
+
+    private boolean hasCoordinates(TourApiDetailDto response) {
+        TourApiDto.Traffic traffic = response.getData().getTraffic();
+        return traffic != null
+                && StringUtils.hasText(traffic.getMap_position_x())
+                && StringUtils.hasText(traffic.getMap_position_y());
+    }
+
     // 목록 조회 (1페이지, 기본 50개) — 기존 호출부 호환용
     public List<TourApiDto.Data> getContentsList() {
         TourApiDto response = getContentsPage(1, 50);
@@ -85,6 +265,11 @@ public class TourApiService {
         return getContentsPage(1, pageRow, keyword);
     }
 
+    // 키워드 검색 결과의 특정 페이지 (paging 포함)
+    public TourApiDto searchContentsByKeyword(String keyword, int pageNo, int pageRow) {
+        return getContentsPage(pageNo, pageRow, keyword);
+    }
+
     private TourApiDto getContentsPage(int pageNo, int pageRow, String keyword) {
         try {
             log.info("VisitSeoul API 호출 시작. page_no={}, pageRow={}, keyword={}, API Key: {}",
@@ -97,13 +282,13 @@ public class TourApiService {
                 requestBody.put("keyword", keyword);
             }
 
-            TourApiDto response = webClient.post()
-                    .uri("https://api-call.visitseoul.net/api/v1/contents/list")
-                    .header("VISITSEOUL-API-KEY", apiKey)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(TourApiDto.class)
+            TourApiDto response = visitSeoulLimiter().limit(webClient.post()
+                            .uri("https://" + VISITSEOUL_HOST + "/api/v1/contents/list")
+                            .header("VISITSEOUL-API-KEY", apiKey)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(requestBody)
+                            .retrieve()
+                            .bodyToMono(TourApiDto.class))
                     .block();
 
             if (response == null) {
@@ -133,6 +318,10 @@ public class TourApiService {
         }
     }
 
+    private AdaptiveConcurrencyLimiter visitSeoulLimiter() {
+        return upstreamConcurrencyLimiters.forHost(VISITSEOUL_HOST);
+    }
+
     private TourApiDto emptyResponse() {
         return TourApiDto.builder().data(new ArrayList<>()).build();
     }
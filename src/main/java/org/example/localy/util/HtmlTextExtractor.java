@@ -0,0 +1,263 @@
+package org.example.localy.util;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * VisitSeoul 상세 설명(post_desc) 같은 HTML 본문을 평문으로 바꾸는 단일 패스 추출기.
+ * 기존의 replaceAll 4단 체인(style, script, 태그, 공백)은 호출마다 패턴을 컴파일하고 중간 문자열을 4번 만들며,
+ * (?is)<style...>.*?</style> 패턴은 큰 본문에서 역추적이 심했다.
+ * 여기서는 입력을 한 번만 훑으면서 태그/주석/script/style 블록을 건너뛰고, 엔티티를 디코딩하고, 공백을 하나로 합친다.
+ */
+public final class HtmlTextExtractor {
+
+    // Place.shortDescription 컬럼 길이 (varchar 255)
+    public static final int SHORT_DESCRIPTION_MAX_LENGTH = 255;
+
+    private static final String ELLIPSIS = "…";
+
+    private static final Map<String, Character> NAMED_ENTITIES = Map.ofEntries(
+            Map.entry("amp", '&'),
+            Map.entry("lt", '<'),
+            Map.entry("gt", '>'),
+            Map.entry("quot", '"'),
+            Map.entry("apos", '\''),
+            Map.entry("nbsp", ' '),
+            Map.entry("middot", '·'),
+            Map.entry("hellip", '…'),
+            Map.entry("ndash", '–'),
+            Map.entry("mdash", '—'),
+            Map.entry("lsquo", '‘'),
+            Map.entry("rsquo", '’'),
+            Map.entry("ldquo", '“'),
+            Map.entry("rdquo", '”'),
+            Map.entry("bull", '•'),
+            Map.entry("copy", '©'),
+            Map.entry("reg", '®'),
+            Map.entry("trade", '™')
+    );
+
+    // 엔티티 이름/숫자로 볼 최대 길이 (&#x1F600; 등). 이보다 길면 엔티티가 아닌 일반 '&'로 본다
+    private static final int MAX_ENTITY_LENGTH = 10;
+
+    private HtmlTextExtractor() {
+    }
+
+    // HTML을 평문으로 변환 (null이면 빈 문자열)
+    public static String extract(String html) {
+        return extract(html, Integer.MAX_VALUE);
+    }
+
+    /**
+     * HTML을 평문으로 변환하되, 결과가 maxLength자를 넘으면 거기서 멈추고 말줄임표를 붙인다.
+     * 짧은 소개처럼 앞부분만 필요할 때 본문 끝까지 훑지 않는다.
+     */
+    public static String extract(String html, int maxLength) {
+        if (html == null || html.isEmpty()) {
+            return "";
+        }
+
+        int length = html.length();
+        StringBuilder out = new StringBuilder(Math.min(length, maxLength == Integer.MAX_VALUE ? length : maxLength + 1));
+        boolean pendingSpace = false;
+        int i = 0;
+
+        while (i < length) {
+            char c = html.charAt(i);
+
+            if (c == '<') {
+                int tagEnd = skipMarkup(html, i);
+                if (tagEnd > i) {
+                    // 태그는 단어 경계로 취급 (<br>, </p> 등이 공백 역할을 하던 기존 동작과 동일)
+                    pendingSpace = true;
+                    i = tagEnd;
+                    continue;
+                }
+            }
+
+            if (c == '&') {
+                int semicolon = indexOfEntityEnd(html, i + 1);
+                if (semicolon > i + 1) {
+                    int entity = decodeEntity(html, i + 1, semicolon);
+                    if (entity >= 0) {
+                        if (isSpace(entity)) {
+                            pendingSpace = true;
+                        } else {
+                            if (pendingSpace && out.length() > 0) {
+                                out.append(' ');
+                            }
+                            pendingSpace = false;
+                            out.appendCodePoint(entity);
+                        }
+                        i = semicolon + 1;
+                        if (out.length() > maxLength) {
+                            break;
+                        }
+                        continue;
+                    }
+                }
+            }
+
+            if (isSpace(c)) {
+                pendingSpace = true;
+            } else {
+                if (pendingSpace && out.length() > 0) {
+                    out.append(' ');
+                }
+                pendingSpace = false;
+                out.append(c);
+                if (out.length() > maxLength) {
+                    break;
+                }
+            }
+            i++;
+        }
+
+        return out.length() > maxLength ? truncate(out, maxLength) : out.toString();
+    }
+
+    // 줄바꿈/탭과 본문에 그대로 들어간 NBSP(U+00A0)도 공백으로 합친다
+    private static boolean isSpace(int c) {
+        return Character.isWhitespace(c) || c == '\u00A0';
+    }
+
+    // 이미 평문인 문자열을 maxLength자 이내로 자르고, 잘렸으면 말줄임표를 붙인다
+    public static String summarize(String text, int maxLength) {
+        if (text == null) {
+            return "";
+        }
+        return text.length() > maxLength ? truncate(new StringBuilder(text), maxLength) : text;
+    }
+
+    // 말줄임표 포함 maxLength자 이내로 자른다. 가능하면 단어 중간이 아닌 공백에서 자른다.
+    private static String truncate(StringBuilder text, int maxLength) {
+        int cut = maxLength - ELLIPSIS.length();
+        if (cut <= 0) {
+            return ELLIPSIS.substring(0, Math.max(0, maxLength));
+        }
+
+        int lastSpace = text.lastIndexOf(" ", cut);
+        if (lastSpace > cut * 4 / 5) {
+            cut = lastSpace;
+        } else if (Character.isHighSurrogate(text.charAt(cut - 1))) {
+            cut--;
+        }
+        return text.substring(0, cut).stripTrailing() + ELLIPSIS;
+    }
+
+    /**
+     * from 위치의 '<'부터 시작하는 태그/주석/선언을 건너뛴 다음 위치를 반환한다.
+     * script/style은 닫는 태그까지 내용째 건너뛴다. 태그가 아니면(예: "a < b") from을 그대로 반환한다.
+     */
+    private static int skipMarkup(String html, int from) {
+        int length = html.length();
+        if (from + 1 >= length) {
+            return from;
+        }
+
+        char next = html.charAt(from + 1);
+        if (html.startsWith("<!--", from)) {
+            int end = html.indexOf("-->", from + 4);
+            return end < 0 ? length : end + 3;
+        }
+        if (next == '!' || next == '?') {
+            int end = html.indexOf('>', from + 2);
+            return end < 0 ? length : end + 1;
+        }
+
+        boolean closing = next == '/';
+        int nameStart = closing ? from + 2 : from + 1;
+        if (nameStart >= length || !Character.isLetter(html.charAt(nameStart))) {
+            return from;
+        }
+
+        int nameEnd = nameStart;
+        while (nameEnd < length && Character.isLetterOrDigit(html.charAt(nameEnd))) {
+            nameEnd++;
+        }
+
+        int tagEnd = findTagEnd(html, nameEnd);
+        if (closing) {
+            return tagEnd;
+        }
+
+        String name = html.substring(nameStart, nameEnd).toLowerCase(Locale.ROOT);
+        if ("script".equals(name) || "style".equals(name)) {
+            int close = indexOfIgnoreCase(html, "</" + name, tagEnd);
+            return close < 0 ? length : findTagEnd(html, close + name.length() + 2);
+        }
+        return tagEnd;
+    }
+
+    // '&' 다음(from)부터 MAX_ENTITY_LENGTH 안에서 엔티티를 닫는 ';' 위치. 없으면 -1
+    // (끝까지 찾으면 '&'가 많은 본문에서 매번 본문 끝까지 훑게 된다)
+    private static int indexOfEntityEnd(String html, int from) {
+        int limit = Math.min(html.length(), from + MAX_ENTITY_LENGTH);
+        for (int i = from; i < limit; i++) {
+            char c = html.charAt(i);
+            if (c == ';') {
+                return i;
+            }
+            if (c != '#' && !Character.isLetterOrDigit(c)) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 속성 값 안의 '>'는 무시하고, 태그를 닫는 '>' 다음 위치를 반환.
+     * 따옴표가 닫히지 않은 채 본문이 끝나면 (예: <a href="x>본문...) 나머지 본문을 통째로 버리지 않도록,
+     * 따옴표를 무시하고 처음 만난 '>'에서 태그를 닫는다.
+     */
+    private static int findTagEnd(String html, int from) {
+        char quote = 0;
+        int firstGt = -1;
+        for (int i = from; i < html.length(); i++) {
+            char c = html.charAt(i);
+            if (c == '>' && firstGt < 0) {
+                firstGt = i;
+            }
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '>') {
+                return i + 1;
+            }
+        }
+        return firstGt >= 0 ? firstGt + 1 : html.length();
+    }
+
+    private static int indexOfIgnoreCase(String html, String target, int from) {
+        int last = html.length() - target.length();
+        for (int i = from; i <= last; i++) {
+            if (html.regionMatches(true, i, target, 0, target.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // &...; 사이(start~end) 엔티티를 코드포인트로 변환. 모르는 엔티티면 -1
+    private static int decodeEntity(String html, int start, int end) {
+        if (html.charAt(start) == '#') {
+            boolean hex = start + 1 < end && (html.charAt(start + 1) == 'x' || html.charAt(start + 1) == 'X');
+            int digitsStart = hex ? start + 2 : start + 1;
+            if (digitsStart >= end) {
+                return -1;
+            }
+            try {
+                int codePoint = Integer.parseInt(html, digitsStart, end, hex ? 16 : 10);
+                return Character.isValidCodePoint(codePoint) ? codePoint : -1;
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+
+        Character named = NAMED_ENTITIES.get(html.substring(start, end).toLowerCase(Locale.ROOT));
+        return named != null ? named : -1;
+    }
+}
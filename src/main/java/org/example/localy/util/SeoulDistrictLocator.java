@@ -0,0 +1,58 @@
+package org.example.localy.util;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 좌표에서 가장 가까운 서울 자치구 이름을 찾는다.
+ * VisitSeoul 목록 API는 위치 필터가 없어, 특정 위치 주변 콘텐츠는 자치구 이름 키워드 검색으로 찾는다.
+ */
+public class SeoulDistrictLocator {
+
+    // 자치구 중심(구청) 좌표
+    private static final Map<String, double[]> DISTRICT_CENTERS = Map.ofEntries(
+            Map.entry("종로구", new double[]{37.5735, 126.9790}),
+            Map.entry("중구", new double[]{37.5641, 126.9979}),
+            Map.entry("용산구", new double[]{37.5326, 126.9905}),
+            Map.entry("성동구", new double[]{37.5634, 127.0369}),
+            Map.entry("광진구", new double[]{37.5385, 127.0823}),
+            Map.entry("동대문구", new double[]{37.5744, 127.0396}),
+            Map.entry("중랑구", new double[]{37.6063, 127.0925}),
+            Map.entry("성북구", new double[]{37.5894, 127.0167}),
+            Map.entry("강북구", new double[]{37.6396, 127.0257}),
+            Map.entry("도봉구", new double[]{37.6688, 127.0471}),
+            Map.entry("노원구", new double[]{37.6542, 127.0568}),
+            Map.entry("은평구", new double[]{37.6027, 126.9291}),
+            Map.entry("서대문구", new double[]{37.5791, 126.9368}),
+            Map.entry("마포구", new double[]{37.5663, 126.9019}),
+            Map.entry("양천구", new double[]{37.5170, 126.8665}),
+            Map.entry("강서구", new double[]{37.5509, 126.8495}),
+            Map.entry("구로구", new double[]{37.4954, 126.8874}),
+            Map.entry("금천구", new double[]{37.4569, 126.8955}),
+            Map.entry("영등포구", new double[]{37.5264, 126.8962}),
+            Map.entry("동작구", new double[]{37.5124, 126.9393}),
+            Map.entry("관악구", new double[]{37.4784, 126.9516}),
+            Map.entry("서초구", new double[]{37.4837, 127.0324}),
+            Map.entry("강남구", new double[]{37.5172, 127.0473}),
+            Map.entry("송파구", new double[]{37.5145, 127.1059}),
+            Map.entry("강동구", new double[]{37.5301, 127.1238})
+    );
+
+    // 가장 가까운 구청이 이보다 멀면 서울 밖으로 본다 (km)
+    private static final double MAX_DISTANCE_KM = 7.0;
+
+    // 서울 밖이면 empty
+    public static Optional<String> nearestDistrict(double latitude, double longitude) {
+        String nearest = null;
+        double nearestDistance = Double.MAX_VALUE;
+        for (Map.Entry<String, double[]> entry : DISTRICT_CENTERS.entrySet()) {
+            double distance = DistanceCalculator.calculateDistance(
+                    latitude, longitude, entry.getValue()[0], entry.getValue()[1]);
+            if (distance < nearestDistance) {
+                nearestDistance = distance;
+                nearest = entry.getKey();
+            }
+        }
+        return nearestDistance <= MAX_DISTANCE_KM ? Optional.ofNullable(nearest) : Optional.empty();
+    }
+}
@@ -8,10 +8,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.example.localy.dto.chatBot.response.PredictResponse;
 import org.example.localy.dto.chatBot.response.TranslateResponse;
 import org.example.localy.entity.ChatMessage;
+import org.example.localy.event.HomeDataChangedEvent;
 import org.example.localy.repository.ChatBotRepository;
 import org.example.localy.service.Chat.GPTService;
 import org.example.localy.service.Chat.PredictClientService;
 import org.example.localy.service.Chat.TranslationService;
+import org.example.localy.service.EmotionAggregateService;
+import org.example.localy.service.place.EmotionDataService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.data.redis.RedisSystemException;
 import org.springframework.data.redis.connection.stream.*;
@@ -24,7 +28,6 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.TimeUnit;
 
 /**
  * 챗봇 메시지를 비동기로 처리하는 Worker
@@ -41,6 +44,9 @@ public class ChatWorker {
     private final GPTService gptService;
     private final PredictClientService predictClient;
     private final TranslationService translationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EmotionDataService emotionDataService;
+    private final EmotionAggregateService emotionAggregateService;
 
     // Worker 실행 상태 플래그 (종료 시 false로 변경)
     private volatile boolean running = true;
@@ -230,7 +236,11 @@ public class ChatWorker {
         log.info("😭 감정 분석 라벨 : {}", res.getEmotion_name());
 
         int score = calculateEmotionScore(res.getPredicted_label());
-        updateEmotionScore(userId, score);
+        Long emotionAfter = updateEmotionScore(userId, score);
+        if (emotionAfter != null) {
+            // 분 단위 감정 집계 (EmotionScheduler가 원본 메시지 대신 읽는다)
+            emotionAggregateService.record(userId, createdAt, emotionAfter.intValue());
+        }
 
         // 3. 그리움 감지
         checkLonging(userId, text_ko);
@@ -266,8 +276,9 @@ public class ChatWorker {
      * 사용자의 감정 수치를 Redis에 업데이트
      * @param userId 사용자 ID
      * @param score 변경할 감정 점수
+     * @return 변경 후 감정 수치 (실패 시 null)
      */
-    private void updateEmotionScore(Long userId, int score) {
+    private Long updateEmotionScore(Long userId, int score) {
         String key = "localy:emotion:" + userId;
 
         try {
@@ -276,10 +287,18 @@ public class ChatWorker {
                 redisTemplate.opsForValue().set(key, "50");
             }
             // 점수 증감
-            redisTemplate.opsForValue().increment(key, score);
+            Long updated = redisTemplate.opsForValue().increment(key, score);
             log.info("😆 감정 수치 조절 완료");
+
+            // 홈 화면(추천 장소, 미션 배너 키워드)에 영향을 주는 감정 구간이 바뀐 경우에만 홈 캐시 무효화
+            if (updated != null && !EmotionDataService.homeEmotionBucketOf((int) (updated - score))
+                    .equals(EmotionDataService.homeEmotionBucketOf(updated.intValue()))) {
+                eventPublisher.publishEvent(new HomeDataChangedEvent(userId, HomeDataChangedEvent.Reason.EMOTION));
+            }
+            return updated;
         } catch (Exception e) {
             log.error("❌ Failed to update emotion score", e);
+            return null;
         }
     }
 
@@ -296,13 +315,8 @@ public class ChatWorker {
                 log.info("☑️ 그리움 단어 체크 : {}", longing);
 
                 if (Objects.equals(longing, "true")) {
-                    // Redis에 그리움 상태 저장 (3시간 TTL)
-                    redisTemplate.opsForValue().set(
-                            "localy:emotion:" + userId + ":longing",
-                            "true",
-                            3,
-                            TimeUnit.HOURS
-                    );
+                    // 그리움 상태 저장 (3시간 TTL, 만료 시 홈 캐시도 비운다)
+                    emotionDataService.activateLongingMode(userId, Duration.ofHours(3));
                     log.info("📄 그리움 상태 업데이트 완료");
                 }
             } catch (Exception e) {
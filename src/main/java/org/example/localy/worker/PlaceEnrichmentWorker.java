@@ -0,0 +1,91 @@
+package org.example.localy.worker;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.localy.service.place.PlaceCoverageGapQueue;
+import org.example.localy.service.place.PlaceRecommendService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 커버리지 공백 큐를 소비하는 백그라운드 Worker
+ * 추천 요청 경로에서 빠진 VisitSeoul 목록 조회 + 상세 API 좌표 보강을 여기서 수행해,
+ * 다음 추천 요청부터 보강된 장소가 후보 풀에 포함되게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceEnrichmentWorker {
+
+    // 한 번 깨어날 때 처리할 최대 이벤트 수 (외부 API를 한꺼번에 몰아 부르지 않도록 제한)
+    private static final int MAX_EVENTS_PER_RUN = 3;
+
+    private final PlaceCoverageGapQueue coverageGapQueue;
+    private final PlaceRecommendService placeRecommendService;
+    private final MeterRegistry meterRegistry;
+
+    private Counter processedCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        processedCounter = Counter.builder("localy.place.coverage_gap.processed")
+                .description("처리 완료된 커버리지 공백 이벤트 수")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("localy.place.coverage_gap.failed")
+                .description("처리 중 실패한 커버리지 공백 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 큐에 쌓인 커버리지 공백 이벤트를 순서대로 처리
+     */
+    @Scheduled(fixedDelay = 5000, initialDelay = 10000)
+    public void drain() {
+        for (int i = 0; i < MAX_EVENTS_PER_RUN; i++) {
+            Optional<PlaceCoverageGapQueue.CoverageGap> next;
+            try {
+                next = coverageGapQueue.poll();
+            } catch (Exception e) {
+                log.warn("⚠️ 커버리지 공백 큐 조회 실패: {}", e.getMessage());
+                return;
+            }
+
+            if (next.isEmpty()) {
+                return;
+            }
+
+            PlaceCoverageGapQueue.CoverageGap gap = next.get();
+            boolean filled = false;
+            try {
+                placeRecommendService.fillCoverageGap(gap.getLatitude(), gap.getLongitude());
+                processedCounter.increment();
+                filled = true;
+            } catch (Exception e) {
+                failedCounter.increment();
+                log.error("❌ 커버리지 공백 보강 실패: cell={}", gap.getCell(), e);
+            } finally {
+                finish(gap.getCell(), filled);
+            }
+        }
+    }
+
+    // 성공한 격자는 재적재 대기 시간을 두고, 실패한 격자는 바로 다시 적재될 수 있게 한다.
+    // 표시 키를 바꾸지 못해도 PENDING_TTL이 지나면 다시 적재될 수 있으므로 로그만 남긴다.
+    private void finish(String cell, boolean filled) {
+        try {
+            if (filled) {
+                coverageGapQueue.complete(cell);
+            } else {
+                coverageGapQueue.release(cell);
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ 커버리지 공백 처리 결과 기록 실패: cell={}, error={}", cell, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+-- bookmarks.place_bookmark_count를 NOT NULL DEFAULT 0으로 바꾼다. (배포 전에 한 번 실행)
+-- ddl-auto=update는 이미 있는 컬럼의 NULL 허용 여부를 바꾸지 않으므로 직접 실행해야 한다.
+-- NULL 행은 인기순 keyset 조건(place_bookmark_count < ? / = ?)에 걸리지 않아 두 번째 페이지부터 빠진다.
+
+-- 1) 정렬 키가 비어 있는 행을 장소 북마크 수로 채운다 (6시간 주기 동기화와 같은 값)
+UPDATE bookmarks b
+    JOIN place p ON p.id = b.place_id
+SET b.place_bookmark_count = COALESCE(p.bookmark_count, 0)
+WHERE b.place_bookmark_count IS NULL;
+
+-- 2) 1)과 3) 사이에 이전 버전 인스턴스가 NULL로 저장한 행을 정리한다
+UPDATE bookmarks
+SET place_bookmark_count = 0
+WHERE place_bookmark_count IS NULL;
+
+-- 3) 이후 저장되는 행도 NULL이 되지 않게 한다
+ALTER TABLE bookmarks
+    MODIFY place_bookmark_count INT NOT NULL DEFAULT 0;
@@ -0,0 +1,18 @@
+-- emotion_day_result (user_id, date) 유니크 키를 기존 테이블에 추가한다. (배포 전에 한 번 실행)
+-- ddl-auto=update는 중복 행이 있으면 키를 추가하지 못하고 경고만 남기므로, 중복 행을 정리한 뒤 직접 추가한다.
+-- 기동 시 EmotionDayResultUniqueKeyVerifier가 키가 없으면 오류 로그를 남긴다.
+
+-- 1) 삭제될 중복 행 확인 (같은 사용자/날짜에서 가장 먼저 저장된 행만 남긴다)
+SELECT newer.id, newer.user_id, newer.date, newer.avg_score, newer.created_at
+FROM emotion_day_result newer
+    JOIN emotion_day_result older
+        ON newer.user_id = older.user_id AND newer.date = older.date AND newer.id > older.id;
+
+-- 2) 중복 행 정리와 키 추가. 그사이 이전 버전 인스턴스가 중복 행을 또 넣으면 ALTER가 실패하므로, 그때는 2)를 다시 실행한다.
+DELETE newer
+FROM emotion_day_result newer
+    JOIN emotion_day_result older
+        ON newer.user_id = older.user_id AND newer.date = older.date AND newer.id > older.id;
+
+ALTER TABLE emotion_day_result
+    ADD CONSTRAINT uk_emotion_day_result_user_date UNIQUE (user_id, date);
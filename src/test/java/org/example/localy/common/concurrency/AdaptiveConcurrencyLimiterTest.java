@@ -0,0 +1,81 @@
+package org.example.localy.common.concurrency;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+            "test", 4, 1, 32, Duration.ofSeconds(1), e -> e instanceof IllegalStateException);
+
+    @Test
+    void parallel_스레드에서_구독해도_허가는_boundedElastic에서_기다린다() {
+        String thread = limiter.limit(Mono.fromCallable(() -> Thread.currentThread().getName()))
+                .subscribeOn(Schedulers.parallel())
+                .block();
+
+        assertThat(thread).startsWith("boundedElastic");
+    }
+
+    @Test
+    void 같은_구간에_동시에_실패한_호출은_limit을_한_번만_줄인다() {
+        List<Sinks.One<String>> calls = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Sinks.One<String> call = Sinks.one();
+            calls.add(call);
+            limiter.limit(call.asMono()).onErrorResume(e -> Mono.empty()).subscribe();
+        }
+        awaitUntil(() -> limiter.getInFlight() == 4);
+
+        calls.forEach(call -> call.tryEmitError(new IllegalStateException("503")));
+        awaitUntil(() -> limiter.getInFlight() == 0);
+        assertThat(limiter.getLimit()).isCloseTo(4 * 0.7, within(1e-9));
+
+        // 줄인 뒤에 시작한 호출의 실패는 다시 반영한다
+        limiter.limit(Mono.error(new IllegalStateException("503"))).onErrorResume(e -> Mono.empty()).block();
+        assertThat(limiter.getLimit()).isCloseTo(4 * 0.7 * 0.7, within(1e-9));
+    }
+
+    @Test
+    void 과부하가_아닌_오류는_limit을_줄이지_않는다() {
+        limiter.limit(Mono.error(new IllegalArgumentException("400"))).onErrorResume(e -> Mono.empty()).block();
+
+        assertThat(limiter.getLimit()).isEqualTo(4.0);
+    }
+
+    @Test
+    void 대기_시간_안에_허가를_받지_못하면_거절한다() {
+        AdaptiveConcurrencyLimiter single = new AdaptiveConcurrencyLimiter(
+                "single", 1, 1, 1, Duration.ofSeconds(1), e -> false);
+        Sinks.One<String> holding = Sinks.one();
+        single.limit(holding.asMono()).subscribe();
+        awaitUntil(() -> single.getInFlight() == 1);
+
+        assertThatThrownBy(() -> single.limit(Mono.just("next"), Duration.ofMillis(50)).block())
+                .isInstanceOf(ConcurrencyLimitExceededException.class);
+        assertThat(single.getRejectedCount()).isEqualTo(1);
+
+        holding.tryEmitValue("done");
+        awaitUntil(() -> single.getInFlight() == 0);
+        assertThat(single.limit(Mono.just("next"), Duration.ofMillis(50)).block()).isEqualTo("next");
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("조건을 기다리다 시간 초과").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+}
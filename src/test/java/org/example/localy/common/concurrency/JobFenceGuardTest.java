@@ -0,0 +1,86 @@
+package org.example.localy.common.concurrency;
+
+import org.example.localy.repository.JobFenceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JobFenceGuardTest {
+
+    @Mock
+    private JobFenceRepository jobFenceRepository;
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private JobFenceGuard guard;
+    private RedisJobLock.Lease lease;
+
+    @BeforeEach
+    void setUp() {
+        guard = new JobFenceGuard(jobFenceRepository);
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(), any(), any())).thenReturn(5L);
+        lease = new RedisJobLock(redisTemplate).tryAcquire("job", Duration.ofSeconds(60)).orElseThrow();
+    }
+
+    @Test
+    void 처음_쓰는_잠금_이름이면_토큰을_기록한다() {
+        when(jobFenceRepository.findFenceForUpdate("job")).thenReturn(Optional.empty());
+
+        guard.advance(lease);
+
+        verify(jobFenceRepository).insertFence("job", 5L);
+    }
+
+    @Test
+    void 기록된_토큰보다_새_토큰이면_올린다() {
+        when(jobFenceRepository.findFenceForUpdate("job")).thenReturn(Optional.of(4L));
+
+        guard.advance(lease);
+
+        verify(jobFenceRepository).updateFence("job", 5L);
+    }
+
+    @Test
+    void 같은_임대로_다시_쓰면_그대로_통과한다() {
+        when(jobFenceRepository.findFenceForUpdate("job")).thenReturn(Optional.of(5L));
+
+        guard.advance(lease);
+
+        verify(jobFenceRepository, never()).updateFence(anyString(), anyLong());
+    }
+
+    @Test
+    void 더_새_토큰으로_이미_썼으면_거절한다() {
+        when(jobFenceRepository.findFenceForUpdate("job")).thenReturn(Optional.of(6L));
+
+        assertThatThrownBy(() -> guard.advance(lease)).isInstanceOf(LockLostException.class);
+
+        verify(jobFenceRepository, never()).updateFence(anyString(), anyLong());
+    }
+
+    @Test
+    void 잠금_작업_밖에서는_확인하지_않는다() {
+        guard.advance();
+
+        verifyNoInteractions(jobFenceRepository);
+    }
+}
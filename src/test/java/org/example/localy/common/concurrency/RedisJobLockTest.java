@@ -0,0 +1,122 @@
+package org.example.localy.common.concurrency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RedisJobLockTest {
+
+    private static final String KEY = "localy:lock:job";
+    private static final List<String> KEYS = List.of(KEY, "localy:lock:fence:job");
+    private static final Duration TTL = Duration.ofSeconds(60);
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private RedisJobLock lock;
+    private String acquiredValue;
+
+    @BeforeEach
+    void setUp() {
+        lock = new RedisJobLock(redisTemplate);
+    }
+
+    @Test
+    void 획득할_때마다_다른_잠금_값과_스크립트가_올린_펜싱_토큰을_쓴다() {
+        ArgumentCaptor<Object> values = ArgumentCaptor.forClass(Object.class);
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(KEYS), values.capture(), eq("60000"), anyString()))
+                .thenReturn(41L, 42L);
+
+        assertThat(lock.tryAcquire("job", TTL)).get().extracting(RedisJobLock.Lease::fence).isEqualTo(41L);
+        assertThat(lock.tryAcquire("job", TTL)).get().extracting(RedisJobLock.Lease::fence).isEqualTo(42L);
+
+        assertThat(values.getAllValues()).hasSize(2).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void 다른_인스턴스가_가지고_있으면_얻지_못한다() {
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(KEYS), anyString(), eq("60000"), anyString()))
+                .thenReturn(0L);
+
+        assertThat(lock.tryAcquire("job", TTL)).isEmpty();
+    }
+
+    @Test
+    void 잠금_작업_밖에서는_확인하지_않는다() {
+        assertThatCode(() -> lock.checkHeld()).doesNotThrowAnyException();
+
+        verify(valueOperations, never()).get(anyString());
+    }
+
+    @Test
+    void Redis의_잠금_값이_내_것이면_통과한다() {
+        RedisJobLock.Lease lease = acquire();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(KEY)).thenReturn(acquiredValue);
+
+        RedisJobLock.Lease outer = RedisJobLock.bind(lease);
+        try {
+            assertThatCode(() -> lock.checkHeld()).doesNotThrowAnyException();
+        } finally {
+            RedisJobLock.restore(outer);
+        }
+        assertThat(lease.isLost()).isFalse();
+    }
+
+    @Test
+    void 다른_인스턴스가_이어받았으면_잃은_것으로_보고_중단한다() {
+        RedisJobLock.Lease lease = acquire();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(KEY)).thenReturn("other-instance:other-id");
+
+        RedisJobLock.Lease outer = RedisJobLock.bind(lease);
+        try {
+            assertThatThrownBy(() -> lock.checkHeld()).isInstanceOf(LockLostException.class);
+        } finally {
+            RedisJobLock.restore(outer);
+        }
+        assertThat(lease.isLost()).isTrue();
+    }
+
+    @Test
+    void Redis에_접근할_수_없으면_쓰지_않도록_중단한다() {
+        RedisJobLock.Lease lease = acquire();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(KEY)).thenThrow(new RuntimeException("redis down"));
+
+        assertThatThrownBy(() -> lock.checkHeld(lease)).isInstanceOf(LockLostException.class);
+    }
+
+    // 잠금을 얻고, Redis에 쓴 잠금 값을 acquiredValue에 남긴다
+    private RedisJobLock.Lease acquire() {
+        ArgumentCaptor<Object> value = ArgumentCaptor.forClass(Object.class);
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(KEYS), value.capture(), eq("60000"), anyString()))
+                .thenReturn(1L);
+        Optional<RedisJobLock.Lease> lease = lock.tryAcquire("job", TTL);
+        acquiredValue = value.getValue().toString();
+        return lease.orElseThrow();
+    }
+}
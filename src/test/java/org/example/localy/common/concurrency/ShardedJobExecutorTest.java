@@ -0,0 +1,137 @@
+package org.example.localy.common.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ShardedJobExecutorTest {
+
+    private static final String PROGRESS_KEY = "localy:shard:test:run-1";
+
+    @Mock
+    private RedisJobLock redisJobLock;
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+    @Mock
+    private RedisJobLock.Lease lease;
+    @Mock
+    private ScheduledFuture<Object> renewal;
+
+    private final ExecutorService workers = Executors.newFixedThreadPool(2);
+    private ShardedJobExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ShardedJobExecutor(redisJobLock, redisTemplate, workers, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        workers.shutdownNow();
+    }
+
+    @Test
+    void 샤드는_연속된_ID_구간이고_마지막_샤드는_이후에_생긴_ID까지_맡는다() {
+        assertThat(ShardedJobExecutor.lowerBound(0, 4, 100)).isZero();
+        assertThat(ShardedJobExecutor.upperBound(0, 4, 100)).isEqualTo(25);
+        assertThat(ShardedJobExecutor.lowerBound(1, 4, 100)).isEqualTo(25);
+        assertThat(ShardedJobExecutor.upperBound(2, 4, 100)).isEqualTo(75);
+        assertThat(ShardedJobExecutor.upperBound(3, 4, 100)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void 모든_샤드를_처리하고_임대_연장을_멈춘_뒤_반납한다() {
+        givenShardLeases();
+        givenCheckpoints();
+        when(hashOperations.entries(PROGRESS_KEY)).thenReturn(Map.of(), Map.of("0", "done", "1", "done"));
+        List<Long> handled = new CopyOnWriteArrayList<>();
+
+        int processed = executor.run(job(IdPageSource.of(List.of(10L, 40L, 60L, 120L)), handled::add));
+
+        assertThat(processed).isEqualTo(4);
+        assertThat(handled).containsExactlyInAnyOrder(10L, 40L, 60L, 120L);
+        verify(redisJobLock, times(2)).keepAlive(lease, Duration.ofSeconds(30));
+        verify(renewal, times(2)).cancel(false);
+        verify(redisJobLock, times(2)).release(lease, Duration.ZERO);
+    }
+
+    @Test
+    void 임대를_잃으면_체크포인트를_남기지_않고_샤드를_멈춘다() {
+        givenShardLeases();
+        when(hashOperations.entries(PROGRESS_KEY)).thenReturn(Map.of("1", "done"), Map.of("0", "done", "1", "done"));
+        when(lease.isLost()).thenReturn(true);
+        IdPageSource source = mock(IdPageSource.class);
+        when(source.maxId()).thenReturn(100L);
+        when(source.nextPage(eq(0L), eq(50L), eq(1))).thenReturn(List.of(10L));
+
+        int processed = executor.run(ShardedJob.builder()
+                .name("test")
+                .runId("run-1")
+                .shardCount(2)
+                .pageSize(1)
+                .idSource(source)
+                .processor(id -> { })
+                .build());
+
+        assertThat(processed).isEqualTo(1);
+        verify(source, never()).nextPage(eq(10L), eq(50L), eq(1));
+        verify(redisTemplate, never()).execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(), any(), any(), any());
+    }
+
+    private void givenShardLeases() {
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(redisJobLock.tryAcquire(anyString(), any(Duration.class))).thenReturn(Optional.of(lease));
+        when(redisJobLock.keepAlive(any(), any(Duration.class))).thenAnswer(invocation -> renewal);
+        // 기준 최대 ID 100 → 샤드 0은 (0, 50], 샤드 1은 (50, ∞)
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(), any(), any())).thenReturn(100L);
+    }
+
+    private void givenCheckpoints() {
+        // 체크포인트 스크립트가 잠금 키와 값을 함께 넘긴다 (List.of는 null을 받지 않으므로 목 임대에도 값을 준다)
+        when(lease.key()).thenReturn("localy:lock:test:shard:0");
+        when(lease.value()).thenReturn("instance:lease");
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(), any(), any(), any())).thenReturn(1L);
+    }
+
+    private ShardedJob job(IdPageSource source, LongConsumer processor) {
+        return ShardedJob.builder()
+                .name("test")
+                .runId("run-1")
+                .shardCount(2)
+                .idSource(source)
+                .processor(processor)
+                .build();
+    }
+}
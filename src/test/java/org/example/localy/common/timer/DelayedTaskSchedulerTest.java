@@ -0,0 +1,140 @@
+package org.example.localy.common.timer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DelayedTaskSchedulerTest {
+
+    private static final String DUE_KEY = "localy:timer:due";
+    private static final String TYPE = "test-task";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+    @Mock
+    private DelayedTaskHandler handler;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private DelayedTaskScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(handler.type()).thenReturn(TYPE);
+        scheduler = new DelayedTaskScheduler(redisTemplate, List.of(handler), executor, meterRegistry);
+        scheduler.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stop();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 먼_미래의_예약은_Redis에만_두고_휠에_올리지_않는다() {
+        Instant dueAt = Instant.now().plus(Duration.ofDays(2));
+
+        scheduler.schedule(TYPE, "1", dueAt);
+
+        verify(zSetOperations).add(DUE_KEY, TYPE + ":1", (double) dueAt.toEpochMilli());
+        assertThat(scheduledInWheel()).isZero();
+    }
+
+    @Test
+    void 곧_처리할_예약은_휠에_올리고_취소하면_함께_내린다() {
+        scheduler.schedule(TYPE, "1", Instant.now().plusSeconds(20));
+        assertThat(scheduledInWheel()).isEqualTo(1);
+
+        scheduler.cancel(TYPE, "1");
+
+        verify(zSetOperations).remove(DUE_KEY, TYPE + ":1");
+        assertThat(scheduledInWheel()).isZero();
+    }
+
+    @Test
+    void 클레임에_성공하면_실행하고_클레임한_그대로일_때만_지운다() {
+        givenClaimResult(1L);
+
+        scheduler.schedule(TYPE, "42", Instant.now());
+
+        verify(handler, timeout(3000)).handle("42");
+        // 완료 스크립트: (id, 클레임 시 정한 가시성 제한 시각)
+        verify(redisTemplate, timeout(1000)).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of(DUE_KEY)),
+                eq(TYPE + ":42"), anyString());
+    }
+
+    @Test
+    void 다른_인스턴스가_먼저_클레임했으면_실행하지_않는다() {
+        givenClaimResult(0L);
+
+        scheduler.schedule(TYPE, "42", Instant.now());
+
+        verify(handler, after(2500).never()).handle(anyString());
+    }
+
+    @Test
+    void 실행이_실패하면_지우지_않고_재시도_시각으로_옮긴다() {
+        givenClaimResult(1L);
+        doThrow(new RuntimeException("boom")).when(handler).handle("42");
+
+        scheduler.schedule(TYPE, "42", Instant.now());
+
+        verify(handler, timeout(3000)).handle("42");
+        // 클레임 + 재시도 (인자 3개짜리 스크립트 두 번), 완료 스크립트는 호출하지 않는다
+        verify(redisTemplate, timeout(1000).times(2)).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of(DUE_KEY)),
+                eq(TYPE + ":42"), anyString(), anyString());
+        verify(redisTemplate, never()).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of(DUE_KEY)),
+                eq(TYPE + ":42"), anyString());
+    }
+
+    @Test
+    void Redis_저장에_실패하면_휠에도_올리지_않는다() {
+        when(zSetOperations.add(anyString(), anyString(), anyDouble())).thenThrow(new RuntimeException("redis down"));
+
+        scheduler.schedule(TYPE, "1", Instant.now().plusSeconds(5));
+
+        assertThat(scheduledInWheel()).isZero();
+        verify(handler, times(0)).handle(any());
+    }
+
+    private void givenClaimResult(long result) {
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of(DUE_KEY)),
+                anyString(), anyString(), anyString())).thenReturn(result);
+    }
+
+    private double scheduledInWheel() {
+        return meterRegistry.get("localy.timer.scheduled").gauge().value();
+    }
+}
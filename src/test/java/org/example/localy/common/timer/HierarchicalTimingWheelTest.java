@@ -0,0 +1,107 @@
+package org.example.localy.common.timer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK_MS = 1000;
+    private static final int WHEEL_SIZE = 60;
+
+    private final HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK_MS, WHEEL_SIZE, 0);
+
+    @Test
+    void 처리_시각이_된_항목만_돌려준다() {
+        wheel.schedule("a", 3_000);
+        wheel.schedule("b", 5_000);
+
+        assertThat(wheel.advance(2_000)).isEmpty();
+        assertThat(wheel.advance(3_000)).containsExactly(new HierarchicalTimingWheel.Expired("a", 3_000));
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(5_500)).containsExactly(new HierarchicalTimingWheel.Expired("b", 5_000));
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void 아래_휠_범위를_넘는_항목은_상위_휠에서_내려와_제시각에_만료된다() {
+        // 아래 휠 한 바퀴(60초)를 넘는 2분 5초 뒤, 1시간 1초 뒤 (상위 휠 두 단계)
+        wheel.schedule("overflow", 125_000);
+        wheel.schedule("overflow2", 3_601_000);
+
+        // 상위 휠 슬롯 시각(120초)에는 아래 휠로 내려가기만 하고 아직 만료되지 않는다
+        assertThat(wheel.advance(120_000)).isEmpty();
+        assertThat(wheel.dueAtOf("overflow")).isEqualTo(125_000L);
+        assertThat(wheel.advance(124_000)).isEmpty();
+        assertThat(wheel.advance(125_000)).extracting(HierarchicalTimingWheel.Expired::id).containsExactly("overflow");
+
+        assertThat(wheel.advance(3_600_000)).isEmpty();
+        assertThat(wheel.advance(3_601_000)).extracting(HierarchicalTimingWheel.Expired::id).containsExactly("overflow2");
+    }
+
+    @Test
+    void 틱마다_진행하면_모든_항목이_처리_시각_이후_한_틱_안에_만료된다() {
+        long[] dueTimes = {1_500, 59_999, 60_000, 61_234, 119_999, 3_599_000, 3_600_000, 7_250_500};
+        for (int i = 0; i < dueTimes.length; i++) {
+            wheel.schedule("task-" + i, dueTimes[i]);
+        }
+
+        for (long now = TICK_MS; now <= 7_300_000; now += TICK_MS) {
+            for (HierarchicalTimingWheel.Expired expired : wheel.advance(now)) {
+                assertThat(now).isGreaterThanOrEqualTo(expired.dueAtMs() - TICK_MS);
+                assertThat(now).isLessThan(expired.dueAtMs() + TICK_MS);
+            }
+        }
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void 취소한_항목은_만료되지_않는다() {
+        wheel.schedule("near", 2_000);
+        wheel.schedule("far", 200_000);
+
+        assertThat(wheel.cancel("near")).isTrue();
+        assertThat(wheel.cancel("far")).isTrue();
+        assertThat(wheel.cancel("far")).isFalse();
+
+        assertThat(wheel.advance(300_000)).isEmpty();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void 같은_id를_다시_예약하면_새_시각으로_바뀐다() {
+        wheel.schedule("a", 2_000);
+        wheel.schedule("a", 90_000);
+
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(10_000)).isEmpty();
+        assertThat(wheel.advance(90_000)).containsExactly(new HierarchicalTimingWheel.Expired("a", 90_000));
+    }
+
+    @Test
+    void 이미_지난_시각으로_예약하면_다음_진행에서_바로_만료된다() {
+        wheel.advance(10_000);
+        wheel.schedule("late", 5_000);
+
+        assertThat(wheel.advance(10_000)).containsExactly(new HierarchicalTimingWheel.Expired("late", 5_000));
+    }
+
+    @Test
+    void 오래_멈췄다가_진행하면_지난_항목을_모두_한_번에_돌려준다() {
+        wheel.schedule("a", 2_000);
+        wheel.schedule("b", 59_000);
+        wheel.schedule("c", 150_000);
+        wheel.schedule("d", 4_000_000);
+        wheel.schedule("future", 10_000_000);
+
+        // GC 멈춤 등으로 여러 바퀴를 건너뛴 경우
+        List<HierarchicalTimingWheel.Expired> expired = wheel.advance(5_000_000);
+
+        assertThat(expired).extracting(HierarchicalTimingWheel.Expired::id).containsExactlyInAnyOrder("a", "b", "c", "d");
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(9_999_000)).isEmpty();
+        assertThat(wheel.advance(10_000_000)).extracting(HierarchicalTimingWheel.Expired::id).containsExactly("future");
+    }
+}
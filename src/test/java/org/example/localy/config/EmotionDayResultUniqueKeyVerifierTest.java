@@ -0,0 +1,52 @@
+package org.example.localy.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmotionDayResultUniqueKeyVerifierTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private EmotionDayResultUniqueKeyVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        verifier = new EmotionDayResultUniqueKeyVerifier(jdbcTemplate);
+    }
+
+    @Test
+    void 키가_없어도_테이블을_바꾸지_않는다() {
+        givenIndexCount(0);
+
+        verifier.run();
+
+        verify(jdbcTemplate, never()).update(anyString());
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void 확인이_실패해도_기동을_막지_않는다() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(EmotionDayResultUniqueKeyVerifier.INDEX_NAME)))
+                .thenThrow(new RuntimeException("db down"));
+
+        assertThatCode(() -> verifier.run()).doesNotThrowAnyException();
+    }
+
+    private void givenIndexCount(int count) {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(EmotionDayResultUniqueKeyVerifier.INDEX_NAME)))
+                .thenReturn(count);
+    }
+}
@@ -0,0 +1,168 @@
+package org.example.localy.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmotionAggregateServiceTest {
+
+    private static final String SINCE_KEY = "localy:emotion:agg:since";
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 19);
+    private static final String DIRTY_KEY = "localy:emotion:agg:dirty:" + TODAY;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    private EmotionAggregateService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new EmotionAggregateService(redisTemplate);
+    }
+
+    @Test
+    void 하루_전체를_집계하기_전이면_사용자_목록을_쓰지_않는다() {
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.members("localy:emotion:agg:users:" + TODAY)).thenReturn(Set.of("1", "2"));
+
+        // 배포 전 (집계를 한 번도 기록하지 않음)
+        givenSinceAndDirty(null, null);
+        assertThat(service.usersOf(TODAY)).isEmpty();
+
+        // 오늘 낮에 집계를 시작함
+        givenSinceAndDirty(TODAY.atTime(13, 0), null);
+        assertThat(service.usersOf(TODAY)).isEmpty();
+
+        // 어제부터 집계함
+        givenSinceAndDirty(TODAY.minusDays(1).atTime(13, 0), null);
+        assertThat(service.usersOf(TODAY)).contains(Set.of(1L, 2L));
+    }
+
+    @Test
+    void 누적에_실패한_메시지가_있는_날은_사용자_목록을_쓰지_않는다() {
+        givenSinceAndDirty(TODAY.minusDays(1).atTime(13, 0), "1");
+
+        assertThat(service.usersOf(TODAY)).isEmpty();
+    }
+
+    @Test
+    void 누적에_실패하면_그날을_누락으로_표시한다() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(), any(), any(), any(), any()))
+                .thenThrow(new RuntimeException("redis timeout"));
+
+        service.record(1L, TODAY.atTime(15, 0), 40);
+
+        verify(valueOperations).set(eq(DIRTY_KEY), eq("1"), any(Duration.class));
+    }
+
+    @Test
+    void 누락_표시도_실패하면_이_인스턴스가_기억했다가_다음_누적_때_다시_표시한다() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(), any(), any(), any(), any()))
+                .thenThrow(new RuntimeException("redis down"))
+                .thenReturn(1L);
+        doThrow(new RuntimeException("redis down")).doNothing()
+                .when(valueOperations).set(eq(DIRTY_KEY), eq("1"), any(Duration.class));
+
+        service.record(1L, TODAY.atTime(15, 0), 40);
+        // 표시하지 못한 동안에는 Redis를 읽지 않고 DB로 계산하게 한다
+        assertThat(service.usersOf(TODAY)).isEmpty();
+        verify(valueOperations, never()).multiGet(anyList());
+
+        service.record(1L, TODAY.atTime(15, 1), 40);
+        verify(valueOperations, times(2)).set(eq(DIRTY_KEY), eq("1"), any(Duration.class));
+    }
+
+    @Test
+    void 분_버킷마다_경과_분으로_가중치를_준다() {
+        givenMinuteHashes();
+        when(hashOperations.entries(hourKey(TODAY.atTime(14, 0)))).thenReturn(Map.of(
+                "c:0", "1", "s:0", "40",     // 60분 전 → 가중치 0
+                "c:30", "1", "s:30", "80",   // 30분 전 → 30
+                "c:50", "1", "s:50", "20")); // 10분 전 → 50
+
+        OptionalDouble average = service.weightedAverage(1L, TODAY.atTime(15, 0, 0, 500_000_000));
+
+        assertThat(average).isPresent();
+        assertThat(average.getAsDouble()).isCloseTo((30 * 80 + 50 * 20) / 80.0, within(1e-9));
+    }
+
+    @Test
+    void 스케줄러가_늦게_돌면_두_시간_해시에서_윈도우_안의_분만_읽는다() {
+        givenMinuteHashes();
+        when(hashOperations.entries(hourKey(TODAY.atTime(14, 0)))).thenReturn(Map.of(
+                "c:0", "1", "s:0", "100",    // 15:07 기준 윈도우(14:07~) 밖
+                "c:30", "1", "s:30", "80")); // 37분 전 → 23
+        when(hashOperations.entries(hourKey(TODAY.atTime(15, 0)))).thenReturn(Map.of(
+                "c:5", "1", "s:5", "20"));   // 2분 전 → 58
+
+        OptionalDouble average = service.weightedAverage(1L, TODAY.atTime(15, 7));
+
+        assertThat(average.getAsDouble()).isCloseTo((23 * 80 + 58 * 20) / 81.0, within(1e-9));
+    }
+
+    @Test
+    void 윈도우에_메시지가_없으면_empty() {
+        givenMinuteHashes();
+        assertThat(service.weightedAverage(1L, TODAY.atTime(15, 0))).isEmpty();
+    }
+
+    private void givenSinceAndDirty(LocalDateTime since, String dirty) {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(List.of(SINCE_KEY, DIRTY_KEY)))
+                .thenReturn(Arrays.asList(since != null ? String.valueOf(epochMillis(since)) : null, dirty));
+    }
+
+    // 따로 주지 않은 시간 해시는 비어 있다
+    private void givenMinuteHashes() {
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(anyString())).thenReturn(Map.of());
+    }
+
+    private static String hourKey(LocalDateTime hourStart) {
+        return "localy:emotion:agg:minute:1:" + hourStart.format(DateTimeFormatter.ofPattern("yyyyMMddHH"));
+    }
+
+    private static long epochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.localy.service;
+
+import org.example.localy.entity.EmotionWindowResult;
+import org.example.localy.repository.EmotionWindowResultRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmotionWindowServiceTest {
+
+    private static final String KEY = "localy:emotion:freq:1";
+
+    @Mock
+    private EmotionWindowResultRepository repository;
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private EmotionWindowService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new EmotionWindowService(repository, redisTemplate);
+    }
+
+    @Test
+    void 쌓아_둔_개수에서_최빈_구간과_그_구간의_최빈_감정을_고른다() {
+        givenCached(Map.of(
+                "upto", "10",
+                "s:3", "5", "e:3:기쁨", "3", "e:3:설렘", "2",
+                "s:4", "2", "e:4:평온", "2"));
+
+        Map<String, Object> result = service.analyzeUserEmotion(1L);
+
+        assertThat(result).containsEntry("mostFrequentSection", 3).containsEntry("mostFrequentEmotion", "기쁨");
+        verify(repository, never()).countSectionEmotionsByUser(anyLong());
+    }
+
+    @Test
+    void 해시가_없으면_DB에서_센_결과의_마지막_id를_upto로_채운다() {
+        givenCached(Map.of());
+        when(repository.countSectionEmotionsByUser(1L)).thenReturn(List.<Object[]>of(
+                new Object[]{2, "우울", 4L, 10L},
+                new Object[]{2, "지침", 1L, 7L}));
+
+        Map<String, Object> result = service.analyzeUserEmotion(1L);
+
+        assertThat(result).containsEntry("mostFrequentSection", 2).containsEntry("mostFrequentEmotion", "우울");
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of(KEY)), args.capture());
+        List<Object> fields = Arrays.asList(args.getValue());
+        assertThat(fields.get(fields.indexOf("upto") + 1)).isEqualTo("10");
+        assertThat(fields.get(fields.indexOf("s:2") + 1)).isEqualTo("5");
+    }
+
+    @Test
+    void 기록이_없으면_최빈값은_null() {
+        givenCached(Map.of());
+        when(repository.countSectionEmotionsByUser(1L)).thenReturn(List.of());
+
+        Map<String, Object> result = service.analyzeUserEmotion(1L);
+
+        assertThat(result).containsEntry("mostFrequentSection", null).containsEntry("mostFrequentEmotion", null);
+    }
+
+    @Test
+    void Redis를_읽지_못하면_DB_집계를_쓰고_채우지_않는다() {
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(KEY)).thenThrow(new RuntimeException("redis down"));
+        when(repository.countSectionEmotionsByUser(1L)).thenReturn(List.<Object[]>of(new Object[]{1, "평온", 2L, 3L}));
+
+        Map<String, Object> result = service.analyzeUserEmotion(1L);
+
+        assertThat(result).containsEntry("mostFrequentSection", 1).containsEntry("mostFrequentEmotion", "평온");
+        verify(redisTemplate, never()).execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(Object[].class));
+    }
+
+    @Test
+    void 누적에_실패하면_틀린_값이_남지_않도록_해시를_지운다() {
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(), any(), any(), any()))
+                .thenThrow(new RuntimeException("redis down"));
+
+        service.record(EmotionWindowResult.builder().id(11L).userId(1L).section(3).emotion("기쁨").build());
+
+        verify(redisTemplate).delete(KEY);
+    }
+
+    private void givenCached(Map<Object, Object> entries) {
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(KEY)).thenReturn(entries);
+    }
+}
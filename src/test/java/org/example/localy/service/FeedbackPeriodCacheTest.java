@@ -0,0 +1,96 @@
+package org.example.localy.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FeedbackPeriodCacheTest {
+
+    private static final String KEY = "localy:feedback:1";
+    private static final TypeReference<List<Integer>> TYPE = new TypeReference<>() {};
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private FeedbackPeriodCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        cache = new FeedbackPeriodCache(redisTemplate, new ObjectMapper());
+    }
+
+    @Test
+    void 끝나지_않은_기간은_캐시하지_않는다() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+
+        List<Integer> value = cache.get(1L, "day:" + yesterday, yesterday, TYPE, load(List.of(50)), List::isEmpty);
+
+        assertThat(value).containsExactly(50);
+        verify(hashOperations, never()).get(anyString(), any());
+        verify(hashOperations, never()).put(anyString(), any(), any());
+    }
+
+    @Test
+    void 끝난_기간은_저장된_응답을_그대로_돌려준다() {
+        LocalDate date = LocalDate.now().minusDays(3);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.get(KEY, "day:" + date)).thenReturn("[40,60]");
+
+        List<Integer> value = cache.get(1L, "day:" + date, date, TYPE, load(List.of(50)), List::isEmpty);
+
+        assertThat(value).containsExactly(40, 60);
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void 끝난_기간을_처음_조회하면_계산해_저장한다() {
+        LocalDate date = LocalDate.now().minusDays(3);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+
+        List<Integer> value = cache.get(1L, "day:" + date, date, TYPE, load(List.of(50)), List::isEmpty);
+
+        assertThat(value).containsExactly(50);
+        verify(hashOperations).put(KEY, "day:" + date, "[50]");
+    }
+
+    @Test
+    void 비어_있는_결과는_저장하지_않아_다음_조회_때_다시_계산한다() {
+        LocalDate date = LocalDate.now().minusDays(3);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+
+        cache.get(1L, "day:" + date, date, TYPE, load(List.of()), List::isEmpty);
+        cache.get(1L, "day:" + date, date, TYPE, load(List.of()), List::isEmpty);
+
+        assertThat(loads).hasValue(2);
+        verify(hashOperations, never()).put(anyString(), any(), any());
+    }
+
+    private Supplier<List<Integer>> load(List<Integer> value) {
+        return () -> {
+            loads.incrementAndGet();
+            return value;
+        };
+    }
+}
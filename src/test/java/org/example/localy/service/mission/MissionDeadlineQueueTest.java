@@ -0,0 +1,188 @@
+package org.example.localy.service.mission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.localy.entity.Notification;
+import org.example.localy.entity.place.Mission;
+import org.example.localy.event.HomeDataChangedEvent;
+import org.example.localy.repository.place.MissionRepository;
+import org.example.localy.service.NotificationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MissionDeadlineQueueTest {
+
+    private static final String REMINDER_KEY = "localy:mission:deadline:reminder";
+    private static final String EXPIRY_KEY = "localy:mission:deadline:expiry";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+    @Mock
+    private MissionRepository missionRepository;
+    @Mock
+    private NotificationService notificationService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MissionDeadlineQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new MissionDeadlineQueue(redisTemplate, missionRepository, notificationService, eventPublisher,
+                transactionManager, new SimpleMeterRegistry());
+        queue.init();
+    }
+
+    @Test
+    void 꺼낼_때_지우지_않고_가시성_제한_시각으로_옮긴다() {
+        givenBootstrapped();
+        long before = System.currentTimeMillis();
+
+        queue.processDue();
+
+        ArgumentCaptor<Object> leaseUntil = ArgumentCaptor.forClass(Object.class);
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<List>>any(), eq(List.of(REMINDER_KEY)),
+                anyString(), eq("100"), leaseUntil.capture());
+        assertThat(Long.parseLong(leaseUntil.getValue().toString())).isGreaterThanOrEqualTo(before + 5 * 60 * 1000);
+    }
+
+    @Test
+    void 알림_대상_조회가_실패하면_꺼낸_항목을_모두_재시도_시각으로_옮긴다() {
+        givenDue(REMINDER_KEY, List.of("1", "2"));
+        when(missionRepository.findAllById(anyList())).thenThrow(new RuntimeException("db down"));
+
+        assertThat(queue.processDue()).isEqualTo(2);
+
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of(REMINDER_KEY)),
+                anyString(), anyString(), eq("1"), eq("2"));
+    }
+
+    @Test
+    void 완료했거나_이미_만료된_미션에는_알림을_보내지_않고_큐에서_지운다() {
+        givenDue(REMINDER_KEY, List.of("1", "2"));
+        Mission completed = Mission.builder().id(1L).isCompleted(true).expiresAt(LocalDateTime.now().plusHours(1)).build();
+        Mission expired = Mission.builder().id(2L).isCompleted(false).expiresAt(LocalDateTime.now().minusMinutes(1)).build();
+        when(missionRepository.findAllById(anyList())).thenReturn(List.of(completed, expired));
+
+        queue.processDue();
+
+        verify(notificationService, never()).createGeneralNotice(any(), any());
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of(REMINDER_KEY)),
+                anyString(), eq("1"), eq("2"));
+    }
+
+    @Test
+    void 알림_발송이_실패한_미션만_재시도_시각으로_옮긴다() {
+        givenDue(REMINDER_KEY, List.of("1", "2"));
+        Mission first = Mission.builder().id(1L).isCompleted(false).expiresAt(LocalDateTime.now().plusHours(1)).build();
+        Mission second = Mission.builder().id(2L).isCompleted(false).expiresAt(LocalDateTime.now().plusHours(1)).build();
+        when(missionRepository.findAllById(anyList())).thenReturn(List.of(first, second));
+        doAnswer(invocation -> {
+            if (Long.valueOf(2L).equals(invocation.getArgument(1))) {
+                throw new RuntimeException("db down");
+            }
+            return null;
+        }).when(notificationService).createGeneralNotice(eq(Notification.GeneralNoticeType.MISSIONTIME), any());
+
+        queue.processDue();
+
+        // 완료 표시는 (가시성 제한 시각, id...), 재시도는 (가시성 제한 시각, 재시도 시각, id...)
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of(REMINDER_KEY)),
+                anyString(), eq("1"));
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of(REMINDER_KEY)),
+                anyString(), anyString(), eq("2"));
+    }
+
+    @Test
+    void 만료_삭제가_실패하면_재시도_시각으로_옮기고_이벤트를_발행하지_않는다() {
+        givenDue(EXPIRY_KEY, List.of("3"));
+        when(missionRepository.findUserIdsByIdIn(anyList())).thenReturn(List.of(10L));
+        when(missionRepository.deleteExpiredByIdIn(anyList(), any())).thenThrow(new RuntimeException("db down"));
+
+        queue.processDue();
+
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of(EXPIRY_KEY)),
+                anyString(), anyString(), eq("3"));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void 만료되면_홈_캐시만_비운다() {
+        givenDue(EXPIRY_KEY, List.of("3"));
+        when(missionRepository.findUserIdsByIdIn(anyList())).thenReturn(List.of(10L));
+        when(missionRepository.deleteExpiredByIdIn(anyList(), any())).thenReturn(1);
+
+        queue.processDue();
+
+        verify(eventPublisher).publishEvent(ArgumentMatchers.<Object>argThat(event ->
+                event instanceof HomeDataChangedEvent changed
+                        && changed.getUserId() == 10L
+                        && changed.getReason() == HomeDataChangedEvent.Reason.MISSION));
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of(EXPIRY_KEY)),
+                anyString(), eq("3"));
+    }
+
+    @Test
+    void 완료_처리가_커밋된_뒤에_알림_예약을_취소한다() {
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            queue.cancelReminderAfterCommit(1L);
+            verify(zSetOperations, never()).remove(anyString(), any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(zSetOperations).remove(REMINDER_KEY, "1");
+    }
+
+    private void givenBootstrapped() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        // 이미 초기 적재를 마친 상태
+        when(valueOperations.setIfAbsent(anyString(), anyString())).thenReturn(false);
+    }
+
+    private void givenDue(String key, List<Object> ids) {
+        givenBootstrapped();
+        // 꺼내기(결과가 List인 스크립트)만 응답하고, 완료 표시/재시도 스크립트는 검증으로 확인한다
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Object>>any(), anyList(), any(Object[].class)))
+                .thenAnswer(invocation -> {
+                    RedisScript<?> script = invocation.getArgument(0);
+                    return script.getResultType() == List.class && List.of(key).equals(invocation.getArgument(1)) ? ids : null;
+                });
+    }
+}
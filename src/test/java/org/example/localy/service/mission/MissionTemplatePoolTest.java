@@ -0,0 +1,189 @@
+package org.example.localy.service.mission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.localy.common.concurrency.JobFenceGuard;
+import org.example.localy.common.concurrency.LockLostException;
+import org.example.localy.common.concurrency.RedisJobLock;
+import org.example.localy.entity.place.MissionTemplate;
+import org.example.localy.entity.place.Place;
+import org.example.localy.repository.place.MissionTemplateRepository;
+import org.example.localy.repository.place.PlaceRepository;
+import org.example.localy.service.Chat.GPTService;
+import org.example.localy.service.place.EmotionDataService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MissionTemplatePoolTest {
+
+    private static final String CATEGORY = "카페";
+
+    @Mock
+    private MissionTemplateRepository missionTemplateRepository;
+    @Mock
+    private PlaceRepository placeRepository;
+    @Mock
+    private GPTService gptService;
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private SetOperations<String, String> setOperations;
+    @Mock
+    private RedisJobLock redisJobLock;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private JobFenceGuard jobFenceGuard;
+
+    private MissionTemplatePool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new MissionTemplatePool(missionTemplateRepository, placeRepository, gptService, redisTemplate, redisJobLock,
+                new SimpleMeterRegistry(), transactionManager, jobFenceGuard);
+        pool.registerMetrics();
+    }
+
+    @Test
+    void 장소_자리표시자가_없는_응답은_저장하지_않는다() {
+        givenCategories();
+        when(missionTemplateRepository.countByBucket()).thenReturn(List.of());
+        when(gptService.createMissionTemplate(anyString(), anyString()))
+                .thenReturn(new GPTService.MissionCreationResult("한강공원 산책", "한강공원에서 30분 걸어 보세요"));
+
+        assertThat(pool.replenish()).isZero();
+
+        verify(missionTemplateRepository, never()).save(any());
+    }
+
+    @Test
+    void GPT_응답을_기다리는_사이_잠금을_잃으면_저장하지_않고_중단한다() {
+        givenCategories();
+        when(missionTemplateRepository.countByBucket()).thenReturn(List.of());
+        when(gptService.createMissionTemplate(anyString(), anyString()))
+                .thenReturn(new GPTService.MissionCreationResult("{place} 산책", "{place}에서 30분 걸어 보세요"));
+        doThrow(new LockLostException("mission-template-replenish")).when(redisJobLock).checkHeld();
+
+        assertThatThrownBy(() -> pool.replenish()).isInstanceOf(LockLostException.class);
+
+        verify(gptService, times(1)).createMissionTemplate(anyString(), anyString());
+        verify(missionTemplateRepository, never()).save(any());
+    }
+
+    @Test
+    void 잠금을_이어받은_인스턴스가_먼저_썼으면_저장을_롤백하고_중단한다() {
+        givenCategories();
+        when(missionTemplateRepository.countByBucket()).thenReturn(List.of());
+        when(gptService.createMissionTemplate(anyString(), anyString()))
+                .thenReturn(new GPTService.MissionCreationResult("{place} 산책", "{place}에서 30분 걸어 보세요"));
+        doThrow(new LockLostException("mission-template-replenish")).when(jobFenceGuard).advance();
+
+        assertThatThrownBy(() -> pool.replenish()).isInstanceOf(LockLostException.class);
+
+        verify(missionTemplateRepository, never()).save(any());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void 자리표시자가_있으면_부족한_버킷을_채운다() {
+        givenCategories();
+        when(missionTemplateRepository.countByBucket()).thenReturn(List.of());
+        when(gptService.createMissionTemplate(anyString(), anyString()))
+                .thenReturn(new GPTService.MissionCreationResult("{place}에서 한 잔", "{place}에서 좋아하는 음료를 마셔 보세요"));
+
+        // 회당 GPT 호출 상한까지만 채운다
+        assertThat(pool.replenish()).isEqualTo(24);
+        verify(jobFenceGuard, times(24)).advance();
+        verify(missionTemplateRepository, times(24)).save(any());
+        verify(missionTemplateRepository, never()).delete(any());
+    }
+
+    @Test
+    void 가득_찬_버킷의_오래된_템플릿은_회당_제한_안에서_하나씩_교체한다() {
+        givenCategories();
+        when(missionTemplateRepository.countByBucket()).thenReturn(fullBuckets(LocalDateTime.now().minusDays(31)));
+        when(gptService.createMissionTemplate(anyString(), anyString()))
+                .thenReturn(new GPTService.MissionCreationResult("{place}에서 한 잔", "{place}에서 좋아하는 음료를 마셔 보세요"));
+        MissionTemplate oldest = MissionTemplate.builder().id(1L).category(CATEGORY).build();
+        when(missionTemplateRepository.findFirstByCategoryAndEmotionAndPremiumOrderByCreatedAtAscIdAsc(anyString(), anyString(), anyBoolean()))
+                .thenReturn(Optional.of(oldest));
+
+        assertThat(pool.replenish()).isEqualTo(4);
+
+        verify(missionTemplateRepository, times(4)).save(any());
+        verify(missionTemplateRepository, times(4)).delete(oldest);
+    }
+
+    @Test
+    void 교체할_템플릿_생성이_실패하면_기존_템플릿을_지우지_않는다() {
+        givenCategories();
+        when(missionTemplateRepository.countByBucket()).thenReturn(fullBuckets(LocalDateTime.now().minusDays(31)));
+        when(gptService.createMissionTemplate(anyString(), anyString())).thenThrow(new RuntimeException("rate limited"));
+        when(missionTemplateRepository.findFirstByCategoryAndEmotionAndPremiumOrderByCreatedAtAscIdAsc(anyString(), anyString(), anyBoolean()))
+                .thenReturn(Optional.of(MissionTemplate.builder().id(1L).build()));
+
+        assertThat(pool.replenish()).isZero();
+
+        verify(missionTemplateRepository, never()).delete(any());
+    }
+
+    @Test
+    void 가득_찬_버킷의_템플릿이_아직_새것이면_GPT를_부르지_않는다() {
+        givenCategories();
+        when(missionTemplateRepository.countByBucket()).thenReturn(fullBuckets(LocalDateTime.now().minusDays(1)));
+
+        assertThat(pool.replenish()).isZero();
+
+        verify(gptService, never()).createMissionTemplate(anyString(), anyString());
+    }
+
+    @Test
+    void 템플릿에_장소_이름을_채워_준다() {
+        when(missionTemplateRepository.findByCategoryAndEmotionAndPremium(CATEGORY, "happy", false))
+                .thenReturn(List.of(MissionTemplate.builder().title("{place} 방문").description("{place}에서 사진 찍기").build()));
+        Place place = Place.builder().title("스타벅스 광화문점").category(CATEGORY).build();
+
+        Optional<GPTService.MissionCreationResult> result = pool.draw(place, "happy", false);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getTitle()).isEqualTo("스타벅스 광화문점 방문");
+        assertThat(result.get().getDescription()).isEqualTo("스타벅스 광화문점에서 사진 찍기");
+    }
+
+    // 보충 주기가 훑는 장소 카테고리
+    private void givenCategories() {
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(placeRepository.findDistinctCategories()).thenReturn(List.of(CATEGORY));
+    }
+
+    private List<Object[]> fullBuckets(LocalDateTime oldestCreatedAt) {
+        List<Object[]> rows = new ArrayList<>();
+        for (String emotion : EmotionDataService.dominantEmotionKeywords()) {
+            rows.add(new Object[]{CATEGORY, emotion, false, 8L, oldestCreatedAt});
+            rows.add(new Object[]{CATEGORY, emotion, true, 8L, oldestCreatedAt});
+        }
+        return rows;
+    }
+}
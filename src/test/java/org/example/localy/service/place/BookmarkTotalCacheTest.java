@@ -0,0 +1,118 @@
+package org.example.localy.service.place;
+
+import org.example.localy.entity.Users;
+import org.example.localy.repository.place.BookmarkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookmarkTotalCacheTest {
+
+    private static final List<String> KEYS = List.of("localy:bookmark:total:1", "localy:bookmark:total:version:1");
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private BookmarkRepository bookmarkRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BookmarkTotalCache cache;
+    private Users user;
+
+    @BeforeEach
+    void setUp() {
+        cache = new BookmarkTotalCache(redisTemplate, bookmarkRepository, transactionManager);
+        cache.init();
+        user = Users.builder().id(1L).build();
+    }
+
+    @Test
+    void 캐시가_있으면_DB에서_세지_않는다() {
+        givenCached("7", "3");
+
+        assertThat(cache.get(user)).isEqualTo(7L);
+        verify(bookmarkRepository, never()).countByUser(any());
+    }
+
+    @Test
+    void 캐시가_없으면_세기_전에_읽은_버전으로_채운다() {
+        givenCached(null, "3");
+        when(bookmarkRepository.countByUser(user)).thenReturn(4L);
+
+        assertThat(cache.get(user)).isEqualTo(4L);
+
+        // 버전을 읽은 뒤 새 트랜잭션에서 센다
+        InOrder order = inOrder(valueOperations, transactionManager, bookmarkRepository, redisTemplate);
+        order.verify(valueOperations).multiGet(KEYS);
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(bookmarkRepository).countByUser(user);
+        order.verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(KEYS), eq("3"), eq("4"), anyString());
+    }
+
+    @Test
+    void 토글이_한_번도_없었으면_버전_0으로_채운다() {
+        givenCached(null, null);
+        when(bookmarkRepository.countByUser(user)).thenReturn(4L);
+
+        cache.get(user);
+
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(KEYS), eq("0"), eq("4"), anyString());
+    }
+
+    @Test
+    void Redis가_실패하면_DB_값을_돌려주고_채우지_않는다() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(KEYS)).thenThrow(new RuntimeException("redis down"));
+        when(bookmarkRepository.countByUser(user)).thenReturn(4L);
+
+        assertThat(cache.get(user)).isEqualTo(4L);
+        verify(redisTemplate, never()).execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(), any(), any());
+    }
+
+    @Test
+    void 증감할_때_버전도_올린다() {
+        cache.applyAfterCommit(1L, 1);
+
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(KEYS), eq("1"), anyString());
+    }
+
+    @Test
+    void 증감에_실패하면_캐시를_지워_다음_조회에서_다시_센다() {
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(KEYS), eq("1"), anyString()))
+                .thenThrow(new RuntimeException("redis down"));
+
+        cache.applyAfterCommit(1L, 1);
+
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(KEYS), anyString());
+    }
+
+    private void givenCached(String total, String version) {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(KEYS)).thenReturn(Arrays.asList(total, version));
+    }
+}
@@ -0,0 +1,142 @@
+package org.example.localy.service.place;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.localy.dto.place.HomeSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HomeResponseCacheTest {
+
+    private static final long USER_ID = 7L;
+    private static final String VERSION_KEY = "localy:home:response:version:" + USER_ID;
+    private static final double LAT = 37.5665;
+    private static final double LON = 126.9780;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private HomeResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new HomeResponseCache(redisTemplate, new ObjectMapper(), listenerContainer);
+    }
+
+    @Test
+    void 버전_키가_없으면_0부터_시작한다() {
+        givenValueOperations();
+        assertThat(cache.currentVersion(USER_ID)).isZero();
+
+        when(valueOperations.get(VERSION_KEY)).thenReturn("3");
+        assertThat(cache.currentVersion(USER_ID)).isEqualTo(3L);
+    }
+
+    @Test
+    void 버전이_그대로면_저장하고_L1에서_읽는다() {
+        givenValueOperations();
+        when(valueOperations.get(VERSION_KEY)).thenReturn("3");
+        givenPutScriptReturns(1L);
+
+        cache.put(USER_ID, snapshot(), 3L);
+
+        assertThat(cache.get(USER_ID, LAT, LON)).isNotNull();
+        // L1 적중이라 L2 본문은 읽지 않는다
+        verify(valueOperations, never()).get("localy:home:response:" + USER_ID);
+    }
+
+    @Test
+    void 계산_중_무효화되어_Redis_저장이_거절되면_L1에도_넣지_않는다() {
+        givenValueOperations();
+        givenPutScriptReturns(0L);
+
+        cache.put(USER_ID, snapshot(), 3L);
+
+        assertThat(cache.get(USER_ID, LAT, LON)).isNull();
+    }
+
+    @Test
+    void 저장_직후_무효화가_끼어들면_L1에서_내린다() {
+        givenValueOperations();
+        givenPutScriptReturns(1L);
+        // 저장 스크립트는 통과했지만 L1에 넣은 뒤 다시 읽은 버전은 이미 올라가 있다
+        when(valueOperations.get(VERSION_KEY)).thenReturn("4");
+
+        cache.put(USER_ID, snapshot(), 3L);
+
+        assertThat(cache.get(USER_ID, LAT, LON)).isNull();
+    }
+
+    @Test
+    void 버전을_읽지_못했으면_저장하지_않는다() {
+        cache.put(USER_ID, snapshot(), null);
+
+        verify(redisTemplate, never()).execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(), any(), any());
+    }
+
+    @Test
+    void 무효화하면_L1도_비운다() {
+        givenValueOperations();
+        when(valueOperations.get(VERSION_KEY)).thenReturn("3");
+        givenPutScriptReturns(1L);
+        cache.put(USER_ID, snapshot(), 3L);
+
+        cache.evict(USER_ID);
+
+        assertThat(cache.get(USER_ID, LAT, LON)).isNull();
+        verify(redisTemplate).convertAndSend(eq("localy:home:response:invalidate"), anyString());
+    }
+
+    @Test
+    void 계산한_위치에서_멀리_이동하면_캐시를_쓰지_않는다() {
+        givenValueOperations();
+        when(valueOperations.get(VERSION_KEY)).thenReturn("3");
+        givenPutScriptReturns(1L);
+        cache.put(USER_ID, snapshot(), 3L);
+
+        // 서울시청 → 강남역 (약 8km)
+        assertThat(cache.get(USER_ID, 37.4979, 127.0276)).isNull();
+    }
+
+    private void givenValueOperations() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    private void givenPutScriptReturns(long result) {
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(), any(), any()))
+                .thenReturn(result);
+    }
+
+    private HomeSnapshot snapshot() {
+        return HomeSnapshot.builder()
+                .originLatitude(LAT)
+                .originLongitude(LON)
+                .missionPlaces(List.of())
+                .recommendedPlaces(List.of())
+                .recentBookmarks(List.of())
+                .build();
+    }
+}
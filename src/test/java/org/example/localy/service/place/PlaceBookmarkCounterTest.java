@@ -0,0 +1,195 @@
+package org.example.localy.service.place;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.localy.common.concurrency.JobFenceGuard;
+import org.example.localy.common.concurrency.LockLostException;
+import org.example.localy.common.concurrency.RedisJobLock;
+import org.example.localy.entity.place.Place;
+import org.example.localy.repository.place.PlaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PlaceBookmarkCounterTest {
+
+    private static final String FLUSHING_KEY = "localy:place:bookmark_count:delta:flushing";
+    private static final String EPOCH_KEY = "localy:place:bookmark_count:flush_epoch";
+    private static final String FLUSHING_ID_KEY = "localy:place:bookmark_count:delta:flushing_id";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+    @Mock
+    private PlaceRepository placeRepository;
+    @Mock
+    private RedisJobLock redisJobLock;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private JobFenceGuard jobFenceGuard;
+
+    private PlaceBookmarkCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new PlaceBookmarkCounter(redisTemplate, placeRepository, redisJobLock, new SimpleMeterRegistry(),
+                transactionManager, jobFenceGuard);
+        counter.registerMetrics();
+    }
+
+    @Test
+    void 카운터가_있으면_카운터_값을_읽는다() {
+        Place place = place(1L, 3);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(List.of("localy:place:bookmark_count:1"))).thenReturn(List.of("5"));
+
+        assertThat(counter.get(place)).isEqualTo(5);
+    }
+
+    @Test
+    void 카운터가_없거나_Redis가_실패하면_DB_값을_쓴다() {
+        Place place = place(1L, 3);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        assertThat(counter.get(place)).isEqualTo(3);
+
+        when(valueOperations.multiGet(anyList())).thenThrow(new RuntimeException("redis down"));
+        assertThat(counter.get(place)).isEqualTo(3);
+    }
+
+    @Test
+    void 카운터가_없으면_DB를_읽기_전의_epoch로_초기화를_시도한다() {
+        Place place = place(1L, 3);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        // APPLY 스크립트가 nil(카운터 없음)을 돌려준 경우
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(), any())).thenReturn(null);
+        when(valueOperations.get(EPOCH_KEY)).thenReturn("9");
+        when(placeRepository.findBookmarkCountById(1L)).thenReturn(Optional.of(4));
+
+        counter.applyAfterCommit(place, 1);
+
+        InOrder order = inOrder(valueOperations, placeRepository);
+        order.verify(valueOperations).get(EPOCH_KEY);
+        order.verify(placeRepository).findBookmarkCountById(1L);
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(),
+                eq(List.of("localy:place:bookmark_count:1", "localy:place:bookmark_count:delta", FLUSHING_KEY, EPOCH_KEY)),
+                eq("4"), eq("1"), eq("9"));
+    }
+
+    @Test
+    void 카운터가_있으면_DB를_읽지_않는다() {
+        Place place = place(1L, 3);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(), any())).thenReturn(4L);
+
+        counter.applyAfterCommit(place, 1);
+
+        verify(placeRepository, never()).findBookmarkCountById(any());
+    }
+
+    @Test
+    void 잠금을_잃었으면_DB에_더하지_않고_반영_중_델타를_남긴다() {
+        givenFlushId("flush-1");
+        when(hashOperations.entries(FLUSHING_KEY)).thenReturn(Map.of("1", "2"));
+        doThrow(new LockLostException("bookmark-count-flush")).when(redisJobLock).checkHeld();
+
+        assertThat(counter.flush()).isZero();
+
+        verify(placeRepository, never()).addBookmarkCounts(anyMap());
+        verify(redisTemplate, never()).delete(List.of(FLUSHING_KEY, FLUSHING_ID_KEY));
+    }
+
+    @Test
+    void 잠금을_확인한_뒤_DB에_더하고_반영_중_델타를_지운다() {
+        givenFlushId("flush-1");
+        when(hashOperations.entries(FLUSHING_KEY)).thenReturn(Map.of("1", "2", "2", "0"));
+        when(placeRepository.recordBookmarkFlush("flush-1")).thenReturn(true);
+        when(placeRepository.addBookmarkCounts(Map.of(1L, 2L))).thenReturn(1);
+
+        assertThat(counter.flush()).isEqualTo(1);
+
+        InOrder order = inOrder(redisJobLock, jobFenceGuard, placeRepository, transactionManager, redisTemplate);
+        order.verify(redisJobLock).checkHeld();
+        order.verify(jobFenceGuard).advance();
+        order.verify(placeRepository).recordBookmarkFlush("flush-1");
+        order.verify(placeRepository).addBookmarkCounts(Map.of(1L, 2L));
+        order.verify(transactionManager).commit(any());
+        order.verify(redisTemplate).delete(List.of(FLUSHING_KEY, FLUSHING_ID_KEY));
+    }
+
+    @Test
+    void 잠금을_이어받은_인스턴스가_먼저_반영했으면_롤백하고_반영_중_델타를_남긴다() {
+        givenFlushId("flush-1");
+        when(hashOperations.entries(FLUSHING_KEY)).thenReturn(Map.of("1", "2"));
+        doThrow(new LockLostException("bookmark-count-flush")).when(jobFenceGuard).advance();
+
+        assertThat(counter.flush()).isZero();
+
+        verify(placeRepository, never()).addBookmarkCounts(anyMap());
+        verify(transactionManager).rollback(any());
+        verify(redisTemplate, never()).delete(List.of(FLUSHING_KEY, FLUSHING_ID_KEY));
+    }
+
+    @Test
+    void 이미_반영한_묶음이면_다시_더하지_않고_반영_중_델타만_지운다() {
+        // 지난 주기에 DB 커밋 뒤 반영 중 델타를 지우지 못한 경우
+        givenFlushId("flush-1");
+        when(hashOperations.entries(FLUSHING_KEY)).thenReturn(Map.of("1", "2"));
+        when(placeRepository.recordBookmarkFlush("flush-1")).thenReturn(false);
+
+        assertThat(counter.flush()).isZero();
+
+        verify(placeRepository, never()).addBookmarkCounts(anyMap());
+        verify(redisTemplate).delete(List.of(FLUSHING_KEY, FLUSHING_ID_KEY));
+    }
+
+    @Test
+    void DB_반영이_실패하면_반영_중_델타를_남겨_다음_주기에_재시도한다() {
+        givenFlushId("flush-1");
+        when(hashOperations.entries(FLUSHING_KEY)).thenReturn(Map.of("1", "2"));
+        when(placeRepository.recordBookmarkFlush("flush-1")).thenReturn(true);
+        when(placeRepository.addBookmarkCounts(anyMap())).thenThrow(new RuntimeException("db down"));
+
+        assertThat(counter.flush()).isZero();
+
+        verify(redisTemplate, never()).delete(List.of(FLUSHING_KEY, FLUSHING_ID_KEY));
+    }
+
+    private void givenFlushId(String flushId) {
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<String>>any(),
+                eq(List.of("localy:place:bookmark_count:delta", FLUSHING_KEY, EPOCH_KEY, FLUSHING_ID_KEY)), any()))
+                .thenReturn(flushId);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+    }
+
+    private Place place(Long id, int bookmarkCount) {
+        return Place.builder().id(id).bookmarkCount(bookmarkCount).build();
+    }
+}
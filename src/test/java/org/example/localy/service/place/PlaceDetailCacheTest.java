@@ -0,0 +1,136 @@
+package org.example.localy.service.place;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.localy.dto.place.PlaceDetailSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PlaceDetailCacheTest {
+
+    private static final String CID = "cid-1";
+    private static final String DETAIL_KEY = "localy:place:detail:" + CID;
+    private static final String VERSION_KEY = "localy:place:detail:version:" + CID;
+
+    @Mock
+    private RedisTemplate<String, PlaceDetailSnapshot> placeDetailRedisTemplate;
+    @Mock
+    private ValueOperations<String, PlaceDetailSnapshot> detailOperations;
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private PlaceDetailCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PlaceDetailCache(placeDetailRedisTemplate, redisTemplate, listenerContainer);
+    }
+
+    @Test
+    void 버전이_그대로면_저장하고_L1에서_읽는다() {
+        givenSerializer();
+        givenVersion("3");
+        givenPutScriptReturns(1L);
+
+        cache.put(snapshot(), 3L);
+
+        assertThat(cache.get(CID)).isNotNull();
+        // L1 적중이라 L2는 읽지 않는다
+        verify(placeDetailRedisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    void 계산_중_무효화되어_Redis_저장이_거절되면_L1에도_넣지_않는다() {
+        givenSerializer();
+        givenPutScriptReturns(0L);
+        givenVersion("4");
+        when(placeDetailRedisTemplate.opsForValue()).thenReturn(detailOperations);
+
+        cache.put(snapshot(), 3L);
+
+        assertThat(cache.get(CID)).isNull();
+        verify(detailOperations).get(DETAIL_KEY);
+    }
+
+    @Test
+    void 저장_직후_무효화가_끼어들면_L1에서_내린다() {
+        givenSerializer();
+        givenPutScriptReturns(1L);
+        // 저장 스크립트는 통과했지만 L1에 넣은 뒤 다시 읽은 버전은 이미 올라가 있다
+        givenVersion("4");
+        when(placeDetailRedisTemplate.opsForValue()).thenReturn(detailOperations);
+
+        cache.put(snapshot(), 3L);
+
+        assertThat(cache.get(CID)).isNull();
+    }
+
+    @Test
+    void 버전을_읽지_못했으면_저장하지_않는다() {
+        cache.put(snapshot(), null);
+
+        verify(redisTemplate, never()).execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(), any(), any());
+    }
+
+    @Test
+    void 무효화하면_버전을_올리고_다른_서버의_L1도_비우게_알린다() {
+        cache.evict(List.of(CID, "cid-2"));
+
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(),
+                eq(List.of(DETAIL_KEY, VERSION_KEY, "localy:place:detail:cid-2", "localy:place:detail:version:cid-2")),
+                anyString());
+        verify(redisTemplate).convertAndSend("localy:place:detail:invalidate", CID);
+        verify(redisTemplate).convertAndSend("localy:place:detail:invalidate", "cid-2");
+    }
+
+    private void givenSerializer() {
+        doReturn(new Jackson2JsonRedisSerializer<>(new ObjectMapper(), PlaceDetailSnapshot.class))
+                .when(placeDetailRedisTemplate).getValueSerializer();
+    }
+
+    private void givenVersion(String version) {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(VERSION_KEY)).thenReturn(version);
+    }
+
+    private void givenPutScriptReturns(long result) {
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of(DETAIL_KEY, VERSION_KEY)),
+                eq("3"), anyString(), anyString()))
+                .thenReturn(result);
+    }
+
+    private PlaceDetailSnapshot snapshot() {
+        return PlaceDetailSnapshot.builder()
+                .placeId(1L)
+                .contentId(CID)
+                .title("경복궁")
+                .longDescription("조선 왕조의 법궁")
+                .imageUrls(List.of())
+                .build();
+    }
+}
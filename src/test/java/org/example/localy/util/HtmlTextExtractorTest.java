@@ -0,0 +1,70 @@
+package org.example.localy.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+
+class HtmlTextExtractorTest {
+
+    @Test
+    void 태그가_아닌_부등호는_본문으로_남긴다() {
+        assertThat(HtmlTextExtractor.extract("<p>a < b</p>")).isEqualTo("a < b");
+        assertThat(HtmlTextExtractor.extract("1<2 and 3>2")).isEqualTo("1<2 and 3>2");
+    }
+
+    @Test
+    void 속성_값_안의_닫는_괄호는_무시한다() {
+        assertThat(HtmlTextExtractor.extract("<img alt='it>s'>텍스트")).isEqualTo("텍스트");
+    }
+
+    @Test
+    void 닫히지_않은_따옴표가_있어도_나머지_본문을_버리지_않는다() {
+        assertThat(HtmlTextExtractor.extract("<a href=\"x>링크</a> 본문")).isEqualTo("링크 본문");
+    }
+
+    @Test
+    void script_style_주석은_내용째_건너뛴다() {
+        String html = "<style>p{color:red}</style><script>if (a < b) {}</script>본문<!-- 주석 -->끝";
+
+        assertThat(HtmlTextExtractor.extract(html)).isEqualTo("본문 끝");
+    }
+
+    @Test
+    void 이름_엔티티와_숫자_엔티티를_디코딩한다() {
+        assertThat(HtmlTextExtractor.extract("카페 &amp; 식당 &lt;정보&gt; &#65;&#x42; &middot;"))
+                .isEqualTo("카페 & 식당 <정보> AB ·");
+        assertThat(HtmlTextExtractor.extract("A&nbsp;&nbsp;B")).isEqualTo("A B");
+    }
+
+    @Test
+    void 엔티티가_아닌_앰퍼샌드는_그대로_둔다() {
+        assertThat(HtmlTextExtractor.extract("AT&T; R&D")).isEqualTo("AT&T; R&D");
+        assertThat(HtmlTextExtractor.extract("&unknown; &verylongentityname;"))
+                .isEqualTo("&unknown; &verylongentityname;");
+    }
+
+    @Test
+    void 앰퍼샌드가_많은_본문도_선형_시간에_처리한다() {
+        String html = "R&D ".repeat(256 * 1024);
+
+        assertTimeout(Duration.ofSeconds(1), () -> HtmlTextExtractor.extract(html));
+    }
+
+    @Test
+    void 최대_길이를_넘으면_말줄임표를_붙여_자른다() {
+        assertThat(HtmlTextExtractor.extract("short", 10)).isEqualTo("short");
+        // 자를 위치 가까이에 공백이 있으면 단어 경계에서 자른다
+        assertThat(HtmlTextExtractor.extract("abcdefgh ijklmnop", 10)).isEqualTo("abcdefgh…");
+        assertThat(HtmlTextExtractor.extract("hello world foo bar", 10)).isEqualTo("hello wor…");
+        assertThat(HtmlTextExtractor.extract("가나다라마바사아자차카타파하", 5)).isEqualTo("가나다라…");
+    }
+
+    @Test
+    void null이나_빈_문자열은_빈_문자열() {
+        assertThat(HtmlTextExtractor.extract(null)).isEmpty();
+        assertThat(HtmlTextExtractor.extract("")).isEmpty();
+    }
+}